@@ -4,6 +4,10 @@ import core.*;
 import assets.*;
 import gui.*;
 
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
 
 
 
@@ -18,20 +22,168 @@ public class Main
     /**
      * Main method to initialize the game and start the game engine.
      *
-     * @param args Command-line arguments (not used).
+     * @param args Command-line arguments: `--seed <number>` fixes the seed of the game,
+     *             `--record <file>` records the input and `--replay <file>` plays a
+     *             recording back. `--headless` runs the game without a window or sound and
+     *             as fast as possible, with a scripted input (or the replayed one), for
+     *             `--ticks <number>` ticks.
      */
     public static void main(String[] args)
     {
+        boolean headless = Arrays.asList(args).contains("--headless");
+        if (headless)
+            System.setProperty("java.awt.headless", "true");
+
+        // Initialize the GUI first, so it shows the loading screen while the assets are decoded
+        String replayFile = option(args, "--replay");
+        ReplayInputEvent replay = replayFile == null ? null : new ReplayInputEvent(Path.of(replayFile));
+        IGuiBridge gui = headless ? new HeadlessGui(replay != null ? replay : soakScript())
+                : new SwingGui(GameManager.WINDOW_WIDTH, GameManager.WINDOW_HEIGHT, null);
+        // Decode every image and sound concurrently; stop if a required file is missing
+        try {
+            AssetPreloader.Report report = new AssetPreloader().load(AssetManifest.game(),
+                    (loaded, total, fileName) -> gui.showLoading((double) loaded / total, fileName));
+            System.out.println(report.summary());
+        } catch (IllegalStateException e) {
+            System.err.println("Cannot start the game: " + e.getMessage());
+            System.exit(1);
+        }
         // Background shape
-        Shape backGroundShape = new Shape(ImagesLoader.loadAnimationFrames("background.gif"), 5);
-        // Initialize the GUI with dimensions and background
-        SwingGui gui = new SwingGui(1100, 800, backGroundShape);
+        if (gui instanceof SwingGui swingGui)
+        {
+            Shape backGroundShape = new Shape(ImagesLoader.loadAnimationFrames("background.gif"), 5);
+            swingGui.setBackground(backGroundShape);
+        }
         // Initialize the game manager with the engine and player
         // Create the game manager with the GUI and gameEngine
-        GameManager gameManager = new GameManager(gui);
+        // A fixed seed (--seed <number>) replays the same game for the same input
+        Long seed = replay != null ? Long.valueOf(replay.seed()) : seed(args);
+        // A headless game is silent: its mixer is never started, so no audio line or thread is opened
+        AudioMixer mixer = headless ? new AudioMixer() : AudioMixer.getDefault();
+        GameManager gameManager = new GameManager(gui, seed == null ? new SplittableRandom().nextLong() : seed, mixer);
+        System.out.println("Seed: " + gameManager.getSeed());
+        // Replay a recording, or record the input of this game (--record <file>)
+        String recordFile = option(args, "--record");
+        if (replay != null) {
+            gameManager.setInputEvent(replay);
+        } else if (recordFile != null) {
+            InputRecorder recorder = new InputRecorder(Path.of(recordFile), gameManager.getSeed(),
+                    InputRecorder.GAME_ACTIONS, gui.getInputEvent());
+            gameManager.setInputEvent(recorder);
+            Runtime.getRuntime().addShutdownHook(new Thread(recorder::close, "input-recorder"));
+        }
         // Create the hitbox shape
         gameManager.setHitbox(false);
+        if (headless)
+        {
+            runHeadless(gameManager, ticks(args));
+            return;
+        }
         // start the game engine
         gameManager.startGame();
     }
-}
\ No newline at end of file
+
+    /**
+     * Runs the game without waiting for the clock for a number of ticks, then
+     * prints the throughput and shuts the game down. A headless game starts no
+     * window or audio thread, and the loader threads are daemons, so the JVM
+     * exits when this returns.
+     *
+     * @param gameManager The game to run.
+     * @param ticks       The number of ticks to simulate.
+     */
+    private static void runHeadless(GameManager gameManager, long ticks)
+    {
+        GameEngine engine = gameManager.getEngine();
+        engine.setUncapped(true);
+        engine.getTimerWheel().schedule(ticks, engine::stop);
+
+        long start = System.nanoTime();
+        gameManager.startGame();
+        long elapsed = Math.max(System.nanoTime() - start, 1);
+
+        System.out.printf("Simulated %d ticks in %.1f ms (%.0f ticks/s, %.1fx real time)%n",
+                engine.getTickCount(), elapsed / 1e6, engine.getTickCount() * 1e9 / elapsed,
+                engine.getTickCount() * 1e9 / elapsed / engine.getTickRate());
+        System.out.println(engine.getTimerWheel());
+        gameManager.shutdown();
+    }
+
+    /**
+     * Creates the input of a headless game: selects the first player, then keeps
+     * moving from side to side, shooting and dodging.
+     *
+     * @return The scripted input.
+     */
+    private static ScriptedInputEvent soakScript()
+    {
+        return new ScriptedInputEvent()
+                .hold("PLAYER1", 10, 12)
+                .pulse("ATTACK", 60, 20, 2)
+                .pulse("LEFT", 60, 240, 120)
+                .pulse("RIGHT", 180, 240, 120)
+                .pulse("EVASIVE", 600, 900, 2);
+    }
+
+    /**
+     * Reads the number of ticks of a headless game from the command-line arguments.
+     *
+     * @param args Command-line arguments.
+     * @return The number after `--ticks`, or 36000 (ten minutes of game) if there is none.
+     */
+    private static long ticks(String[] args)
+    {
+        String ticks = option(args, "--ticks");
+        if (ticks == null)
+            return 36000;
+
+        try {
+            long value = Long.parseLong(ticks);
+            if (value > 0)
+                return value;
+        } catch (NumberFormatException e) {
+            // Reported below
+        }
+        System.err.println("Invalid number of ticks: " + ticks);
+        System.exit(1);
+        return 0;
+    }
+
+    /**
+     * Reads the seed of the game from the command-line arguments.
+     *
+     * @param args Command-line arguments.
+     * @return The number after `--seed`, or null if there is none.
+     */
+    private static Long seed(String[] args)
+    {
+        String seed = option(args, "--seed");
+        if (seed == null)
+            return null;
+
+        try {
+            return Long.parseLong(seed);
+        } catch (NumberFormatException e) {
+            System.err.println("Invalid seed: " + seed);
+            System.exit(1);
+            return null;
+        }
+    }
+
+    /**
+     * Reads the value of a command-line option.
+     *
+     * @param args Command-line arguments.
+     * @param name The option, such as `--seed`.
+     * @return The argument after the option, or null if there is none.
+     */
+    private static String option(String[] args, String name)
+    {
+        for (int i = 0; i + 1 < args.length; i++)
+        {
+            if (args[i].equals(name))
+                return args[i + 1];
+        }
+        return null;
+    }
+}
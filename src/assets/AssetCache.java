@@ -0,0 +1,195 @@
+package assets;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Thread-safe cache of decoded assets, keyed by file name, so each file is
+ * loaded once per process and the result is shared by every caller.
+ *
+ * <p>
+ * When several threads ask for the same missing file at the same time, only
+ * one of them loads it and the others wait for its result. Failed loads (a null
+ * result) are not cached, so they are retried on the next request.
+ * </p>
+ *
+ * <p>
+ * Example usage:
+ * </p>
+ *
+ * <pre>
+ * AssetCache&lt;List&lt;BufferedImage&gt;&gt; cache = new AssetCache&lt;&gt;(frames -&gt; 4L * frames.size());
+ * List&lt;BufferedImage&gt; frames = cache.get("player.gif", ImagesLoader::decode);
+ * </pre>
+ *
+ * @preConditions:
+ *                 - The cached values must not be modified by the callers.
+ *                 - The loader must not request other assets from the same
+ *                 cache.
+ *
+ * @postConditions:
+ *                  - Every successful load happens once per key.
+ *                  - Hits, misses and the estimated size of the cached assets
+ *                  are counted.
+ *
+ * @param <V> The type of the cached assets.
+ *
+ * @see ImagesLoader
+ *
+ * @author Brandon Mejia
+ * @version 2025-05-20
+ */
+public class AssetCache<V> {
+
+    /**
+     * Loads an asset that is not cached yet.
+     *
+     * @param <V> The type of the asset.
+     */
+    public interface Loader<V> {
+        /**
+         * Loads an asset.
+         *
+         * @param fileName The file name of the asset.
+         * @return The loaded asset, or null if loading failed.
+         */
+        V load(String fileName);
+    }
+
+    /**
+     * Estimates the memory used by an asset.
+     *
+     * @param <V> The type of the asset.
+     */
+    public interface Weigher<V> {
+        /**
+         * Estimates the memory used by an asset.
+         *
+         * @param value The asset.
+         * @return The size in bytes.
+         */
+        long weigh(V value);
+    }
+
+    private final ConcurrentHashMap<String, CompletableFuture<V>> entries = new ConcurrentHashMap<>();
+    private final Weigher<V> weigher;
+
+    // Statistics
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong bytes = new AtomicLong();
+
+    /**
+     * Creates an empty cache.
+     *
+     * @param weigher Estimates the size of the cached assets.
+     */
+    public AssetCache(Weigher<V> weigher) {
+        if (weigher == null)
+            throw new IllegalArgumentException("AssetCache:iv");
+
+        this.weigher = weigher;
+    }
+
+    /**
+     * Gets an asset, loading it on the first request.
+     *
+     * @param fileName The file name of the asset.
+     * @param loader   Loads the asset if it is not cached.
+     * @return The shared asset, or null if loading failed.
+     */
+    public V get(String fileName, Loader<V> loader) {
+        CompletableFuture<V> entry = this.entries.get(fileName);
+        if (entry != null) {
+            this.hits.incrementAndGet();
+            return entry.join();
+        }
+
+        CompletableFuture<V> created = new CompletableFuture<>();
+        entry = this.entries.putIfAbsent(fileName, created);
+        if (entry != null) { // Another thread is loading it
+            this.hits.incrementAndGet();
+            return entry.join();
+        }
+
+        this.misses.incrementAndGet();
+        V value = null;
+        try {
+            value = loader.load(fileName);
+        } finally {
+            if (value == null)
+                this.entries.remove(fileName, created);
+            else
+                this.bytes.addAndGet(this.weigher.weigh(value));
+            created.complete(value);
+        }
+        return value;
+    }
+
+    /**
+     * Checks if an asset is cached.
+     *
+     * @param fileName The file name of the asset.
+     * @return True if the asset was loaded and is cached.
+     */
+    public boolean contains(String fileName) {
+        CompletableFuture<V> entry = this.entries.get(fileName);
+        return entry != null && entry.isDone() && entry.join() != null;
+    }
+
+    /**
+     * Removes every asset. Callers keep the assets they already have.
+     */
+    public void clear() {
+        this.entries.clear();
+        this.bytes.set(0);
+    }
+
+    /**
+     * Gets the number of requests served from the cache.
+     *
+     * @return The number of hits.
+     */
+    public long hits() {
+        return this.hits.get();
+    }
+
+    /**
+     * Gets the number of requests that had to load the asset.
+     *
+     * @return The number of misses.
+     */
+    public long misses() {
+        return this.misses.get();
+    }
+
+    /**
+     * Gets the estimated memory used by the cached assets.
+     *
+     * @return The size in bytes.
+     */
+    public long bytes() {
+        return this.bytes.get();
+    }
+
+    /**
+     * Gets the number of cached assets.
+     *
+     * @return The number of entries.
+     */
+    public int size() {
+        return this.entries.size();
+    }
+
+    /**
+     * Returns a string representation of the cache statistics.
+     *
+     * @return A string with the hits, misses, entries and bytes.
+     */
+    @Override
+    public String toString() {
+        return "AssetCache{hits=" + hits + ", misses=" + misses + ", entries=" + entries.size() +
+                ", bytes=" + bytes + '}';
+    }
+}
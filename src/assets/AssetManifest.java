@@ -0,0 +1,217 @@
+package assets;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The list of asset files a game needs, so they can be checked and decoded up
+ * front by an `AssetPreloader` instead of one by one when they are first used.
+ *
+ * <p>
+ * Each entry names a file and how it is loaded: a single image or an animation
+ * (from `/assets/images/`), a sound effect decoded into a `Sample`, or a music
+ * track (from `/assets/audio/`), which is streamed when played and is only
+ * checked. Required entries stop the preloading when they are missing; optional
+ * entries are reported and skipped.
+ * </p>
+ *
+ * <p>
+ * Example usage:
+ * </p>
+ *
+ * <pre>
+ * AssetManifest manifest = new AssetManifest()
+ *         .animation("player.gif")
+ *         .sample("blaster.wav")
+ *         .optionalMusic("menu.wav");
+ * </pre>
+ *
+ * @preConditions:
+ *                 - File names must be valid and include file extensions.
+ *
+ * @postConditions:
+ *                  - Entries are kept in the order they were added, without
+ *                  duplicates.
+ *
+ * @see AssetPreloader
+ *
+ * @author Brandon Mejia
+ * @version 2025-05-20
+ */
+public class AssetManifest {
+
+    /**
+     * How an asset is loaded.
+     */
+    public enum Kind {
+        IMAGE("/assets/images/"), // Decoded by ImagesLoader.loadImage
+        ANIMATION("/assets/images/"), // Decoded by ImagesLoader.loadAnimationFrames
+        SAMPLE("/assets/audio/"), // Decoded by AudioLoader.loadSample
+        MUSIC("/assets/audio/"); // Streamed when played; only checked
+
+        private final String directory;
+
+        Kind(String directory) {
+            this.directory = directory;
+        }
+
+        /**
+         * Gets the resource directory of the assets of this kind.
+         *
+         * @return The directory, with leading and trailing slashes.
+         */
+        public String directory() {
+            return this.directory;
+        }
+    }
+
+    /**
+     * An asset file.
+     *
+     * @param kind     How the asset is loaded.
+     * @param fileName The file name, relative to the directory of its kind.
+     * @param required True if the game cannot run without it.
+     */
+    public record Entry(Kind kind, String fileName, boolean required) {
+
+        /**
+         * Gets the resource path of the file.
+         *
+         * @return The path, such as `/assets/images/player.gif`.
+         */
+        public String path() {
+            return this.kind.directory() + this.fileName;
+        }
+
+        /**
+         * Checks if the file exists.
+         *
+         * @return True if the resource can be found.
+         */
+        public boolean exists() {
+            return AssetManifest.class.getResource(this.path()) != null;
+        }
+    }
+
+    private final List<Entry> entries = new ArrayList<>();
+
+    /**
+     * Adds a required single image.
+     *
+     * @param fileName The file in `/assets/images/`.
+     * @return This manifest.
+     */
+    public AssetManifest image(String fileName) {
+        return this.add(new Entry(Kind.IMAGE, fileName, true));
+    }
+
+    /**
+     * Adds a required animation.
+     *
+     * @param fileName The file in `/assets/images/`.
+     * @return This manifest.
+     */
+    public AssetManifest animation(String fileName) {
+        return this.add(new Entry(Kind.ANIMATION, fileName, true));
+    }
+
+    /**
+     * Adds a required sound effect.
+     *
+     * @param fileName The file in `/assets/audio/`.
+     * @return This manifest.
+     */
+    public AssetManifest sample(String fileName) {
+        return this.add(new Entry(Kind.SAMPLE, fileName, true));
+    }
+
+    /**
+     * Adds an optional music track; the game plays silence without it.
+     *
+     * @param fileName The file in `/assets/audio/`.
+     * @return This manifest.
+     */
+    public AssetManifest optionalMusic(String fileName) {
+        return this.add(new Entry(Kind.MUSIC, fileName, false));
+    }
+
+    /**
+     * Adds an entry, unless the same file is already listed for the same kind.
+     *
+     * @param entry The entry.
+     * @return This manifest.
+     */
+    public AssetManifest add(Entry entry) {
+        if (entry == null || entry.kind() == null || entry.fileName() == null)
+            throw new IllegalArgumentException("AssetManifest:iv");
+
+        for (Entry e : this.entries)
+            if (e.kind() == entry.kind() && e.fileName().equals(entry.fileName()))
+                return this;
+
+        this.entries.add(entry);
+        return this;
+    }
+
+    /**
+     * Gets the entries.
+     *
+     * @return An unmodifiable view of the entries, in the order they were added.
+     */
+    public List<Entry> entries() {
+        return Collections.unmodifiableList(this.entries);
+    }
+
+    /**
+     * Gets the entries whose files do not exist.
+     *
+     * @return The missing entries.
+     */
+    public List<Entry> missing() {
+        List<Entry> missing = new ArrayList<>();
+        for (Entry entry : this.entries)
+            if (!entry.exists())
+                missing.add(entry);
+        return missing;
+    }
+
+    /**
+     * Gets the number of entries.
+     *
+     * @return The number of assets.
+     */
+    public int size() {
+        return this.entries.size();
+    }
+
+    /**
+     * Creates the manifest of every asset used by the game.
+     *
+     * @return The manifest of the game.
+     */
+    public static AssetManifest game() {
+        return new AssetManifest()
+                // Images
+                .animation("background.gif")
+                .animation("player.gif")
+                .animation("nave-HanSolo.png")
+                .animation("inimigo1.gif")
+                .animation("inimigo2.gif")
+                .animation("inimigo3.gif")
+                .animation("explosion.gif")
+                .image("laser1.gif")
+                .image("laser2.gif")
+                // Sound effects
+                .sample("blaster.wav")
+                .sample("explosion.wav")
+                .sample("move1.wav")
+                .sample("playerHit.wav")
+                // Music
+                .optionalMusic("menu.wav")
+                .optionalMusic("gameSound.wav")
+                .optionalMusic("gameSound2.wav")
+                .optionalMusic("gameOver.wav")
+                .optionalMusic("win.wav");
+    }
+}
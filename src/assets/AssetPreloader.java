@@ -0,0 +1,247 @@
+package assets;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Decodes every asset of an `AssetManifest` concurrently into the shared caches
+ * of `ImagesLoader` and `AudioLoader`, so the game finds them already loaded
+ * and the time before the first frame is that of the slowest file instead of
+ * the sum of all of them.
+ *
+ * <p>
+ * Before decoding anything, the preloader checks that every file exists and
+ * fails at once with a summary of the missing required files. Missing optional
+ * files are listed in the report and skipped. Progress is reported after each
+ * asset, on the thread that called `load()`.
+ * </p>
+ *
+ * <p>
+ * Example usage:
+ * </p>
+ *
+ * <pre>
+ * AssetPreloader.Report report = new AssetPreloader()
+ *         .load(AssetManifest.game(), (loaded, total, fileName) -&gt; gui.showLoading((double) loaded / total, fileName));
+ * System.out.println(report.summary());
+ * </pre>
+ *
+ * @preConditions:
+ *                 - The number of threads must be greater than 0.
+ *
+ * @postConditions:
+ *                  - After a successful `load()`, every present asset of the
+ *                  manifest is in its cache.
+ *                  - The loading threads are stopped when `load()` returns.
+ *
+ * @see AssetManifest
+ * @see AssetCache
+ *
+ * @author Brandon Mejia
+ * @version 2025-05-20
+ */
+public class AssetPreloader {
+    public static final int DEFAULT_THREADS = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors()));
+
+    /**
+     * Receives the progress of the loading.
+     */
+    public interface Listener {
+        /**
+         * Called after each asset is loaded or skipped.
+         *
+         * @param loaded   The number of assets done.
+         * @param total    The number of assets in the manifest.
+         * @param fileName The file that was just done.
+         */
+        void onProgress(int loaded, int total, String fileName);
+    }
+
+    /**
+     * The outcome of a preloading.
+     *
+     * @param loaded       The number of assets decoded or checked.
+     * @param total        The number of assets in the manifest.
+     * @param missing      The entries whose files do not exist.
+     * @param failed       The entries whose files exist but could not be decoded.
+     * @param elapsedNanos The time the preloading took.
+     */
+    public record Report(int loaded, int total, List<AssetManifest.Entry> missing, List<AssetManifest.Entry> failed,
+            long elapsedNanos) {
+
+        /**
+         * Checks if every asset was loaded.
+         *
+         * @return True if nothing is missing or failed.
+         */
+        public boolean isComplete() {
+            return this.missing.isEmpty() && this.failed.isEmpty();
+        }
+
+        /**
+         * Describes the outcome in one line per problem.
+         *
+         * @return The summary.
+         */
+        public String summary() {
+            StringBuilder text = new StringBuilder();
+            text.append("Loaded ").append(this.loaded).append(" of ").append(this.total).append(" assets in ")
+                    .append(this.elapsedNanos / 1_000_000).append(" ms");
+            for (AssetManifest.Entry entry : this.missing)
+                text.append("\n  missing").append(entry.required() ? "" : " (optional)").append(": ")
+                        .append(entry.path());
+            for (AssetManifest.Entry entry : this.failed)
+                text.append("\n  failed").append(entry.required() ? "" : " (optional)").append(": ")
+                        .append(entry.path());
+            return text.toString();
+        }
+    }
+
+    /**
+     * The result of decoding one asset.
+     *
+     * @param entry   The asset.
+     * @param decoded True if it was decoded.
+     */
+    private record Outcome(AssetManifest.Entry entry, boolean decoded) {
+    }
+
+    private final int threads;
+
+    /**
+     * Validates the invariant for the `AssetPreloader` class.
+     * Ensures that the number of threads is positive.
+     *
+     * @param threads The number of loading threads. Must be greater than 0.
+     * @throws IllegalArgumentException if the number of threads is not positive.
+     */
+    private void invariante(int threads) {
+        if (threads > 0)
+            return;
+
+        throw new IllegalArgumentException("AssetPreloader:iv");
+    }
+
+    /**
+     * Creates a preloader with the default number of threads.
+     */
+    public AssetPreloader() {
+        this(DEFAULT_THREADS);
+    }
+
+    /**
+     * Creates a preloader.
+     *
+     * @param threads The number of assets decoded at the same time.
+     */
+    public AssetPreloader(int threads) {
+        invariante(threads);
+        this.threads = threads;
+    }
+
+    /**
+     * Loads every asset of a manifest.
+     *
+     * @param manifest The assets to load.
+     * @param listener Receives the progress, or null.
+     * @return The report of the loading.
+     * @throws IllegalStateException if a required asset is missing (before
+     *                               anything is decoded) or cannot be decoded;
+     *                               the message is the summary of the loading.
+     */
+    public Report load(AssetManifest manifest, Listener listener) {
+        long start = System.nanoTime();
+        int total = manifest.size();
+
+        // Fail fast: check every file before decoding any of them
+        List<AssetManifest.Entry> missing = manifest.missing();
+        for (AssetManifest.Entry entry : missing) {
+            if (entry.required())
+                throw new IllegalStateException(
+                        new Report(0, total, missing, List.of(), System.nanoTime() - start).summary());
+        }
+
+        int loaded = 0;
+        for (AssetManifest.Entry entry : missing) {
+            loaded++;
+            if (listener != null)
+                listener.onProgress(loaded, total, entry.fileName());
+        }
+
+        AtomicInteger threadCount = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(this.threads, runnable -> {
+            Thread thread = new Thread(runnable, "asset-loader-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        List<AssetManifest.Entry> failed = new ArrayList<>();
+        try {
+            CompletionService<Outcome> completion = new ExecutorCompletionService<>(executor);
+            int submitted = 0;
+            for (AssetManifest.Entry entry : manifest.entries()) {
+                if (missing.contains(entry))
+                    continue;
+                completion.submit(() -> {
+                    try {
+                        return new Outcome(entry, decode(entry));
+                    } catch (RuntimeException e) {
+                        // A decoder that throws fails only its file, which the report then lists
+                        System.err.println("AssetPreloader: Cannot decode '" + entry.fileName() + "': " + e);
+                        return new Outcome(entry, false);
+                    }
+                });
+                submitted++;
+            }
+
+            for (int i = 0; i < submitted; i++) {
+                Outcome outcome = completion.take().get();
+                if (!outcome.decoded())
+                    failed.add(outcome.entry());
+                loaded++;
+                if (listener != null)
+                    listener.onProgress(loaded, total, outcome.entry().fileName());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("AssetPreloader: Interrupted while loading assets.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("AssetPreloader: " + e.getCause(), e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Report report = new Report(loaded - missing.size() - failed.size(), total, missing, failed,
+                System.nanoTime() - start);
+        for (AssetManifest.Entry entry : failed)
+            if (entry.required())
+                throw new IllegalStateException(report.summary());
+        return report;
+    }
+
+    /**
+     * Decodes an asset into its cache.
+     *
+     * @param entry The asset.
+     * @return True if it was decoded (or, for music, can be opened).
+     */
+    private static boolean decode(AssetManifest.Entry entry) {
+        switch (entry.kind()) {
+            case IMAGE:
+                return ImagesLoader.loadImage(entry.fileName()) != null;
+            case ANIMATION:
+                return !ImagesLoader.loadAnimationFrames(entry.fileName()).isEmpty();
+            case SAMPLE:
+                return AudioLoader.loadSample(entry.fileName()) != null;
+            case MUSIC:
+                return entry.exists(); // Streamed when played
+            default:
+                return false;
+        }
+    }
+}
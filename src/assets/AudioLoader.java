@@ -1,5 +1,6 @@
 package assets;
 
+import javax.sound.sampled.AudioFormat;
 import javax.sound.sampled.AudioInputStream;
 import javax.sound.sampled.AudioSystem;
 import javax.sound.sampled.Clip;
@@ -8,6 +9,7 @@ import javax.sound.sampled.UnsupportedAudioFileException;
 import java.io.BufferedInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Arrays;
 
 /**
  * Classe utilitária para carregar recursos de áudio do jogo.
@@ -15,6 +17,12 @@ import java.io.InputStream;
  * os formatos suportados nativamente pela API Java Sound.
  *
  * <p>
+ * Os efeitos sonoros são decodificados uma única vez para PCM pelo
+ * `loadSample()` e mantidos num banco de amostras partilhado (`sampleBank()`),
+ * de modo que todos os objetos que tocam o mesmo som usam os mesmos bytes.
+ * </p>
+ *
+ * <p>
  * Exemplo de uso:
  * </p>
  * 
@@ -27,6 +35,7 @@ import java.io.InputStream;
  * if (musicaFundo != null) {
  *     musicaFundo.loop(Clip.LOOP_CONTINUOUSLY);
  * }
+ * Sample tiro = AudioLoader.loadSample("tiro.wav");
  * </pre>
  *
  * @preConditions:
@@ -50,6 +59,28 @@ import java.io.InputStream;
  * @version 2024-05-23
  */
 public class AudioLoader {
+    private static final AssetCache<Sample> SAMPLE_BANK = new AssetCache<>(sample -> sample.data().length);
+
+    /**
+     * Obtém o banco partilhado das amostras decodificadas.
+     *
+     * @return A cache das amostras, indexada pelo nome do arquivo.
+     */
+    public static AssetCache<Sample> sampleBank() {
+        return SAMPLE_BANK;
+    }
+
+    /**
+     * Carrega um efeito sonoro como amostra PCM partilhada.
+     * O arquivo é decodificado apenas no primeiro pedido; os pedidos seguintes
+     * devolvem a mesma amostra.
+     *
+     * @param fileName O nome do arquivo de áudio a ser carregado (ex: "som.wav").
+     * @return A amostra decodificada, ou null se o carregamento falhar.
+     */
+    public static Sample loadSample(String fileName) {
+        return SAMPLE_BANK.get(fileName, AudioLoader::decodeSample);
+    }
 
     /**
      * Carrega um único arquivo de áudio do diretório de áudio dos assets.
@@ -90,4 +121,70 @@ public class AudioLoader {
         }
         return null;
     }
+
+    /**
+     * Abre um arquivo de áudio como stream PCM com sinal, sem o ler por inteiro.
+     * Usado para tocar músicas em streaming; o chamador deve fechar o stream.
+     *
+     * @param fileName O nome do arquivo de áudio (ex: "musica.wav").
+     * @return O stream PCM, ou null se o arquivo não puder ser aberto.
+     */
+    public static AudioInputStream openPcmStream(String fileName) {
+        InputStream audioSrc = AudioLoader.class.getResourceAsStream("/assets/audio/" + fileName);
+        if (audioSrc == null) {
+            System.err.println("Arquivo de áudio não encontrado no caminho: /assets/audio/" + fileName);
+            return null;
+        }
+
+        try {
+            AudioInputStream audioStream = AudioSystem.getAudioInputStream(new BufferedInputStream(audioSrc));
+            AudioFormat format = audioStream.getFormat();
+            if (format.getEncoding() == AudioFormat.Encoding.PCM_SIGNED)
+                return audioStream;
+
+            // Converte para PCM de 16 bits com sinal (ex: arquivos em 8 bits ou u-law)
+            format = new AudioFormat(format.getSampleRate(), 16, format.getChannels(), true, false);
+            return AudioSystem.getAudioInputStream(format, audioStream);
+
+        } catch (UnsupportedAudioFileException | IllegalArgumentException e) {
+            System.err.println("Formato de arquivo de áudio não suportado ou arquivo corrompido: " + fileName);
+            e.printStackTrace();
+        } catch (IOException e) {
+            System.err.println("Erro de I/O ao carregar áudio: " + fileName);
+            e.printStackTrace();
+        }
+        try {
+            audioSrc.close();
+        } catch (IOException e) {
+            // Nada a fazer
+        }
+        return null;
+    }
+
+    /**
+     * Decodifica um arquivo de áudio para PCM com sinal, lendo-o por inteiro.
+     *
+     * @param fileName O nome do arquivo de áudio.
+     * @return A amostra decodificada, ou null se o carregamento falhar.
+     */
+    private static Sample decodeSample(String fileName) {
+        AudioInputStream pcmStream = openPcmStream(fileName);
+        if (pcmStream == null)
+            return null;
+
+        try (pcmStream) {
+            AudioFormat format = pcmStream.getFormat();
+            byte[] data = pcmStream.readAllBytes();
+            int frameSize = format.getFrameSize();
+            int length = data.length - data.length % frameSize; // Descarta um frame incompleto no fim
+            if (length != data.length)
+                data = Arrays.copyOf(data, length);
+            return new Sample(fileName, format, data);
+
+        } catch (IOException e) {
+            System.err.println("Erro de I/O ao carregar áudio: " + fileName);
+            e.printStackTrace();
+        }
+        return null;
+    }
 }
@@ -4,6 +4,7 @@ import javax.imageio.ImageIO;
 import javax.imageio.ImageReader;
 import javax.imageio.stream.ImageInputStream;
 import java.awt.image.BufferedImage;
+import java.awt.image.DataBuffer;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
@@ -17,6 +18,12 @@ import java.util.List;
  * spritesheet frames.
  *
  * <p>
+ * Single images and animation frames are kept in shared `AssetCache`s, so each
+ * file is decoded once per process. The returned images and lists are shared
+ * between callers and must not be modified.
+ * </p>
+ *
+ * <p>
  * Example usage:
  * </p>
  * 
@@ -41,19 +48,56 @@ import java.util.List;
  *                  lists for animations.
  *                  - Loaded animations/spritesheets will maintain frame order.
  *                  - All resources will be properly closed after loading.
+ *                  - Animation frame lists are unmodifiable.
  *
  * @author Brandon Mejia
  * @version 2025-05-06
  */
 public class ImagesLoader {
+    private static final AssetCache<BufferedImage> IMAGE_CACHE = new AssetCache<>(ImagesLoader::sizeOf);
+    private static final AssetCache<List<BufferedImage>> ANIMATION_CACHE = new AssetCache<>(frames -> {
+        long bytes = 0;
+        for (BufferedImage frame : frames)
+            bytes += sizeOf(frame);
+        return bytes;
+    });
+
+    /**
+     * Gets the cache of single images, for its statistics.
+     *
+     * @return The image cache.
+     */
+    public static AssetCache<BufferedImage> imageCache() {
+        return IMAGE_CACHE;
+    }
+
+    /**
+     * Gets the cache of animation frames, for its statistics.
+     *
+     * @return The animation cache.
+     */
+    public static AssetCache<List<BufferedImage>> animationCache() {
+        return ANIMATION_CACHE;
+    }
 
     /**
      * Loads a single image from the assets directory.
+     * The image is decoded on the first request and shared afterwards.
      *
      * @param fileName The name of the image file to load.
      * @return The loaded image as a BufferedImage, or null if loading fails.
      */
     public static BufferedImage loadImage(String fileName) {
+        return IMAGE_CACHE.get(fileName, ImagesLoader::decodeImage);
+    }
+
+    /**
+     * Decodes a single image from the assets directory.
+     *
+     * @param fileName The name of the image file to decode.
+     * @return The decoded image, or null if decoding fails.
+     */
+    private static BufferedImage decodeImage(String fileName) {
         try {
             InputStream is = ImagesLoader.class.getResourceAsStream("/assets/images/" + fileName);
             if (is != null) {
@@ -71,16 +115,29 @@ public class ImagesLoader {
 
     /**
      * Loads frames from an animated image file.
+     * The frames are decoded on the first request and shared afterwards.
      *
      * @param fileName The name of the animation file to load.
-     * @return A list of animation frames as BufferedImages.
+     * @return An unmodifiable list of animation frames as BufferedImages; empty
+     *         if loading fails.
      */
     public static List<BufferedImage> loadAnimationFrames(String fileName) {
+        List<BufferedImage> frames = ANIMATION_CACHE.get(fileName, ImagesLoader::decodeAnimationFrames);
+        return frames != null ? frames : List.of();
+    }
+
+    /**
+     * Decodes the frames of an animated image file.
+     *
+     * @param fileName The name of the animation file to decode.
+     * @return An unmodifiable list of the frames, or null if decoding fails.
+     */
+    private static List<BufferedImage> decodeAnimationFrames(String fileName) {
         List<BufferedImage> frames = new ArrayList<>();
         try (InputStream is = ImagesLoader.class.getResourceAsStream("/assets/images/" + fileName)) {
             if (is == null) {
                 System.err.println("Error: Could not find animation file: " + fileName);
-                return frames;
+                return null;
             }
 
             ImageInputStream iis = ImageIO.createImageInputStream(is);
@@ -89,7 +146,7 @@ public class ImagesLoader {
             if (!readers.hasNext()) {
                 System.err.println("No reader found for: " + fileName);
                 iis.close();
-                return frames;
+                return null;
             }
 
             ImageReader reader = readers.next();
@@ -108,9 +165,9 @@ public class ImagesLoader {
         } catch (IOException e) {
             System.err.println("Error loading animation: " + fileName);
             e.printStackTrace();
-            frames.clear();
+            return null;
         }
-        return frames;
+        return frames.isEmpty() ? null : List.copyOf(frames);
     }
 
     /**
@@ -145,4 +202,15 @@ public class ImagesLoader {
 
         return frames;
     }
+
+    /**
+     * Estimates the memory used by an image from its pixel data.
+     *
+     * @param image The image.
+     * @return The size in bytes.
+     */
+    private static long sizeOf(BufferedImage image) {
+        DataBuffer buffer = image.getRaster().getDataBuffer();
+        return (long) buffer.getSize() * buffer.getNumBanks() * DataBuffer.getDataTypeSize(buffer.getDataType()) / 8;
+    }
 }
\ No newline at end of file
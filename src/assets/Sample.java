@@ -0,0 +1,118 @@
+package assets;
+
+import javax.sound.sampled.AudioFormat;
+
+/**
+ * A decoded sound effect: the PCM bytes of an audio file and their format.
+ *
+ * <p>
+ * Samples are decoded once by `AudioLoader.loadSample()` and shared by every
+ * object that plays them, so the PCM data exists once in memory no matter how
+ * many game objects use the sound. They are played by the voices of a
+ * `core.VoicePool` instead of an audio line per object.
+ * </p>
+ *
+ * @preConditions:
+ *                 - The format must be a PCM encoding.
+ *                 - The data must hold whole frames of that format.
+ *                 - The data must not be modified after construction.
+ *
+ * @postConditions:
+ *                  - The sample is immutable and can be shared between threads.
+ *
+ * @see AudioLoader
+ *
+ * @author Brandon Mejia
+ * @version 2025-05-20
+ */
+public final class Sample {
+    private final String name; // File the sample was decoded from
+    private final AudioFormat format;
+    private final byte[] data;
+
+    /**
+     * Validates the invariant for the `Sample` class.
+     * Ensures that the format and the data are present and that the data holds
+     * whole frames.
+     *
+     * @param format The PCM format.
+     * @param data   The PCM bytes.
+     * @throws IllegalArgumentException if the sample is invalid.
+     */
+    private void invariante(AudioFormat format, byte[] data) {
+        if (format != null && data != null && format.getFrameSize() > 0 && data.length % format.getFrameSize() == 0)
+            return;
+
+        throw new IllegalArgumentException("Sample:iv");
+    }
+
+    /**
+     * Creates a sample.
+     *
+     * @param name   The name of the file the sample was decoded from.
+     * @param format The PCM format of the data.
+     * @param data   The PCM bytes; the array is kept, not copied.
+     */
+    public Sample(String name, AudioFormat format, byte[] data) {
+        invariante(format, data);
+        this.name = name;
+        this.format = format;
+        this.data = data;
+    }
+
+    /**
+     * Gets the name of the file the sample was decoded from.
+     *
+     * @return The file name.
+     */
+    public String name() {
+        return this.name;
+    }
+
+    /**
+     * Gets the PCM format of the sample.
+     *
+     * @return The audio format.
+     */
+    public AudioFormat format() {
+        return this.format;
+    }
+
+    /**
+     * Gets the PCM bytes of the sample. The array is shared and must not be
+     * modified.
+     *
+     * @return The PCM data.
+     */
+    public byte[] data() {
+        return this.data;
+    }
+
+    /**
+     * Gets the number of frames in the sample.
+     *
+     * @return The length in frames.
+     */
+    public int frameCount() {
+        return this.data.length / this.format.getFrameSize();
+    }
+
+    /**
+     * Gets the duration of the sample.
+     *
+     * @return The duration in nanoseconds.
+     */
+    public long durationNanos() {
+        return (long) (this.frameCount() * 1_000_000_000.0 / this.format.getFrameRate());
+    }
+
+    /**
+     * Returns a string representation of the sample.
+     *
+     * @return A string with the name, format and length.
+     */
+    @Override
+    public String toString() {
+        return "Sample{name=" + name + ", format=" + format + ", frames=" + frameCount() + '}';
+    }
+}
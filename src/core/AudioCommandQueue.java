@@ -0,0 +1,272 @@
+package core;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * The `AudioCommandQueue` class moves the work of the sound effects off the
+ * threads that request it. Any thread posts commands (play, stop, volume...)
+ * without locking or waiting, and a single audio worker thread runs them in the
+ * order they were posted, so the game loop never blocks on an audio line.
+ *
+ * <p>
+ * The commands are kept in an `MpscQueue`, so posting never locks and only
+ * the worker takes commands. The worker sleeps while the queue is empty and is
+ * woken by the next post.
+ * </p>
+ *
+ * <p>
+ * The queue counts the commands waiting (current and maximum depth) and the
+ * time between posting a command and running it (average and maximum latency).
+ * </p>
+ *
+ * @preConditions:
+ *                 - Commands must be posted with a non-null executor.
+ *
+ * @postConditions:
+ *                  - Commands are run exactly once, in posting order, on the
+ *                  worker thread.
+ *                  - An exception thrown by a command is reported and does not
+ *                  stop the worker.
+ *
+ * @see SoundEffects
+ * @see MpscQueue
+ * @see CommandBuffer
+ *
+ * @author Brandon Mejia
+ * @version 2025-05-20
+ */
+public class AudioCommandQueue implements Runnable {
+
+    /**
+     * The kinds of audio command.
+     */
+    public enum Op {
+        ADD, // Add a sound the executor keeps until the command runs
+        PLAY, // Play a sound once
+        LOOP, // Loop a sound until it is stopped
+        STOP, // Stop a sound
+        STOP_ALL, // Stop every sound of the executor (the name is ignored)
+        SET_VOLUME, // Set the volume of a sound
+        SET_PAN, // Set the stereo position of a sound
+        SET_GLOBAL_VOLUME, // Set the global volume (the name is ignored)
+        DISPOSE // Release the resources of the executor (the name is ignored)
+    }
+
+    /**
+     * Runs the commands posted for it.
+     */
+    public interface Executor {
+        /**
+         * Runs one command.
+         *
+         * @param op        The kind of command.
+         * @param soundName The name of the sound, or null.
+         * @param value     The volume or pan, when the command has one.
+         */
+        void execute(Op op, String soundName, float value);
+    }
+
+    /**
+     * A posted command.
+     */
+    private static final class Command {
+        private Executor executor;
+        private Op op;
+        private String soundName;
+        private float value;
+        private long postedAt; // System.nanoTime() when posted
+    }
+
+    private static AudioCommandQueue defaultQueue;
+
+    private final MpscQueue<Command> commands = new MpscQueue<>(); // Taken by the worker only
+
+    private Thread worker;
+    private volatile boolean running = false;
+    private volatile boolean waiting = false; // The worker is parked
+
+    // Statistics
+    private final AtomicLong posted = new AtomicLong();
+    private final AtomicLong maxDepth = new AtomicLong();
+    private volatile long executed = 0;
+    private volatile long totalLatency = 0; // Nanoseconds
+    private volatile long maxLatency = 0; // Nanoseconds
+
+    /**
+     * Creates an empty queue. The worker is started by `start()`.
+     */
+    public AudioCommandQueue() {
+    }
+
+    /**
+     * Gets the queue shared by the sound effects created without one, starting
+     * its worker on first use.
+     *
+     * @return The default queue.
+     */
+    public static synchronized AudioCommandQueue getDefault() {
+        if (defaultQueue == null) {
+            defaultQueue = new AudioCommandQueue();
+            defaultQueue.start();
+        }
+        return defaultQueue;
+    }
+
+    /**
+     * Starts the worker thread.
+     */
+    public synchronized void start() {
+        if (this.running)
+            return;
+
+        this.running = true;
+        this.worker = new Thread(this, "audio-commands");
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    /**
+     * Stops the worker thread after the commands already posted.
+     */
+    public synchronized void stop() {
+        if (!this.running)
+            return;
+
+        this.running = false;
+        LockSupport.unpark(this.worker);
+        try {
+            this.worker.join(1000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Posts a command. Never blocks.
+     *
+     * @param executor  The executor that runs the command.
+     * @param op        The kind of command.
+     * @param soundName The name of the sound, or null.
+     * @param value     The volume or pan, when the command has one.
+     */
+    public void post(Executor executor, Op op, String soundName, float value) {
+        Command command = new Command();
+        command.executor = executor;
+        command.op = op;
+        command.soundName = soundName;
+        command.value = value;
+        command.postedAt = System.nanoTime();
+
+        long depth = this.posted.incrementAndGet() - this.executed;
+        if (depth > this.maxDepth.get())
+            this.maxDepth.accumulateAndGet(depth, Math::max);
+
+        this.commands.offer(command); // Volatile write: ordered before reading `waiting`
+
+        if (this.waiting)
+            LockSupport.unpark(this.worker);
+    }
+
+    /**
+     * Runs the posted commands on the calling thread. Used by the worker; it can
+     * also be called directly when no worker was started.
+     *
+     * @return The number of commands run.
+     */
+    public int drain() {
+        int count = 0;
+        Command command;
+        while ((command = this.commands.poll()) != null) {
+            try {
+                command.executor.execute(command.op, command.soundName, command.value);
+            } catch (RuntimeException e) {
+                System.err.println("AudioCommandQueue: " + command.op + " '" + command.soundName + "' failed: " + e);
+            }
+
+            long latency = System.nanoTime() - command.postedAt;
+            this.totalLatency += latency;
+            if (latency > this.maxLatency)
+                this.maxLatency = latency;
+            this.executed++;
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Worker loop: runs the posted commands and sleeps while there are none.
+     */
+    @Override
+    public void run() {
+        while (this.running) {
+            if (this.drain() > 0)
+                continue;
+
+            this.waiting = true;
+            if (this.commands.isEmpty() && this.running)
+                LockSupport.park(this);
+            this.waiting = false;
+        }
+        this.drain();
+    }
+
+    /**
+     * Gets the number of commands waiting to run.
+     *
+     * @return The current depth of the queue.
+     */
+    public long depth() {
+        return Math.max(0, this.posted.get() - this.executed);
+    }
+
+    /**
+     * Gets the largest number of commands that were waiting at once.
+     *
+     * @return The maximum depth of the queue.
+     */
+    public long maxDepth() {
+        return this.maxDepth.get();
+    }
+
+    /**
+     * Gets the number of commands run.
+     *
+     * @return The number of executed commands.
+     */
+    public long executed() {
+        return this.executed;
+    }
+
+    /**
+     * Gets the average time between posting a command and running it.
+     *
+     * @return The average latency in nanoseconds, or 0 if nothing ran yet.
+     */
+    public long averageLatencyNanos() {
+        long executed = this.executed;
+        return executed == 0 ? 0 : this.totalLatency / executed;
+    }
+
+    /**
+     * Gets the longest time between posting a command and running it.
+     *
+     * @return The maximum latency in nanoseconds.
+     */
+    public long maxLatencyNanos() {
+        return this.maxLatency;
+    }
+
+    /**
+     * Returns a string representation of the queue statistics.
+     *
+     * @return A string with the posted and executed commands, depths and
+     *         latencies.
+     */
+    @Override
+    public String toString() {
+        return "AudioCommandQueue{posted=" + posted + ", executed=" + executed + ", depth=" + depth() +
+                ", maxDepth=" + maxDepth + ", avgLatencyUs=" + averageLatencyNanos() / 1000 +
+                ", maxLatencyUs=" + maxLatency / 1000 + '}';
+    }
+}
@@ -0,0 +1,357 @@
+package core;
+
+import assets.Sample;
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioSystem;
+import javax.sound.sampled.LineUnavailableException;
+import javax.sound.sampled.SourceDataLine;
+import java.util.Arrays;
+
+/**
+ * The `AudioMixer` class plays every sound effect of the game through a single
+ * `SourceDataLine`. A dedicated high-priority thread sums the active voices of
+ * a `VoicePool` into a fixed-size buffer, applies the master volume and writes
+ * the buffer to the line, so there is one audio thread and no per-sound line
+ * setup.
+ *
+ * <p>
+ * The output is 16 bit stereo PCM at `SAMPLE_RATE`. Writing blocks while the
+ * line is full, which paces the thread; the line holds a few buffers, so the
+ * latency of a new sound is bounded by their length (about 46 ms with the
+ * default 512-frame buffers).
+ * </p>
+ *
+ * <p>
+ * Besides the voices, other `Source`s (such as the streamed music of a
+ * `MusicPlayer`) can be added to the mix.
+ * </p>
+ *
+ * <p>
+ * Example usage:
+ * </p>
+ *
+ * <pre>
+ * AudioMixer mixer = AudioMixer.getDefault();
+ * mixer.play(AudioLoader.loadSample("blaster.wav"), 1.0f, 0.0f, false, this);
+ * mixer.setMasterVolume(0.5f);
+ * </pre>
+ *
+ * @preConditions:
+ *                 - The buffer size must be greater than 0.
+ *
+ * @postConditions:
+ *                  - The mixing thread allocates nothing after it starts.
+ *                  - If no audio line can be opened, the mixer stays stopped
+ *                  and sounds are dropped instead of failing.
+ *
+ * @see VoicePool
+ * @see SoundEffects
+ *
+ * @author Brandon Mejia
+ * @version 2025-05-20
+ */
+public class AudioMixer implements Runnable {
+
+    /**
+     * Produces audio that is added to the mix, such as a stream.
+     */
+    public interface Source {
+        /**
+         * Adds the next frames of the source to a stereo buffer. Called by the
+         * mixing thread; it must not block.
+         *
+         * @param buffer     The interleaved stereo buffer (left, right) to add to.
+         * @param frames     The number of frames to render.
+         * @param outputRate The sample rate of the buffer.
+         */
+        void mix(float[] buffer, int frames, float outputRate);
+    }
+
+    public static final float SAMPLE_RATE = 44100f;
+    public static final int DEFAULT_BUFFER_FRAMES = 512;
+    private static final int LINE_BUFFERS = 4; // Buffers the line holds ahead of playback
+
+    private static final AudioFormat OUTPUT_FORMAT = new AudioFormat(SAMPLE_RATE, 16, 2, true, false);
+
+    private static AudioMixer defaultMixer;
+
+    private final VoicePool voices;
+    private volatile Source[] sources = new Source[0]; // Replaced, never modified, when sources change
+    private final int bufferFrames; // Frames mixed per write
+    private volatile float masterVolume = 1.0f; // Volume applied to the whole mix (0.0 to 1.0)
+
+    private SourceDataLine line;
+    private Thread mixerThread;
+    private volatile boolean running = false;
+
+    // Statistics
+    private volatile long buffersMixed = 0;
+
+    /**
+     * Validates the invariant for the `AudioMixer` class.
+     * Ensures that the voice pool is present and the buffer size is positive.
+     *
+     * @param voices       The voice pool.
+     * @param bufferFrames The frames mixed per write. Must be greater than 0.
+     * @throws IllegalArgumentException if a value is invalid.
+     */
+    private void invariante(VoicePool voices, int bufferFrames) {
+        if (voices != null && bufferFrames > 0)
+            return;
+
+        throw new IllegalArgumentException("AudioMixer:iv");
+    }
+
+    /**
+     * Creates a mixer with the default number of voices and buffer size.
+     */
+    public AudioMixer() {
+        this(new VoicePool(), DEFAULT_BUFFER_FRAMES);
+    }
+
+    /**
+     * Creates a mixer. The line is opened by `start()`.
+     *
+     * @param voices       The voices to mix.
+     * @param bufferFrames The frames mixed per write.
+     */
+    public AudioMixer(VoicePool voices, int bufferFrames) {
+        invariante(voices, bufferFrames);
+        this.voices = voices;
+        this.bufferFrames = bufferFrames;
+    }
+
+    /**
+     * Gets the mixer shared by the sound effects created without one, starting
+     * it on first use.
+     *
+     * @return The default mixer.
+     */
+    public static synchronized AudioMixer getDefault() {
+        if (defaultMixer == null) {
+            defaultMixer = new AudioMixer();
+            defaultMixer.start();
+        }
+        return defaultMixer;
+    }
+
+    /**
+     * Opens the output line and starts the mixing thread.
+     *
+     * @return True if the mixer is running.
+     */
+    public synchronized boolean start() {
+        if (this.running)
+            return true;
+
+        int bufferBytes = this.bufferFrames * OUTPUT_FORMAT.getFrameSize();
+        try {
+            this.line = AudioSystem.getSourceDataLine(OUTPUT_FORMAT);
+            this.line.open(OUTPUT_FORMAT, bufferBytes * LINE_BUFFERS);
+        } catch (LineUnavailableException | IllegalArgumentException | SecurityException e) {
+            System.err.println("AudioMixer: No audio line available, sounds are disabled.");
+            this.line = null;
+            return false;
+        }
+
+        this.line.start();
+        this.running = true;
+        this.mixerThread = new Thread(this, "audio-mixer");
+        this.mixerThread.setDaemon(true);
+        this.mixerThread.setPriority(Thread.MAX_PRIORITY);
+        this.mixerThread.start();
+        return true;
+    }
+
+    /**
+     * Stops the mixing thread, silences every voice and closes the line.
+     */
+    public synchronized void stop() {
+        if (!this.running)
+            return;
+
+        this.running = false;
+        try {
+            this.mixerThread.join(1000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        this.voices.stopAll();
+        this.line.stop();
+        this.line.close();
+        this.line = null;
+    }
+
+    /**
+     * Mixing loop: renders one buffer of the active voices and writes it to the
+     * line until the mixer is stopped.
+     */
+    @Override
+    public void run() {
+        float[] mix = new float[this.bufferFrames * 2];
+        byte[] out = new byte[this.bufferFrames * OUTPUT_FORMAT.getFrameSize()];
+
+        while (this.running) {
+            Arrays.fill(mix, 0.0f);
+            this.voices.mix(mix, this.bufferFrames, SAMPLE_RATE);
+            for (Source source : this.sources)
+                source.mix(mix, this.bufferFrames, SAMPLE_RATE);
+            encode(mix, out, this.masterVolume);
+            this.line.write(out, 0, out.length);
+            this.buffersMixed++;
+        }
+    }
+
+    /**
+     * Converts a mixed buffer to 16 bit little-endian PCM, clipping values
+     * outside the output range.
+     *
+     * @param mix    The mixed samples.
+     * @param out    The PCM bytes.
+     * @param volume The master volume.
+     */
+    private static void encode(float[] mix, byte[] out, float volume) {
+        for (int i = 0; i < mix.length; i++) {
+            int value = (int) (mix[i] * volume * 32767.0f);
+            value = Math.max(-32768, Math.min(32767, value));
+            out[2 * i] = (byte) value;
+            out[2 * i + 1] = (byte) (value >> 8);
+        }
+    }
+
+    /**
+     * Adds a source to the mix.
+     *
+     * @param source The source to add.
+     */
+    public synchronized void addSource(Source source) {
+        if (source == null)
+            return;
+
+        Source[] sources = Arrays.copyOf(this.sources, this.sources.length + 1);
+        sources[sources.length - 1] = source;
+        this.sources = sources;
+    }
+
+    /**
+     * Removes a source from the mix.
+     *
+     * @param source The source to remove.
+     */
+    public synchronized void removeSource(Source source) {
+        Source[] sources = new Source[this.sources.length];
+        int count = 0;
+        for (Source s : this.sources)
+            if (s != source)
+                sources[count++] = s;
+        this.sources = Arrays.copyOf(sources, count);
+    }
+
+    /**
+     * Starts a sample on a voice.
+     *
+     * @param sample The sample to play.
+     * @param gain   The volume level (0.0 to 1.0).
+     * @param pan    The stereo position, from -1.0 (left) to 1.0 (right).
+     * @param loop   True to loop the sample until it is stopped.
+     * @param owner  The owner of the sound.
+     * @return True if the sound was started, false if it was dropped.
+     */
+    public boolean play(Sample sample, float gain, float pan, boolean loop, Object owner) {
+        if (!this.running)
+            return false;
+        return this.voices.play(sample, gain, pan, loop, owner);
+    }
+
+    /**
+     * Stops the sounds of an owner.
+     *
+     * @param owner  The owner of the sounds.
+     * @param sample The sample to stop, or null to stop every sound of the owner.
+     */
+    public void stop(Object owner, Sample sample) {
+        this.voices.stop(owner, sample);
+    }
+
+    /**
+     * Checks if an owner is playing a sample.
+     *
+     * @param owner  The owner of the sound.
+     * @param sample The sample.
+     * @return True if the sample is playing for the owner.
+     */
+    public boolean isPlaying(Object owner, Sample sample) {
+        return this.voices.isPlaying(owner, sample);
+    }
+
+    /**
+     * Changes the gain of the sounds an owner is playing.
+     *
+     * @param owner  The owner of the sounds.
+     * @param sample The sample whose voices are changed.
+     * @param gain   The volume level (0.0 to 1.0).
+     */
+    public void setGain(Object owner, Sample sample, float gain) {
+        this.voices.setGain(owner, sample, gain);
+    }
+
+    /**
+     * Changes the stereo position of the sounds an owner is playing.
+     *
+     * @param owner  The owner of the sounds.
+     * @param sample The sample whose voices are changed.
+     * @param pan    The stereo position, from -1.0 (left) to 1.0 (right).
+     */
+    public void setPan(Object owner, Sample sample, float pan) {
+        this.voices.setPan(owner, sample, pan);
+    }
+
+    /**
+     * Sets the master volume, applied to everything the mixer plays: the sounds
+     * of every `SoundEffects` that shares the mixer and the music. The volume of
+     * a single manager is set with `SoundEffects.setGlobalVolume()`.
+     *
+     * @param volume The master volume level (0.0 to 1.0).
+     */
+    public void setMasterVolume(float volume) {
+        this.masterVolume = Math.max(0.0f, Math.min(1.0f, volume));
+    }
+
+    /**
+     * Gets the master volume, applied to everything the mixer plays.
+     *
+     * @return The master volume level (0.0 to 1.0).
+     */
+    public float getMasterVolume() {
+        return this.masterVolume;
+    }
+
+    /**
+     * Checks if the mixer is running.
+     *
+     * @return True if the line is open and the mixing thread is running.
+     */
+    public boolean isRunning() {
+        return this.running;
+    }
+
+    /**
+     * Gets the voices mixed by this mixer.
+     *
+     * @return The voice pool.
+     */
+    public VoicePool voices() {
+        return this.voices;
+    }
+
+    /**
+     * Returns a string representation of the mixer statistics.
+     *
+     * @return A string with the state, buffers mixed and voices.
+     */
+    @Override
+    public String toString() {
+        return "AudioMixer{running=" + running + ", buffers=" + buffersMixed + ", bufferFrames=" + bufferFrames +
+                ", " + voices + '}';
+    }
+}
@@ -1,6 +1,7 @@
 package core;
 
 import java.util.ArrayList;
+import java.util.SplittableRandom;
 
 import core.objectsInterface.IBehavior;
 import core.objectsInterface.IGameObject;
@@ -58,6 +59,13 @@ public class Behavior implements IBehavior {
     protected IGameObject observedObject;
     protected int score = 0;
 
+    // The timers of the engine running this behavior, or null outside an engine
+    protected TimerWheel timers = null;
+    // Runs the timers scheduled outside an engine, advanced by onUpdate; created on first use
+    private TimerWheel localTimers = null;
+    // The random generator of the engine running this behavior, or null until one is set
+    protected SplittableRandom random = null;
+
     /**
      * Default constructor for the Behavior class.
      * Initializes the behavior with no associated GameObject and sets it as
@@ -81,6 +89,91 @@ public class Behavior implements IBehavior {
         this.attackStrategy = attackStrategy;
     }
 
+    /**
+     * Sets the timer wheel used for the timed logic of this behavior. The engine
+     * sets its own wheel when the object is added to it.
+     *
+     * @param timers The timer wheel, or null.
+     */
+    public void setTimerWheel(TimerWheel timers) {
+        this.timers = timers;
+    }
+
+    /**
+     * Gets the timer wheel used for the timed logic of this behavior.
+     *
+     * @return The timer wheel, or null if the behavior is not in an engine.
+     */
+    public TimerWheel getTimerWheel() {
+        return this.timers;
+    }
+
+    /**
+     * Sets the random generator used for the random decisions of this behavior
+     * and its strategies. The engine sets its own seeded generator when the
+     * object is added to it.
+     *
+     * @param random The random generator, or null.
+     */
+    public void setRandom(SplittableRandom random) {
+        this.random = random;
+    }
+
+    /**
+     * Gets the random generator used for the random decisions of this behavior
+     * and its strategies. The engine injects its seeded generator when the
+     * object is added to it; outside an engine one must be set with
+     * `setRandom()`, so no decision is ever taken by an unseeded generator.
+     *
+     * @return The random generator.
+     * @throws IllegalStateException if no generator was set.
+     */
+    @Override
+    public SplittableRandom getRandom() {
+        if (this.random == null)
+            throw new IllegalStateException("Behavior: no random generator was set");
+        return this.random;
+    }
+
+    /**
+     * Schedules a task to run on the game thread after a number of ticks.
+     * Without a timer wheel (the behavior is not in an engine) the task runs on
+     * a wheel of the behavior, advanced once per `onUpdate()`.
+     *
+     * @param delayTicks The number of ticks before it runs.
+     * @param task       The task to run.
+     * @return The timer, which can be cancelled.
+     */
+    protected TimerWheel.Timer schedule(long delayTicks, Runnable task) {
+        return this.wheel().schedule(delayTicks, task);
+    }
+
+    /**
+     * Converts a duration to ticks at the tick rate of the wheel the timers of
+     * this behavior run on.
+     *
+     * @param millis The duration in milliseconds.
+     * @return The number of ticks, at least 1.
+     */
+    @Override
+    public long ticks(long millis) {
+        return this.wheel().ticks(millis);
+    }
+
+    /**
+     * Gets the wheel the timers of this behavior run on: the wheel of the
+     * engine, or the wheel of the behavior outside an engine.
+     *
+     * @return The timer wheel.
+     */
+    private TimerWheel wheel() {
+        if (this.timers != null)
+            return this.timers;
+        if (this.localTimers == null)
+            this.localTimers = new TimerWheel();
+        return this.localTimers;
+    }
+
     /**
      * Gets the GameObject associated with this behavior.
      *
@@ -118,7 +211,13 @@ public class Behavior implements IBehavior {
     @Override
     public void onUpdate(IInputEvent ie) {
         this.update();
-        this.go.shape().updateAnimation();
+        if (this.localTimers != null)
+            this.localTimers.advance();
+        // Inside an engine the animation follows the simulation time, so it is the same on every run
+        if (this.timers != null)
+            this.go.shape().updateAnimation(this.timers.timeMillis());
+        else
+            this.go.shape().updateAnimation();
     }
 
     /**
@@ -139,7 +238,7 @@ public class Behavior implements IBehavior {
     @Override
     public void onCollision(ArrayList<IGameObject> collisions) {
         for (IGameObject go : collisions) {
-            if (go.name().contains("Player") && go.behavior().isEnabled())
+            if (go.category() == CollisionCategory.PLAYER && go.behavior().isEnabled())
                 continue;
             else {
                 go.behavior().notifyObserver();
@@ -151,6 +250,26 @@ public class Behavior implements IBehavior {
         this.onDestroy();
     }
 
+    /**
+     * Handles the game object leaving the world bounds.
+     * Disables it silently, so the engine destroys it on the next update.
+     */
+    @Override
+    public void onOutOfBounds() {
+        this.onDisabled();
+    }
+
+    /**
+     * Clears the behavior state so a pooled game object can be used again.
+     * The behavior is left disabled.
+     */
+    void reset() {
+        this.isEnabled = false;
+        this.isAttacking = false;
+        this.observedObject = null;
+        this.score = 0;
+    }
+
     /**
      * Enables the behavior.
      */
@@ -30,6 +30,11 @@ import java.awt.Graphics2D;
 public abstract class Collider implements ICollider {
     protected Transform transform; // The transform associated with this collider
 
+    // Cached bounding volumes, refreshed lazily after the shape changes
+    private double boundsMinX, boundsMinY, boundsMaxX, boundsMaxY; // Axis-aligned bounding box
+    private double boundsCenterX, boundsCenterY, boundsRadius; // Bounding circle
+    private boolean boundsDirty = true;
+
     /**
      * Constructs a `Collider` instance with the specified transform.
      *
@@ -142,4 +147,121 @@ public abstract class Collider implements ICollider {
      */
     @Override
     public abstract double getLogicalHeight();
-}
\ No newline at end of file
+
+    /**
+     * Marks the cached bounding box and bounding circle as stale.
+     * Subclasses must call this method whenever the shape of the collider
+     * changes (position, rotation or scale).
+     */
+    protected void invalidateBounds() {
+        this.boundsDirty = true;
+    }
+
+    /**
+     * Recomputes the bounding volumes of the collider.
+     * Subclasses must implement this method and report the result through
+     * `setBounds()`.
+     */
+    protected abstract void computeBounds();
+
+    /**
+     * Stores the bounding volumes computed by `computeBounds()`.
+     *
+     * @param minX    The minimum x of the bounding box.
+     * @param minY    The minimum y of the bounding box.
+     * @param maxX    The maximum x of the bounding box.
+     * @param maxY    The maximum y of the bounding box.
+     * @param centerX The x-coordinate of the bounding circle's center.
+     * @param centerY The y-coordinate of the bounding circle's center.
+     * @param radius  The radius of the bounding circle.
+     */
+    protected void setBounds(double minX, double minY, double maxX, double maxY,
+            double centerX, double centerY, double radius) {
+        this.boundsMinX = minX;
+        this.boundsMinY = minY;
+        this.boundsMaxX = maxX;
+        this.boundsMaxY = maxY;
+        this.boundsCenterX = centerX;
+        this.boundsCenterY = centerY;
+        this.boundsRadius = radius;
+    }
+
+    /**
+     * Refreshes the cached bounding volumes if the shape changed since the last
+     * time they were computed.
+     */
+    private void ensureBounds() {
+        if (!this.boundsDirty)
+            return;
+
+        this.computeBounds();
+        this.boundsDirty = false;
+    }
+
+    /**
+     * Gets the minimum x of the collider's cached axis-aligned bounding box.
+     *
+     * @return The minimum x of the bounding box.
+     */
+    @Override
+    public double minX() {
+        ensureBounds();
+        return this.boundsMinX;
+    }
+
+    /**
+     * Gets the minimum y of the collider's cached axis-aligned bounding box.
+     *
+     * @return The minimum y of the bounding box.
+     */
+    @Override
+    public double minY() {
+        ensureBounds();
+        return this.boundsMinY;
+    }
+
+    /**
+     * Gets the maximum x of the collider's cached axis-aligned bounding box.
+     *
+     * @return The maximum x of the bounding box.
+     */
+    @Override
+    public double maxX() {
+        ensureBounds();
+        return this.boundsMaxX;
+    }
+
+    /**
+     * Gets the maximum y of the collider's cached axis-aligned bounding box.
+     *
+     * @return The maximum y of the bounding box.
+     */
+    @Override
+    public double maxY() {
+        ensureBounds();
+        return this.boundsMaxY;
+    }
+
+    /**
+     * Cheap prefilter for the exact collision test.
+     * Compares the cached bounding boxes first and then the bounding circles;
+     * if either pair is disjoint the colliders cannot intersect.
+     *
+     * @param other The other collider.
+     * @return false if the colliders certainly do not intersect, true if the
+     *         exact test is still needed.
+     */
+    public boolean boundsOverlap(Collider other) {
+        this.ensureBounds();
+        other.ensureBounds();
+
+        if (this.boundsMaxX < other.boundsMinX || other.boundsMaxX < this.boundsMinX ||
+                this.boundsMaxY < other.boundsMinY || other.boundsMaxY < this.boundsMinY)
+            return false;
+
+        double dx = this.boundsCenterX - other.boundsCenterX;
+        double dy = this.boundsCenterY - other.boundsCenterY;
+        double radii = this.boundsRadius + other.boundsRadius;
+        return dx * dx + dy * dy <= radii * radii;
+    }
+}
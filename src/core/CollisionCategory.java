@@ -0,0 +1,54 @@
+package core;
+
+/**
+ * The `CollisionCategory` enum lists the collision groups of the game objects.
+ * Each category is a single bit, so sets of categories are plain `int` masks
+ * and checking whether two objects may collide is a bitwise AND.
+ *
+ * <p>
+ * Collision groups are independent from render layers: which categories
+ * collide with each other is configured in the `GameEngine`.
+ * </p>
+ *
+ * @see GameEngine
+ * @see GameObject
+ *
+ * @author Brandon Mejia
+ * @version 2025-05-20
+ */
+public enum CollisionCategory {
+    DEFAULT, // Objects without a specific group
+    PLAYER, // The player ship
+    ENEMY, // Enemy ships
+    PLAYER_BULLET, // Bullets fired by the player
+    ENEMY_BULLET, // Bullets fired by enemies
+    UI; // Menu and HUD objects, which never collide
+
+    /**
+     * Mask with every category set.
+     */
+    public static final int ALL = (1 << values().length) - 1;
+
+    /**
+     * Gets the bit that represents this category in collision masks.
+     *
+     * @return The category bit.
+     */
+    public int bit() {
+        return 1 << this.ordinal();
+    }
+
+    /**
+     * Gets the bits of the given categories combined into one mask.
+     *
+     * @param categories The categories to combine.
+     * @return The collision mask.
+     */
+    public static int mask(CollisionCategory... categories) {
+        int mask = 0;
+        for (CollisionCategory category : categories)
+            mask |= category.bit();
+
+        return mask;
+    }
+}
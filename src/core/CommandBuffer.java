@@ -0,0 +1,131 @@
+package core;
+
+import core.objectsInterface.IGameObject;
+
+import java.util.Arrays;
+
+/**
+ * The `CommandBuffer` class queues the structural changes of the `GameEngine`
+ * (adding, destroying and moving game objects between layers) so they are
+ * applied in one batch at a fixed point of the tick instead of while the layers
+ * are being iterated or from other threads at arbitrary times.
+ *
+ * <p>
+ * Any thread may record commands. The engine thread calls `apply()`, which swaps
+ * the recorded commands with an empty buffer and runs them in the order they
+ * were recorded. Both buffers are reused, so no allocation happens per command
+ * once they have grown to the working size.
+ * </p>
+ *
+ * @preConditions:
+ *                 - Only one thread calls `apply()` at a time.
+ *
+ * @postConditions:
+ *                  - Commands are applied exactly once, in recording order.
+ *                  - Commands recorded while `apply()` runs are kept for the
+ *                  next call.
+ *
+ * @see GameEngine
+ *
+ * @author Brandon Mejia
+ * @version 2025-05-20
+ */
+public class CommandBuffer {
+
+    /**
+     * The kinds of structural change.
+     */
+    public enum Op {
+        ADD, // Add the object to its layer
+        DESTROY, // Remove the object and release it to its pool
+        MOVE, // Move the object to its transform's current layer
+        DESTROY_ALL // Destroy every object in the engine (the target is ignored)
+    }
+
+    /**
+     * Applies the commands of a buffer.
+     */
+    public interface Executor {
+        /**
+         * Applies one command.
+         *
+         * @param op     The kind of change.
+         * @param target The game object the command refers to, or null.
+         */
+        void execute(Op op, IGameObject target);
+    }
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    // Buffer receiving new commands
+    private Op[] recordOps = new Op[INITIAL_CAPACITY];
+    private IGameObject[] recordTargets = new IGameObject[INITIAL_CAPACITY];
+    private int recordCount = 0;
+
+    // Buffer being applied
+    private Op[] applyOps = new Op[INITIAL_CAPACITY];
+    private IGameObject[] applyTargets = new IGameObject[INITIAL_CAPACITY];
+
+    /**
+     * Records a command.
+     *
+     * @param op     The kind of change.
+     * @param target The game object the command refers to. Must not be null,
+     *               except for `DESTROY_ALL`.
+     */
+    public synchronized void record(Op op, IGameObject target) {
+        if (this.recordCount == this.recordOps.length) {
+            int capacity = this.recordOps.length * 2;
+            this.recordOps = Arrays.copyOf(this.recordOps, capacity);
+            this.recordTargets = Arrays.copyOf(this.recordTargets, capacity);
+        }
+        this.recordOps[this.recordCount] = op;
+        this.recordTargets[this.recordCount] = target;
+        this.recordCount++;
+    }
+
+    /**
+     * Gets the number of commands waiting to be applied.
+     *
+     * @return The number of recorded commands.
+     */
+    public synchronized int size() {
+        return this.recordCount;
+    }
+
+    /**
+     * Applies every recorded command in recording order.
+     * Commands recorded by the executor itself are applied on the next call.
+     *
+     * @param executor The executor that performs the changes.
+     * @return The number of commands applied.
+     */
+    public int apply(Executor executor) {
+        Op[] ops;
+        IGameObject[] targets;
+        int count;
+        synchronized (this) {
+            count = this.recordCount;
+            if (count == 0)
+                return 0;
+
+            ops = this.recordOps;
+            targets = this.recordTargets;
+            this.recordOps = this.applyOps;
+            this.recordTargets = this.applyTargets;
+            this.recordCount = 0;
+        }
+
+        try {
+            for (int i = 0; i < count; i++)
+                executor.execute(ops[i], targets[i]);
+        } finally {
+            Arrays.fill(targets, 0, count, null);
+            synchronized (this) {
+                this.applyOps = ops;
+                this.applyTargets = targets;
+            }
+        }
+        return count;
+    }
+}
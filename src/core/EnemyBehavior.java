@@ -4,9 +4,6 @@ import core.behaviorItems.IEnemyMovement;
 import core.objectsInterface.IGameObject;
 import core.objectsInterface.ISoundEffects;
 import core.behaviorItems.IAttackStrategy;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
 import gui.IInputEvent;
 import assets.ImagesLoader;
 import geometry.Ponto;
@@ -40,6 +37,7 @@ import java.awt.image.BufferedImage;
  * @see core.behaviorItems.IAttackStrategy
  * @see core.EnemyGroupAttack.IGroupAttackStrategy
  * @see core.behaviorItems.IEnemyMovement
+ * @see core.TimerWheel
  *
  * @Author Brandon Mejia
  * @Version 2025-04-18
@@ -47,7 +45,7 @@ import java.awt.image.BufferedImage;
 public class EnemyBehavior extends Behavior {
 
     private IEnemyMovement movement; // The movement strategy used by the enemy
-    private static final ScheduledExecutorService localScheduler = Executors.newScheduledThreadPool(1);
+    private static final long EXPLOSION_MILLIS = 1000; // Time the explosion is shown
     private static List<BufferedImage> explosion = ImagesLoader.loadAnimationFrames("explosion.gif");
 
     /**
@@ -79,10 +77,21 @@ public class EnemyBehavior extends Behavior {
         this.go.rotateSpeed(0);
         this.movement = null;
         this.attackStrategy = null;
-        // Agenda para desabilitar o objeto após 2 segundos
-        localScheduler.schedule(() -> {
-            super.onDisabled();
-        }, 1, TimeUnit.SECONDS);
+        // Agenda para desabilitar o objeto após a explosão
+        this.schedule(this.ticks(EXPLOSION_MILLIS), super::onDisabled);
+    }
+
+    /**
+     * Handles the enemy leaving the world bounds.
+     * Disables it at once, without the explosion and the death sound.
+     */
+    @Override
+    public void onOutOfBounds() {
+        this.go.velocity(new Ponto(0, 0));
+        this.go.rotateSpeed(0);
+        this.movement = null;
+        this.attackStrategy = null;
+        super.onDisabled();
     }
 
     /**
@@ -105,13 +114,13 @@ public class EnemyBehavior extends Behavior {
     public IGameObject attack(IInputEvent ie) {
         if (this.attackStrategy != null && this.isAttacking && this.isEnabled()) {
             this.stopAttack();
-            long minDelay = 1500;
-            long maxDelay = 7000;
-            long randomDelay = minDelay + (long) (Math.random() * (maxDelay - minDelay));
+            long minDelay = 1500; // Milliseconds
+            long maxDelay = 7000; // Milliseconds
+            long randomDelay = minDelay + (long) (this.getRandom().nextDouble() * (maxDelay - minDelay));
             // Schedule to reset the attack flag after the specified attack duration
-            localScheduler.schedule(() -> {
+            this.schedule(this.ticks(randomDelay), () -> {
                 this.startAttack();
-            }, randomDelay, TimeUnit.MILLISECONDS);
+            });
 
             ISoundEffects soundEffects = this.go.soundEffects();
             if (soundEffects != null)
@@ -182,15 +191,18 @@ public class EnemyBehavior extends Behavior {
                 return;
 
             if (!movement.isActive()) {
-                // Generate a random delay between 700 and 2000 milliseconds
-                long minDelay = 800;
-                long maxDelay = 1500;
-                long randomDelay = minDelay + (long) (Math.random() * (maxDelay - minDelay));
-
-                // Schedule to reset the Movement flag after the specified Movement duration
-                localScheduler.schedule(() -> {
-                    this.movement.setActive(true);
-                }, randomDelay, TimeUnit.MILLISECONDS);
+                // Generate a random delay between 0.8 and 1.5 s
+                long minDelay = 800; // Milliseconds
+                long maxDelay = 1500; // Milliseconds
+                long randomDelay = minDelay + (long) (this.getRandom().nextDouble() * (maxDelay - minDelay));
+
+                // Schedule to reset the Movement flag after the specified Movement duration,
+                // unless the movement was replaced or removed in the meantime
+                IEnemyMovement paused = this.movement;
+                this.schedule(this.ticks(randomDelay), () -> {
+                    if (this.movement == paused)
+                        paused.setActive(true);
+                });
             }
         }
 
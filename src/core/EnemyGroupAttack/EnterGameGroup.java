@@ -4,9 +4,9 @@ import java.util.List;
 import core.objectsInterface.IGameObject;
 import geometry.Ponto;
 import java.util.ArrayList;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
+import java.util.SplittableRandom;
 import core.GameObject;
+import core.TimerWheel;
 import core.behaviorItems.EnterOverTopMovement;
 import core.behaviorItems.EnterSideMovement;
 import core.behaviorItems.FlyCircleMovement;
@@ -44,8 +44,9 @@ import java.util.concurrent.atomic.AtomicBoolean;
  *                  based on the defined pattern.
  *                  - Enemy movements will be activated according to their entry
  *                  direction and target positions.
- *                  - The scheduler will manage the timing of enemy group
- *                  entries and shut down after all groups are processed.
+ *                  - The timer wheel will manage the timing of enemy group
+ *                  entries; the relocation timer is cancelled after all
+ *                  groups are processed.
  * 
  * @see EnemyGridMapper
  * @see IGroupAttackStrategy
@@ -64,10 +65,16 @@ public class EnterGameGroup implements IGroupAttackStrategy {
     private int currentGroup = 0;
     /** Number of enemies in each group. */
     private int[] groupSizes = { 8, 8, 8, 8, 8 };
-    /** Delay between group entries in frames. */
-    private int groupDelayFrames = 30;
-    /** Scheduler for managing timed tasks. */
-    private ScheduledExecutorService scheduler;
+    /** Delay before the first group enters, in milliseconds. */
+    private long firstGroupDelayMillis = 1500;
+    /** Delay between group entries in milliseconds. */
+    private long groupDelayMillis = 3000;
+    /** Delay between the entries of two enemies of a group, in milliseconds. */
+    private long enemyDelayMillis = 230;
+    /** Timer wheel for managing timed tasks. */
+    private TimerWheel timers;
+    /** Random generator choosing the patterns; injected with `setRandom()`. */
+    private SplittableRandom random = null;
     /** Pattern defining enemy priorities. */
     private int[][] pattern = {
             { 0, 0, 0, 2, 2, 2, 2, 0, 0, 0 },
@@ -81,6 +88,9 @@ public class EnterGameGroup implements IGroupAttackStrategy {
     /** Manages the grid of enemies. */
     private EnemyGridMapper enemyGridMapper;
 
+    /** The timer relocating the groups, cancelled after the last one. */
+    private TimerWheel.Timer relocation;
+
     /** Tracks whether movement patterns have been assigned. */
     private AtomicBoolean patternsAssigned = new AtomicBoolean(false);
 
@@ -133,11 +143,11 @@ public class EnterGameGroup implements IGroupAttackStrategy {
      * @param enemies List of enemies to be relocated.
      */
     public synchronized void startRelocateEnemies(List<IGameObject> enemies) {
-        scheduler.scheduleAtFixedRate(() -> {
+        this.relocation = timers.scheduleAtFixedRate(timers.ticks(firstGroupDelayMillis), timers.ticks(groupDelayMillis), () -> {
             synchronized (enemies) {
                 relocateEnemies(enemies);
             }
-        }, 1500, groupDelayFrames * 100, TimeUnit.MILLISECONDS);
+        });
     }
 
     /**
@@ -154,11 +164,13 @@ public class EnterGameGroup implements IGroupAttackStrategy {
                 this.assignAttackPatterns(enemies);
                 this.isGroupAttackComplete = true;
             }
+            this.relocation.cancel();
             return;
         }
+        long enemyDelayTicks = timers.ticks(enemyDelayMillis);
         for (int i = 0; i < groupSizes[currentGroup - 1]; i++) {
             final int enemyIndex = i + ((currentGroup - 1) * 8); // 8 enemies per group
-            scheduler.schedule(() -> {
+            timers.schedule(1 + i * enemyDelayTicks, () -> {
                 GameObject enemy = (GameObject) enemies.get(enemyIndex);
                 Ponto targetPosition = positions.get(enemyIndex);
 
@@ -181,7 +193,7 @@ public class EnterGameGroup implements IGroupAttackStrategy {
                 EnemyBehavior behavior = (EnemyBehavior) enemy.behavior();
                 behavior.setMovement(movement);
                 movement.setActive(true);
-            }, i * 230, TimeUnit.MILLISECONDS);
+            });
         }
     }
 
@@ -195,12 +207,38 @@ public class EnterGameGroup implements IGroupAttackStrategy {
     }
 
     /**
-     * Sets the scheduler for managing timed tasks.
+     * Sets the timer wheel for managing timed tasks.
+     *
+     * @param timers The `TimerWheel` to use for scheduling tasks.
+     */
+    @Override
+    public void setTimerWheel(TimerWheel timers) {
+        this.timers = timers;
+    }
+
+    /**
+     * Sets the random generator choosing the movement and attack patterns, such
+     * as the seeded generator of the game engine.
      *
-     * @param scheduler The `ScheduledExecutorService` to use for scheduling tasks.
+     * @param random The random generator.
      */
-    public void setScheduler(ScheduledExecutorService scheduler) {
-        this.scheduler = scheduler;
+    public void setRandom(SplittableRandom random) {
+        if (random == null)
+            throw new IllegalArgumentException("EnterGameGroup:iv");
+        this.random = random;
+    }
+
+    /**
+     * Gets the random generator choosing the patterns. There is no unseeded
+     * fallback, so a seeded game never takes an unseeded decision.
+     *
+     * @return The random generator.
+     * @throws IllegalStateException if no generator was set.
+     */
+    private SplittableRandom random() {
+        if (this.random == null)
+            throw new IllegalStateException("EnterGameGroup: no random generator was set");
+        return this.random;
     }
 
     /**
@@ -221,8 +259,11 @@ public class EnterGameGroup implements IGroupAttackStrategy {
      * them.
      *
      * @param enemies A list of `IGameObject` instances representing the enemies.
+     * @throws IllegalStateException if no random generator was set.
      */
     private void assignMovementPatterns(List<IGameObject> enemies) {
+        SplittableRandom random = this.random();
+
         // Predefined movement pattern 1
         int[][] movementPattern1 = {
                 { 0, 0, 0, 0, 1, 0, 0, 0, 0, 0 },
@@ -251,7 +292,7 @@ public class EnterGameGroup implements IGroupAttackStrategy {
         };
 
         // Randomly select one of the three movement patterns
-        int[][] movementPattern = switch ((int) (Math.random() * 3)) {
+        int[][] movementPattern = switch (random.nextInt(3)) {
             case 0 -> movementPattern1;
             case 1 -> movementPattern2;
             default -> movementPattern3;
@@ -290,8 +331,11 @@ public class EnterGameGroup implements IGroupAttackStrategy {
      * them.
      *
      * @param enemies A list of `IGameObject` instances representing the enemies.
+     * @throws IllegalStateException if no random generator was set.
      */
     private void assignAttackPatterns(List<IGameObject> enemies) {
+        SplittableRandom random = this.random();
+
         int[][] attackPattern1 = {
                 { 0, 0, 0, 1, 0, 0, 1, 0, 0, 0 },
                 { 0, 0, 0, 0, 0, 0, 0, 0, 1, 0 },
@@ -307,7 +351,7 @@ public class EnterGameGroup implements IGroupAttackStrategy {
                 { 0, 0, 0, 0, 0, 0, 0, 0, 0, 0 }
         };
 
-        int[][] attackPattern = switch ((int) (Math.random() * 2)) {
+        int[][] attackPattern = switch (random.nextInt(2)) {
             case 0 -> attackPattern1;
             default -> attackPattern2;
         };
@@ -2,7 +2,7 @@ package core.EnemyGroupAttack;
 
 import java.util.List;
 import core.objectsInterface.IGameObject;
-import java.util.concurrent.ScheduledExecutorService;
+import core.TimerWheel;
 
 /**
  * Interface for defining group attack strategies.
@@ -88,18 +88,17 @@ public interface IGroupAttackStrategy {
     boolean isGroupAttackComplete();
 
     /**
-     * Sets the scheduler service for managing timed operations in the group attack
+     * Sets the timer wheel for managing timed operations in the group attack
      * strategy.
-     * This method provides the strategy with a scheduler to coordinate the timing
-     * of enemy
-     * movements and group formations.
+     * This method provides the strategy with the wheel of the game engine to
+     * coordinate the timing of enemy movements and group formations on the game
+     * thread, with delays measured in ticks.
      *
-     * @param scheduler The ScheduledExecutorService instance to be used for timing
-     *                  operations.
-     *                  Must not be null to ensure proper execution of timed enemy
-     *                  movements.
-     * 
-     * @see java.util.concurrent.ScheduledExecutorService
+     * @param timers The TimerWheel instance to be used for timing operations.
+     *               Must not be null to ensure proper execution of timed enemy
+     *               movements.
+     *
+     * @see core.TimerWheel
      */
-    void setScheduler(ScheduledExecutorService scheduler);
-}
\ No newline at end of file
+    void setTimerWheel(TimerWheel timers);
+}
@@ -2,11 +2,10 @@ package core.EnemyGroupAttack;
 
 import java.util.List;
 import java.util.ArrayList;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
 
 import core.objectsInterface.IGameObject;
 import core.EnemyBehavior;
+import core.TimerWheel;
 import core.behaviorItems.ZigzagMovement;
 import core.behaviorItems.IEnemyMovement;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -45,8 +44,10 @@ public class ZigzagGroup implements IGroupAttackStrategy {
     private ArrayList<IGameObject> enemies;
     /** Stores the previous movements of the enemies. */
     private ArrayList<IEnemyMovement> previousMovements = new ArrayList<>();
-    /** Scheduler for managing timed tasks. */
-    private ScheduledExecutorService scheduler;
+    /** Timer wheel for managing timed tasks. */
+    private TimerWheel timers;
+    /** Milliseconds before the previous movements are restored. */
+    private static final long RESTORE_MILLIS = 5000;
     /** Tracks whether the zigzag movement process is complete. */
     private AtomicBoolean processComplete = new AtomicBoolean(false);
 
@@ -79,12 +80,12 @@ public class ZigzagGroup implements IGroupAttackStrategy {
                         enemyBehavior.setMovement(zigzagMovement);
                         zigzagMovement.setActive(true);
 
-                        scheduler.schedule(() -> {
+                        timers.schedule(timers.ticks(RESTORE_MILLIS), () -> {
                             if (!processComplete.get() && currentMovement != null) {
                                 enemyBehavior.setMovement(currentMovement);
                                 currentMovement.setActive(true);
                             }
-                        }, 5000, TimeUnit.MILLISECONDS);
+                        });
                     }
                     index++;
                 }
@@ -147,12 +148,12 @@ public class ZigzagGroup implements IGroupAttackStrategy {
     }
 
     /**
-     * Sets the scheduler for managing timed tasks.
+     * Sets the timer wheel for managing timed tasks.
      *
-     * @param scheduler The `ScheduledExecutorService` to use for scheduling tasks.
+     * @param timers The `TimerWheel` to use for scheduling tasks.
      */
     @Override
-    public void setScheduler(ScheduledExecutorService scheduler) {
-        this.scheduler = scheduler;
+    public void setTimerWheel(TimerWheel timers) {
+        this.timers = timers;
     }
 }
\ No newline at end of file
@@ -1,14 +1,15 @@
 package core;
 
+import core.objectsInterface.ICollider;
 import core.objectsInterface.IGameEngine;
 import core.objectsInterface.IGameObject;
 import gui.*;
 
 import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.Map;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
 import java.util.List;
+import java.util.SplittableRandom;
 
 /**
  * The `GameEngine` class manages game objects, their layers, and updates.
@@ -35,12 +36,22 @@ import java.util.List;
  * @version 2025-04-16
  */
 public class GameEngine implements IGameEngine {
-    // Stores game objects organized by layers
-    private HashMap<Integer, CopyOnWriteArrayList<IGameObject>> layeredGameObjects;
-    private ArrayList<IGameObject> disabledGameObjects;
+    // Stores game objects organized by layers; also the lock guarding them
+    private final LayerStore objects;
 
-    // Tracks the total number of game objects
-    private int totalObjects;
+    // Structural changes waiting for the next sync point of the tick
+    private final CommandBuffer commands = new CommandBuffer();
+    private final CommandBuffer.Executor commandExecutor = this::executeCommand;
+
+    // Timed game logic, advanced once per tick on the game thread
+    private final TimerWheel timers = new TimerWheel();
+
+    // Work posted by other threads, run on the game thread at the start of each tick
+    private final Mailbox mailbox = new Mailbox();
+
+    // Source of every random decision of the simulation; the same seed and inputs give the same game
+    private final long seed;
+    private final SplittableRandom random;
 
     // Input and Sound event handler
     private IInputEvent inputStatus;
@@ -48,6 +59,29 @@ public class GameEngine implements IGameEngine {
     private IGuiBridge gui;
     private IGameObject player;
 
+    // Fixed-timestep loop settings
+    private static final long MAX_FRAME_NANOS = TimeUnit.MILLISECONDS.toNanos(250); // Clamp for long hitches
+    private static final int MAX_TICKS_PER_FRAME = 5; // Upper bound of catch-up ticks per rendered frame
+    private int tickRate = 60; // Simulation ticks per second
+    private int frameRate = 120; // Maximum rendered frames per second
+    private long tickCount = 0; // Number of simulation ticks executed
+    private volatile boolean running = false;
+    private volatile boolean uncapped = false; // Ticks back to back, without waiting for the clock
+
+    // Collision broadphase, reused every tick
+    private static final double DEFAULT_COLLISION_CELL_SIZE = 64;
+    private final SpatialHashGrid collisionGrid = new SpatialHashGrid(DEFAULT_COLLISION_CELL_SIZE);
+    private final HashMap<IGameObject, ArrayList<IGameObject>> collisionMap = new HashMap<>();
+    private final SpatialHashGrid.PairVisitor pairVisitor = this::checkPair;
+
+    // Category-vs-category collision matrix, one mask of category bits per category
+    private final int[] collisionRules = new int[CollisionCategory.values().length];
+
+    // World bounds: objects that leave them (plus the margin) are culled
+    private boolean hasWorldBounds = false;
+    private double worldMinX, worldMinY, worldMaxX, worldMaxY;
+    private long culledCount = 0; // Number of objects culled for leaving the world bounds
+
     /**
      * Validates the invariant for the `GameEngine` class.
      * Ensures that the provided `IGuiBridge` instance is not null.
@@ -65,20 +99,32 @@ public class GameEngine implements IGameEngine {
     }
 
     /**
-     * Constructs a new `GameEngine` instance.
-     * Initializes the layered game objects map and sets the total object count to
-     * zero.
+     * Constructs a new `GameEngine` instance with a random seed.
+     * Initializes the empty layer store.
      *
      * @param gui The GUI bridge used for input and rendering.
      */
     public GameEngine(IGuiBridge gui) {
+        this(gui, new SplittableRandom().nextLong());
+    }
+
+    /**
+     * Constructs a new `GameEngine` instance whose random decisions come from a
+     * seeded generator. Two engines with the same seed that receive the same
+     * input on the same ticks simulate the same game.
+     *
+     * @param gui  The GUI bridge used for input and rendering.
+     * @param seed The seed of the random generator.
+     */
+    public GameEngine(IGuiBridge gui, long seed) {
         invariante(gui);
 
-        this.layeredGameObjects = new HashMap<>();
-        this.disabledGameObjects = new ArrayList<>();
-        this.totalObjects = 0;
+        this.seed = seed;
+        this.random = new SplittableRandom(seed);
+        this.objects = new LayerStore();
         this.gui = gui;
-        this.inputStatus = this.gui.getInputEvent();
+        this.setInputEvent(this.gui.getInputEvent());
+        this.setDefaultCollisionRules();
     }
 
     public void setPlayer(IGameObject player) {
@@ -86,42 +132,230 @@ public class GameEngine implements IGameEngine {
     }
 
     /**
-     * Adds a `GameObject` to the engine.
-     * If the layer does not exist, it creates a new layer.
+     * Sets the input read by the game objects, such as the input of the GUI, an
+     * `InputRecorder` wrapping it or a `ReplayInputEvent`.
+     *
+     * @param input The input. Must not be null.
+     */
+    public void setInputEvent(IInputEvent input) {
+        if (input == null)
+            throw new IllegalArgumentException("GameEngine: input cannot be null");
+        if (input instanceof InputEvent inputEvent)
+            inputEvent.setMailbox(this.mailbox); // Input changes are applied at the start of each tick
+        this.inputStatus = input;
+    }
+
+    /**
+     * Gets the input read by the game objects.
+     *
+     * @return The input.
+     */
+    public IInputEvent getInputEvent() {
+        return this.inputStatus;
+    }
+
+    /**
+     * Gets the timer wheel of the engine. Its timers are measured in ticks and
+     * run on the game thread at the start of each tick. The behaviors of the
+     * objects added to the engine use it for their timed logic.
+     *
+     * @return The timer wheel.
+     */
+    public TimerWheel getTimerWheel() {
+        return this.timers;
+    }
+
+    /**
+     * Gets the mailbox of the engine. Other threads post to it the work that
+     * changes game objects or schedules timers; it runs on the game thread at
+     * the start of the next tick.
+     *
+     * @return The mailbox.
+     */
+    public Mailbox getMailbox() {
+        return this.mailbox;
+    }
+
+    /**
+     * Gets the seed of the random generator of the engine, so a game can be
+     * replayed.
+     *
+     * @return The seed.
+     */
+    public long getSeed() {
+        return this.seed;
+    }
+
+    /**
+     * Gets the random generator of the engine. The behaviors of the objects
+     * added to the engine use it for their random decisions. It must only be
+     * used on the game thread.
+     *
+     * @return The random generator.
+     */
+    public SplittableRandom getRandom() {
+        return this.random;
+    }
+
+    /**
+     * Runs a task on the game thread at the start of the next tick. Can be called
+     * from any thread.
+     *
+     * @param task The task to run.
+     */
+    public void post(Runnable task) {
+        this.mailbox.post(task);
+    }
+
+    /**
+     * Sets the number of simulation ticks per second.
+     * Velocities and per-tick timers are expressed per tick, so this value
+     * controls the game speed independently of the rendering rate.
+     *
+     * @param tickRate The tick rate in Hz. Must be greater than 0.
+     */
+    public void setTickRate(int tickRate) {
+        if (tickRate <= 0)
+            throw new IllegalArgumentException("GameEngine: tick rate must be positive");
+        this.tickRate = tickRate;
+        this.timers.setTickRate(tickRate);
+    }
+
+    /**
+     * Gets the number of simulation ticks per second.
+     *
+     * @return The tick rate in Hz.
+     */
+    public int getTickRate() {
+        return this.tickRate;
+    }
+
+    /**
+     * Sets the maximum number of frames rendered per second.
+     *
+     * @param frameRate The frame rate cap in Hz. Must be greater than 0.
+     */
+    public void setFrameRate(int frameRate) {
+        if (frameRate <= 0)
+            throw new IllegalArgumentException("GameEngine: frame rate must be positive");
+        this.frameRate = frameRate;
+    }
+
+    /**
+     * Runs the ticks back to back, as fast as the CPU allows, instead of at the
+     * tick rate. The simulation is the same, only faster; the tick rate still
+     * converts ticks to simulation time. Meant for headless soak tests and
+     * throughput measurements. Takes effect when `run()` starts.
+     *
+     * @param uncapped True to run without waiting, false to run at the tick
+     *                 rate.
+     */
+    public void setUncapped(boolean uncapped) {
+        this.uncapped = uncapped;
+    }
+
+    /**
+     * Checks if the ticks run back to back instead of at the tick rate.
+     *
+     * @return True if the loop is uncapped.
+     */
+    public boolean isUncapped() {
+        return this.uncapped;
+    }
+
+    /**
+     * Gets the number of simulation ticks executed since the engine started.
+     *
+     * @return The tick counter.
+     */
+    public long getTickCount() {
+        return this.tickCount;
+    }
+
+    /**
+     * Adds a `GameObject` to the engine, at the end of its layer.
+     * The object is added at the next sync point of the tick (see
+     * `applyCommands()`). Has no effect if the object is already in the engine.
      *
      * @param go The `GameObject` to add.
      */
     public void add(IGameObject go) {
-        int layer = go.transform().layer();
-        if (!layeredGameObjects.containsKey(layer))
-            layeredGameObjects.put(layer, new CopyOnWriteArrayList<>());
-
-        layeredGameObjects.get(layer).add(go);
-        this.totalObjects++;
+        this.commands.record(CommandBuffer.Op.ADD, go);
     }
 
     /**
-     * Removes a `GameObject` from the engine.
-     * If the layer becomes empty after removal, it deletes the layer.
+     * Removes a `GameObject` from the engine at the next sync point of the tick.
+     * Pooled objects are then returned to their pool and may be reused
+     * afterwards.
      *
      * @param go The `GameObject` to remove.
      */
     @Override
     public void destroy(IGameObject go) {
-        int layer = go.transform().layer();
-        if (layeredGameObjects.containsKey(layer)) {
-            layeredGameObjects.get(layer).remove(go);
-            this.totalObjects--;
-            if (layeredGameObjects.get(layer).isEmpty()) // Remove the list if it is empty
-                layeredGameObjects.remove(layer);
+        this.commands.record(CommandBuffer.Op.DESTROY, go);
+    }
+
+    /**
+     * Applies the queued structural changes (adds, destroys and layer moves) in
+     * the order they were requested. This is the sync point of the tick: it runs
+     * after every object has been updated and before collisions are checked.
+     * Changes requested by other threads at any time are applied here as well.
+     *
+     * @return The number of changes applied.
+     */
+    public int applyCommands() {
+        synchronized (this.objects) {
+            return this.commands.apply(this.commandExecutor);
         }
     }
 
-    public CopyOnWriteArrayList<IGameObject> get(int layer) {
-        if (!layeredGameObjects.containsKey(layer))
-            return null;
+    /**
+     * Applies one queued structural change.
+     *
+     * @param op The kind of change.
+     * @param go The `GameObject` it refers to.
+     */
+    private void executeCommand(CommandBuffer.Op op, IGameObject go) {
+        switch (op) {
+            case ADD -> {
+                if (go.behavior() instanceof Behavior behavior) {
+                    behavior.setTimerWheel(this.timers);
+                    behavior.setRandom(this.random);
+                }
+                this.objects.add(go);
+            }
+            case DESTROY -> this.remove(go);
+            case MOVE -> {
+                if (this.objects.remove(go))
+                    this.objects.add(go);
+            }
+            case DESTROY_ALL -> {
+                for (IGameObject stored : this.objects.toList())
+                    this.remove(stored);
+            }
+        }
+    }
 
-        return layeredGameObjects.get(layer);
+    /**
+     * Removes a `GameObject` from its layer and returns it to its pool.
+     *
+     * @param go The `GameObject` to remove.
+     */
+    private void remove(IGameObject go) {
+        if (this.objects.remove(go) && go instanceof GameObject gameObject)
+            gameObject.release();
+    }
+
+    /**
+     * Returns a copy of the `GameObject`s of a layer.
+     *
+     * @param layer The layer.
+     * @return The objects of the layer; empty if the layer has no objects.
+     */
+    public List<IGameObject> get(int layer) {
+        synchronized (this.objects) {
+            return this.objects.toList(layer);
+        }
     }
 
     /**
@@ -130,7 +364,9 @@ public class GameEngine implements IGameEngine {
      * @return The total number of `GameObject`s.
      */
     public int size() {
-        return this.totalObjects;
+        synchronized (this.objects) {
+            return this.objects.size();
+        }
     }
 
     /**
@@ -141,131 +377,258 @@ public class GameEngine implements IGameEngine {
      * layer,
      * it is moved to the appropriate layer.
      *
+     * <p>
+     * Disabled objects, new attacks and layer moves are queued while the layers
+     * are iterated and applied together with the changes requested by other
+     * threads by `applyCommands()`, once every object has been updated.
+     * </p>
      */
     public void onUpdate() {
-        ArrayList<IGameObject> objectsToMove = new ArrayList<>();
-        ArrayList<IGameObject> attacksToAdd = new ArrayList<>();
+        synchronized (this.objects) {
+            this.objects.beginIteration();
+            try {
+                int layerCount = this.objects.layerCount();
+                for (int layer = 0; layer < layerCount; layer++) {
+                    int count = this.objects.size(layer);
+                    for (int i = 0; i < count; i++) {
+                        IGameObject go = this.objects.get(layer, i);
+                        if (go != null)
+                            this.updateObject(go, layer);
+                    }
+                }
+            } finally {
+                this.objects.endIteration();
+            }
+        }
+        this.applyCommands();
+    }
 
-        for (Map.Entry<Integer, CopyOnWriteArrayList<IGameObject>> entry : layeredGameObjects.entrySet()) {
-            List<IGameObject> layerObjects = entry.getValue();
-            if (layerObjects == null)
-                continue;
+    /**
+     * Updates one `GameObject` and queues the work that changes the layers:
+     * disabled objects, new attacks and layer moves.
+     *
+     * @param go    The `GameObject` to update.
+     * @param layer The layer the object is stored in.
+     */
+    private void updateObject(IGameObject go, int layer) {
+        go.transform().storeTickState();
 
-            for (IGameObject go : layerObjects) {
+        if (this.isDisabled(go)) {
+            this.commands.record(CommandBuffer.Op.DESTROY, go);
+            return; // Skip this object if it is disabled
+        }
 
-                if (this.isDisabled(go)) {
-                    this.disabledGameObjects.add(go);
-                    continue; // Skip this object if it is disabled
-                }
-                int originalLayer = entry.getKey();
+        go.behavior().onUpdate(this.inputStatus);
 
-                if (go.transform() != null)
-                    originalLayer = go.transform().layer();
+        if (this.isOutOfBounds(go)) {
+            go.behavior().onOutOfBounds();
+            this.culledCount++;
+        }
 
-                go.behavior().onUpdate(this.inputStatus);
+        IGameObject attack = go.behavior().attack(this.inputStatus);
+        if (attack != null)
+            this.addEnable(attack);
 
-                IGameObject attack = go.behavior().attack(this.inputStatus);
-                if (attack != null)
-                    attacksToAdd.add(attack);
+        if (go.transform().layer() != layer)
+            this.commands.record(CommandBuffer.Op.MOVE, go);
+    }
 
-                int newLayer = go.transform().layer();
-                if (originalLayer != newLayer)
-                    objectsToMove.add(go);
-            }
-        }
+    /**
+     * Sets the playfield bounds. Objects whose collider lies completely outside
+     * the bounds expanded by the margin are culled: their behavior receives
+     * `onOutOfBounds()`, which disables them by default, and they are destroyed
+     * (and recycled, if pooled) on the next update.
+     * The player, the objects of layer 0 and `UI` objects are never culled.
+     *
+     * @param minX   The minimum x of the playfield.
+     * @param minY   The minimum y of the playfield.
+     * @param maxX   The maximum x of the playfield.
+     * @param maxY   The maximum y of the playfield.
+     * @param margin The distance objects may travel past the playfield before
+     *               being culled. Must not be negative.
+     */
+    public void setWorldBounds(double minX, double minY, double maxX, double maxY, double margin) {
+        if (minX >= maxX || minY >= maxY || margin < 0)
+            throw new IllegalArgumentException("GameEngine: invalid world bounds");
+
+        this.worldMinX = minX - margin;
+        this.worldMinY = minY - margin;
+        this.worldMaxX = maxX + margin;
+        this.worldMaxY = maxY + margin;
+        this.hasWorldBounds = true;
+    }
 
-        for (IGameObject go : objectsToMove) {
-            destroy(go);
-            add(go);
-        }
-        for (IGameObject go : attacksToAdd)
-            addEnable(go);
+    /**
+     * Removes the world bounds, so no object is culled.
+     */
+    public void clearWorldBounds() {
+        this.hasWorldBounds = false;
+    }
 
-        for (IGameObject go : this.disabledGameObjects) {
-            this.destroy(go);
-        }
-        this.disabledGameObjects.clear();
+    /**
+     * Gets the number of objects culled for leaving the world bounds.
+     *
+     * @return The number of culled objects.
+     */
+    public long getCulledCount() {
+        return this.culledCount;
+    }
+
+    /**
+     * Checks if an object has left the world bounds.
+     *
+     * @param go The object to check.
+     * @return True if the object's collider lies completely outside the bounds.
+     */
+    private boolean isOutOfBounds(IGameObject go) {
+        if (!this.hasWorldBounds || go == this.player || go.transform().layer() == 0 ||
+                go.category() == CollisionCategory.UI)
+            return false;
+
+        ICollider collider = go.collider();
+        return collider.maxX() < this.worldMinX || collider.minX() > this.worldMaxX ||
+                collider.maxY() < this.worldMinY || collider.minY() > this.worldMaxY;
     }
 
     /**
      * Checks for collisions for all enabled objects.
      * Calls `Behavior.onCollision(go)` for all enabled `GameObject`s,
      * passing in the list of all the objects that collided with each `IGameObject`.
+     *
+     * <p>
+     * All layers share one `SpatialHashGrid`, so only objects sharing a grid cell
+     * are considered. Candidate pairs are filtered by their collision categories
+     * (see `setCollisionRule`) and masks before `ICollider.colision` is called.
+     * </p>
      */
     @Override
     public void checkCollision() {
-        // Primeiro, verifica colisões dentro da mesma camada
-        for (CopyOnWriteArrayList<IGameObject> layerObjects : layeredGameObjects.values()) {
-            if (layerObjects.isEmpty())
-                continue;
-
-            Map<IGameObject, ArrayList<IGameObject>> layerCollisionMap = new HashMap<>();
-            for (IGameObject obj : layerObjects) {
-                layerCollisionMap.put(obj, new ArrayList<>());
+        synchronized (this.objects) {
+            this.collisionGrid.clear();
+            int layerCount = this.objects.layerCount();
+            for (int layer = 0; layer < layerCount; layer++) {
+                int count = this.objects.size(layer);
+                for (int i = 0; i < count; i++)
+                    this.collisionGrid.insert(this.objects.get(layer, i));
             }
 
-            for (int i = 0; i < layerObjects.size(); i++) {
-                IGameObject currentObject = layerObjects.get(i);
-
-                for (int j = i + 1; j < layerObjects.size(); j++) {
-                    IGameObject other = layerObjects.get(j);
-
-                    if (shouldSkipCollision(currentObject, other))
-                        continue;
-
-                    if (currentObject.collider().colision(other.collider())) {
-                        layerCollisionMap.get(currentObject).add(other);
-                        layerCollisionMap.get(other).add(currentObject);
+            this.collisionGrid.forEachPair(this.pairVisitor);
+            if (this.collisionMap.isEmpty())
+                return;
+
+            this.objects.beginIteration();
+            try {
+                for (int layer = 0; layer < layerCount; layer++) {
+                    int count = this.objects.size(layer);
+                    for (int i = 0; i < count; i++) {
+                        IGameObject gameObject = this.objects.get(layer, i);
+                        ArrayList<IGameObject> collidedWith = gameObject == null ? null
+                                : this.collisionMap.get(gameObject);
+                        if (collidedWith != null)
+                            gameObject.behavior().onCollision(collidedWith);
                     }
-
-                }
-            }
-
-            for (IGameObject gameObject : layerObjects) {
-                ArrayList<IGameObject> collidedWith = layerCollisionMap.get(gameObject);
-                if (!collidedWith.isEmpty()) {
-                    gameObject.behavior().onCollision(collidedWith);
                 }
+            } finally {
+                this.objects.endIteration();
+                this.collisionMap.clear();
             }
         }
+    }
 
-        // Agora, verifica colisões entre camadas diferentes, focando no jogador
-        if (player != null) {
-            int playerLayer = player.transform().layer();
-
-            for (Map.Entry<Integer, CopyOnWriteArrayList<IGameObject>> entry : layeredGameObjects.entrySet()) {
-                int currentLayer = entry.getKey();
+    /**
+     * Tests a candidate pair found by the broadphase and records the collision
+     * for both objects.
+     *
+     * @param a The first object of the pair.
+     * @param b The second object of the pair.
+     */
+    private void checkPair(IGameObject a, IGameObject b) {
+        if (!shouldCollide(a, b))
+            return;
 
-                // Pula se for a mesma camada do jogador, pois já foi verificada
-                if (currentLayer == playerLayer || currentLayer == 0)
-                    continue;
+        if (a.collider().colision(b.collider())) {
+            this.collisionMap.computeIfAbsent(a, k -> new ArrayList<>()).add(b);
+            this.collisionMap.computeIfAbsent(b, k -> new ArrayList<>()).add(a);
+        }
+    }
 
-                CopyOnWriteArrayList<IGameObject> layerObjects = entry.getValue();
-                for (IGameObject obj : layerObjects) {
-                    if (shouldSkipCollision(player, obj) || obj.name().contains("Bullet"))
-                        continue;
+    /**
+     * Checks if two objects may collide: their categories must be allowed to
+     * collide by the engine rules, and each one's category must be accepted by
+     * the other's collision mask.
+     *
+     * @param a The first object.
+     * @param b The second object.
+     * @return True if the pair must be tested.
+     */
+    private boolean shouldCollide(IGameObject a, IGameObject b) {
+        CollisionCategory categoryA = a.category();
+        CollisionCategory categoryB = b.category();
+        return (this.collisionRules[categoryA.ordinal()] & categoryB.bit()) != 0 &&
+                (a.collisionMask() & categoryB.bit()) != 0 &&
+                (b.collisionMask() & categoryA.bit()) != 0;
+    }
 
-                    if (player.collider().colision(obj.collider())) {
-                        // Cria listas temporárias para armazenar as colisões
-                        ArrayList<IGameObject> playerCollisions = new ArrayList<>();
-                        ArrayList<IGameObject> objCollisions = new ArrayList<>();
+    /**
+     * Allows or forbids collisions between two categories. The rule is
+     * symmetric.
+     *
+     * @param a       The first category.
+     * @param b       The second category.
+     * @param collide True if objects of the two categories collide.
+     */
+    public void setCollisionRule(CollisionCategory a, CollisionCategory b, boolean collide) {
+        if (collide) {
+            this.collisionRules[a.ordinal()] |= b.bit();
+            this.collisionRules[b.ordinal()] |= a.bit();
+        } else {
+            this.collisionRules[a.ordinal()] &= ~b.bit();
+            this.collisionRules[b.ordinal()] &= ~a.bit();
+        }
+    }
 
-                        playerCollisions.add(obj);
-                        objCollisions.add(player);
+    /**
+     * Checks if two categories are allowed to collide.
+     *
+     * @param a The first category.
+     * @param b The second category.
+     * @return True if objects of the two categories collide.
+     */
+    public boolean canCollide(CollisionCategory a, CollisionCategory b) {
+        return (this.collisionRules[a.ordinal()] & b.bit()) != 0;
+    }
 
-                        // Notifica ambos os objetos sobre a colisão
-                        player.behavior().onCollision(playerCollisions);
-                        obj.behavior().onCollision(objCollisions);
-                    }
-                }
-            }
-        }
+    /**
+     * Sets the default collision rules: the player collides with enemies and
+     * enemy bullets, enemies collide with player bullets, and uncategorized
+     * objects collide with every category except `UI`.
+     */
+    private void setDefaultCollisionRules() {
+        this.setCollisionRule(CollisionCategory.PLAYER, CollisionCategory.ENEMY, true);
+        this.setCollisionRule(CollisionCategory.PLAYER, CollisionCategory.ENEMY_BULLET, true);
+        this.setCollisionRule(CollisionCategory.ENEMY, CollisionCategory.PLAYER_BULLET, true);
+        for (CollisionCategory category : CollisionCategory.values())
+            if (category != CollisionCategory.UI)
+                this.setCollisionRule(CollisionCategory.DEFAULT, category, true);
     }
 
-    private boolean shouldSkipCollision(IGameObject obj1, IGameObject obj2) {
-        return (obj1.name().contains("Enemy") && obj2.name().contains("Enemy")) ||
-                (obj1.name().contains("Bullet") && obj2.name().contains("Bullet"));
+    /**
+     * Sets the side length of the cells used by the collision broadphase.
+     * Cells roughly the size of the largest common object give the best results.
+     *
+     * @param cellSize The cell size in world units. Must be greater than 0.
+     */
+    public void setCollisionCellSize(double cellSize) {
+        this.collisionGrid.setCellSize(cellSize);
+    }
 
+    /**
+     * Gets the side length of the cells used by the collision broadphase.
+     *
+     * @return The cell size in world units.
+     */
+    public double getCollisionCellSize() {
+        return this.collisionGrid.getCellSize();
     }
 
     /**
@@ -287,7 +650,7 @@ public class GameEngine implements IGameEngine {
     @Override
     public void addDisable(IGameObject go) {
         this.disable(go);
-        this.disabledGameObjects.add(go);
+        this.destroy(go);
     }
 
     /**
@@ -334,23 +697,12 @@ public class GameEngine implements IGameEngine {
 
     /**
      * Destroys all `GameObject`s in the engine.
-     * Iterates through all layers and removes all `GameObject`s.
+     * The objects stored when the queued changes reach this command are removed;
+     * objects added by later commands are kept.
      */
     @Override
     public void destroyAll() {
-        ArrayList<IGameObject> objectsToDestroy = new ArrayList<>();
-
-        // Primeiro, colete todos os objetos que precisam ser destruídos
-        for (CopyOnWriteArrayList<IGameObject> layerObjects : layeredGameObjects.values()) {
-            if (layerObjects != null && !layerObjects.isEmpty()) {
-                objectsToDestroy.addAll(layerObjects);
-            }
-        }
-
-        // Depois, destrua cada objeto individualmente
-        for (IGameObject go : objectsToDestroy) {
-            destroy(go);
-        }
+        this.commands.record(CommandBuffer.Op.DESTROY_ALL, null);
     }
 
     /**
@@ -359,60 +711,143 @@ public class GameEngine implements IGameEngine {
      */
     @Override
     public void enableAll() {
-        for (CopyOnWriteArrayList<IGameObject> layerObjects : layeredGameObjects.values()) {
-            if (layerObjects == null || layerObjects.isEmpty())
-                continue;
-            for (IGameObject go : layerObjects) {
-                this.enable(go);
-            }
+        List<IGameObject> objectsToEnable;
+        synchronized (this.objects) {
+            objectsToEnable = this.objects.toList();
+        }
+        for (IGameObject go : objectsToEnable) {
+            this.enable(go);
         }
     }
 
+    /**
+     * Executes a single simulation tick.
+     * Runs the work posted by other threads (including the input changes), lets
+     * the input step to this tick and runs the timers due on this tick, updates all game objects and then checks for
+     * collisions.
+     */
+    public void tick() {
+        this.mailbox.drain();
+        this.inputStatus.onTick();
+        this.timers.advance();
+        this.onUpdate();
+        this.checkCollision();
+        this.tickCount++;
+    }
+
     /**
      * Runs the game engine loop.
-     * Continuously updates game objects, checks for collisions, and handles user
-     * input.
+     * Simulation ticks run at a fixed rate driven by an accumulator over
+     * `System.nanoTime()`, so late frames are caught up with extra ticks instead
+     * of slowing the game down. Rendering runs after the ticks of each frame and
+     * receives the fraction of a tick left in the accumulator, which the GUI uses
+     * to blend between the previous and the current transforms.
+     * An uncapped engine (see `setUncapped`) runs the ticks back to back instead.
      */
     @Override
     public void run() {
-        final int FPS = 60;
-        final long frameTime = 1000 / FPS;
+        if (this.uncapped) {
+            this.runUncapped();
+            return;
+        }
+
+        final long tickNanos = TimeUnit.SECONDS.toNanos(1) / this.tickRate;
+        final long frameNanos = TimeUnit.SECONDS.toNanos(1) / this.frameRate;
 
-        while (true) {
-            long startTime = System.currentTimeMillis();
+        long previousTime = System.nanoTime();
+        long accumulator = 0;
+        this.running = true;
 
-            this.onUpdate();
-            this.checkCollision();
-            this.gui.draw(getEnabledObjectsSnapshot());
+        while (this.running) {
+            long frameStart = System.nanoTime();
+            long elapsed = Math.min(frameStart - previousTime, MAX_FRAME_NANOS);
+            previousTime = frameStart;
+            accumulator += elapsed;
 
-            long elapsed = System.currentTimeMillis() - startTime;
-            long sleepTime = frameTime - elapsed;
+            int ticks = 0;
+            while (accumulator >= tickNanos && ticks < MAX_TICKS_PER_FRAME) {
+                this.tick();
+                accumulator -= tickNanos;
+                ticks++;
+            }
+
+            // Drop the backlog that could not be simulated to avoid a spiral of death
+            if (accumulator >= tickNanos)
+                accumulator %= tickNanos;
+
+            double alpha = (double) accumulator / tickNanos;
+            this.render(alpha);
+
+            long spent = System.nanoTime() - frameStart;
+            long untilNextTick = tickNanos - accumulator - spent;
+            long untilNextFrame = frameNanos - spent;
+            long sleepTime = Math.min(untilNextTick, untilNextFrame);
             if (sleepTime > 0) {
                 try {
-                    Thread.sleep(sleepTime);
+                    TimeUnit.NANOSECONDS.sleep(sleepTime);
                 } catch (InterruptedException e) {
                     Thread.currentThread().interrupt();
                     break;
                 }
             }
         }
+        this.running = false;
+    }
+
+    /**
+     * Runs the ticks back to back, without sleeping, until the engine is
+     * stopped. Each tick is followed by a frame if the GUI draws one.
+     */
+    private void runUncapped() {
+        this.running = true;
+        while (this.running && !Thread.currentThread().isInterrupted()) {
+            this.tick();
+            this.render(0);
+        }
+        this.running = false;
+    }
+
+    /**
+     * Records and publishes a frame, unless the GUI draws nothing.
+     *
+     * @param alpha The interpolation factor between the previous and the current
+     *              tick.
+     */
+    private void render(double alpha) {
+        RenderFrame frame = this.gui.nextFrame();
+        if (frame == null)
+            return; // Headless: nothing is drawn
+        this.recordFrame(frame, alpha);
+        this.gui.draw(frame);
+    }
+
+    /**
+     * Stops the game engine loop after the current frame.
+     */
+    public void stop() {
+        this.running = false;
     }
 
     /**
-     * Returns a thread-safe snapshot of the enabled (active) objects for rendering.
+     * Records the enabled (active) objects into a render frame, so the GUI draws
+     * a copy of their state instead of reading the live objects.
      *
-     * @return A `CopyOnWriteArrayList` of enabled `GameObject`s.
+     * @param frame The frame to fill. Its previous records are discarded.
+     * @param alpha The interpolation factor between the previous and the current
+     *              tick.
      */
-    public CopyOnWriteArrayList<IGameObject> getEnabledObjectsSnapshot() {
-        CopyOnWriteArrayList<IGameObject> snapshot = new CopyOnWriteArrayList<>();
-        synchronized (layeredGameObjects) {
-            for (CopyOnWriteArrayList<IGameObject> layer : layeredGameObjects.values()) {
-                for (IGameObject go : layer) {
-                    if (isEnabled(go))
-                        snapshot.add(go);
+    public void recordFrame(RenderFrame frame, double alpha) {
+        synchronized (this.objects) {
+            frame.clear(this.tickCount);
+            int layerCount = this.objects.layerCount();
+            for (int layer = 0; layer < layerCount; layer++) {
+                int count = this.objects.size(layer);
+                for (int i = 0; i < count; i++) {
+                    IGameObject go = this.objects.get(layer, i);
+                    if (go != null && isEnabled(go))
+                        frame.record(go, alpha);
                 }
             }
-            return snapshot;
         }
     }
 
@@ -10,16 +10,12 @@ import core.objectsInterface.*;
 import geometry.*;
 import assets.*;
 import java.util.function.Function;
-import java.util.concurrent.*;
 
 import gui.IGuiBridge;
 import gui.IInputEvent;
-import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.Random;
+import java.util.SplittableRandom;
 import java.util.concurrent.CopyOnWriteArrayList;
 
-import java.util.concurrent.TimeUnit;
-
 /**
  * The `GameManager` class is responsible for managing the game's enemies,
  * player, and their interactions.
@@ -61,15 +57,33 @@ import java.util.concurrent.TimeUnit;
  */
 public class GameManager {
 
+    // Size of the game window. FrameRenderer places the world origin at (width / 3, height / 2) of the
+    // window and keeps its right third for the info panel, so the playfield spans these half sizes
+    public static final int WINDOW_WIDTH = 1100;
+    public static final int WINDOW_HEIGHT = 800;
+    private static final double PLAYFIELD_HALF_WIDTH = WINDOW_WIDTH / 3.0;
+    private static final double PLAYFIELD_HALF_HEIGHT = WINDOW_HEIGHT / 2.0;
+
+    // Enemies enter from just outside the playfield: from the sides at this x, or from above at this y
+    private static final double SPAWN_SIDE_X = 400;
+    private static final double SPAWN_TOP_Y = 440;
+    // Distance objects may travel past the playfield and the spawn points before being culled
+    private static final double CULL_MARGIN = 150;
+
     private CopyOnWriteArrayList<IGameObject> enemys = new CopyOnWriteArrayList<>(); // List of enemy game objects
     private IGameObject player = null; // The player game object
     private GameObject score = null;
+    private final ArrayList<IGameObject> lifeDisplays = new ArrayList<>(); // HUD icons of the remaining lives
     private IGroupAttackStrategy groupAttackStrategy; // Strategy for group attacks
 
     private GameEngine engine; // The game engine managing game objects
     private IInputEvent input; // Input event mapping for keys and mouse buttons
-    private ISoundEffects soundEffects = new SoundEffects(); // The sound effects of the game object
-    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+    private final AudioMixer mixer; // Plays the music and the sound effects; silent if it is not running
+    private final MusicPlayer music; // Streams the music tracks
+    private final String gameTrack; // Music played during the game
+    private TimerWheel timers; // Timer wheel of the engine, measured in ticks
+    private final ArrayList<TimerWheel.Timer> scheduled = new ArrayList<>(); // Timers cancelled by shutdown()
+    private TimerWheel.Timer selectPlayer; // Polls the menu input until a player is chosen
     private final double scale = 4;
 
     
@@ -91,33 +105,68 @@ public class GameManager {
      * @throws IllegalArgumentException if the provided `gui` is null.
      */
     public GameManager(IGuiBridge gui)
+    {
+        this(gui, new SplittableRandom().nextLong());
+    }
+
+    /**
+     * Constructs a new `GameManager` instance whose random decisions (music track,
+     * patterns, delays and bullet offsets) all come from a generator seeded with the
+     * given seed, so the same seed and the same input give the same game.
+     *
+     * @param gui  The GUI bridge interface used to interact with the game's graphical user interface.
+     * @param seed The seed of the game engine's random generator.
+     */
+    public GameManager(IGuiBridge gui, long seed)
+    {
+        this(gui, seed, AudioMixer.getDefault());
+    }
+
+    /**
+     * Constructs a new seeded `GameManager` instance that plays its music and sound
+     * effects on the given mixer. A mixer that is not running (never started, or
+     * without an audio line) keeps the game silent: the game objects get
+     * `SilentSoundEffects` and no audio thread is started.
+     *
+     * @param gui   The GUI bridge interface used to interact with the game's graphical user interface.
+     * @param seed  The seed of the game engine's random generator.
+     * @param mixer The mixer the music and the sound effects are played on.
+     */
+    public GameManager(IGuiBridge gui, long seed, AudioMixer mixer)
     {
         // Ensures the GUI bridge is not null; exits the program if it is.
         invariante(gui);
+        if (mixer == null)
+            throw new IllegalArgumentException("GameManager: mixer cannot be null");
 
-        // Initializes the game engine with the provided GUI bridge.
-        this.engine = new GameEngine(gui);
+        this.mixer = mixer;
+        this.music = new MusicPlayer(mixer);
+
+        // Initializes the game engine with the provided GUI bridge and seed.
+        this.engine = new GameEngine(gui, seed);
+        this.timers = this.engine.getTimerWheel();
+
+        // Culls bullets and enemies that fly far outside the playfield.
+        double worldHalfWidth = Math.max(PLAYFIELD_HALF_WIDTH, SPAWN_SIDE_X);
+        this.engine.setWorldBounds(-worldHalfWidth, -PLAYFIELD_HALF_HEIGHT, worldHalfWidth,
+                Math.max(PLAYFIELD_HALF_HEIGHT, SPAWN_TOP_Y), CULL_MARGIN);
 
         // Creates the player game object with a specific shape and animation.
         createPlayer(new Shape(ImagesLoader.loadAnimationFrames("player.gif"), 150));
 
-        // Retrieves the input event mapping from the GUI.
-        this.input = engine.getGui().getInputEvent();
+        // Retrieves the input event mapping from the engine (the GUI's input by default).
+        this.input = engine.getInputEvent();
 
-        // Adds sound effects for various game states.
-        soundEffects.addSound("GAMEOVER", AudioLoader.loadAudio("gameOver.wav"));
-        soundEffects.addSound("MENU", AudioLoader.loadAudio("menu.wav"));
-        soundEffects.addSound("WIN", AudioLoader.loadAudio("win.wav"));
-
-        // Randomly selects one of two sound files for the "STARTGAME" sound effect.
+        // Randomly selects one of two music tracks for the game. The tracks are
+        // streamed by the music player when they are played.
         String[] startGameSounds = { "gameSound.wav", "gameSound2.wav" };
-        Random rand = new Random();
-        String selectedSound = startGameSounds[rand.nextInt(startGameSounds.length)];
-        soundEffects.addSound("STARTGAME", AudioLoader.loadAudio(selectedSound));
+        this.gameTrack = startGameSounds[this.engine.getRandom().nextInt(startGameSounds.length)];
 
-        // Initializes the group attack strategy and sets its scheduler.
-        this.groupAttackStrategy = new EnterGameGroup();
-        ((EnterGameGroup) this.groupAttackStrategy).setScheduler(this.scheduler);
+        // Initializes the group attack strategy and sets its timer wheel and random generator.
+        EnterGameGroup enterGameGroup = new EnterGameGroup();
+        enterGameGroup.setTimerWheel(this.timers);
+        enterGameGroup.setRandom(this.engine.getRandom());
+        this.groupAttackStrategy = enterGameGroup;
 
         // Defines a function to determine the spawn index for each enemy based on its position in the group.
         Function<Integer, Integer> spawnIndexFunction = (Integer i) -> {
@@ -141,14 +190,32 @@ public class GameManager {
 
 
     /**
-     * Shuts down the scheduler service.
-     * Ensures that the scheduler is not null and has not already been shut down
-     * before attempting to shut it down.
+     * Cancels the timers scheduled by the game manager.
+     * The timers of the behaviors keep running on the engine's timer wheel.
      */
     public void shutdown() {
-        if (scheduler != null && !scheduler.isShutdown()) {
-            scheduler.shutdown();
-        }
+        for (TimerWheel.Timer timer : this.scheduled)
+            timer.cancel();
+        this.scheduled.clear();
+    }
+
+    /**
+     * Gets the game engine that runs the game, for example to set its loop mode
+     * or its timers before the game starts.
+     *
+     * @return The game engine.
+     */
+    public GameEngine getEngine() {
+        return this.engine;
+    }
+
+    /**
+     * Gets the seed of the game, which replays it with the same input.
+     *
+     * @return The seed of the game engine's random generator.
+     */
+    public long getSeed() {
+        return this.engine.getSeed();
     }
 
     /**
@@ -167,8 +234,8 @@ public class GameManager {
     {
         this.groupAttackStrategy.execute(this.enemys, this.player);
 
-        // Verifica periodicamente se o movimento foi completado e executa o zigzag a cada 20 segundos
-        this.scheduler.scheduleAtFixedRate(new Runnable()
+        // Verifica periodicamente (a cada 100 ms) se o movimento foi completado e executa o zigzag
+        this.scheduled.add(this.timers.scheduleAtFixedRate(this.timers.ticks(1000), this.timers.ticks(100), new Runnable()
         {
             private boolean firstAttackStarted = false;
 
@@ -180,21 +247,21 @@ public class GameManager {
                     firstAttackStarted = true;
                     executeZigzagAttack();
                     
-                    // Agenda a repetição do zigzag a cada 20 segundos
-                    scheduler.scheduleAtFixedRate(() -> {
+                    // Agenda a repetição do zigzag: 13 s depois e depois a cada 60 s
+                    scheduled.add(timers.scheduleAtFixedRate(timers.ticks(13000), timers.ticks(60000), () -> {
                         executeZigzagAttack();
-                    }, 13, 60, TimeUnit.SECONDS);
+                    }));
                 }
             }
 
             private void executeZigzagAttack() {
                 ZigzagGroup zigzagGroup = new ZigzagGroup();
                 zigzagGroup.onInit(enemys, player);
-                zigzagGroup.setScheduler(scheduler);
+                zigzagGroup.setTimerWheel(timers);
                 zigzagGroup.execute(enemys, player);
                 groupAttackStrategy = zigzagGroup;
             }
-        }, 1000, 100, TimeUnit.MILLISECONDS);
+        }));
     }
 
     /**
@@ -227,12 +294,9 @@ public class GameManager {
     private void monitorPlayer()
     {
         this.generateInfoStat();
-        ArrayList<IGameObject> lifeDisplays = new ArrayList<>();
-        for (IGameObject obj : this.engine.get(0))
-            if (obj.name().toLowerCase().contains("life"))
-                lifeDisplays.add(obj);
+        ArrayList<IGameObject> lifeDisplays = new ArrayList<>(this.lifeDisplays);
 
-        this.scheduler.scheduleAtFixedRate(() -> {
+        this.scheduled.add(this.timers.scheduleAtFixedRate(this.timers.ticks(100), this.timers.ticks(100), () -> {
 
                     PlayerBehavior playerBehavior = (PlayerBehavior) this.player.behavior();
                     int vidasAtuais = playerBehavior.getLife();
@@ -267,7 +331,7 @@ public class GameManager {
                     //}
                     // this.randomAttacksAndMovements();
 
-                }, 100, 100, TimeUnit.MILLISECONDS);
+                }));
     }
 
     /**
@@ -280,33 +344,43 @@ public class GameManager {
         return this.input; // Return the input event mapping
     }
 
+    /**
+     * Replaces the input of the game, for example with an `InputRecorder` wrapping
+     * the GUI's input or with a `ReplayInputEvent`. Must be called before the game
+     * starts.
+     *
+     * @param input The input read by the game.
+     */
+    public void setInputEvent(IInputEvent input)
+    {
+        this.engine.setInputEvent(input);
+        this.input = input;
+    }
+
     /**
      * Handles the player selection process in the game menu.
-     * Loops the "MENU" sound and continuously checks for player input to select a
+     * Loops the menu music and continuously checks for player input to select a
      * player.
      * Once a player is selected, it finalizes the selection and stops the loop.
      */
     private void handlerSelectPlayer()
     {
-        AtomicBoolean running = new AtomicBoolean(true);
-        this.soundEffects.loopSound("MENU");
-        scheduler.scheduleAtFixedRate(() ->
+        this.music.play("menu.wav", true);
+        this.selectPlayer = this.timers.scheduleAtFixedRate(1, 1, () ->
         {
-            if (!running.get())
-                return;
-
             if (input.isActionActive("PLAYER1"))
             {
+                this.selectPlayer.cancel();
                 handlerFinalSelectPlayer();
-                running.set(false);
             } else if (input.isActionActive("PLAYER2"))
             {
+                this.selectPlayer.cancel();
                 this.player.shape().setFrames(ImagesLoader.loadAnimationFrames("nave-HanSolo.png"), 150);
                 handlerFinalSelectPlayer();
-                running.set(false);
             }
 
-        }, 0, 1, TimeUnit.MILLISECONDS);
+        });
+        this.scheduled.add(this.selectPlayer);
 
     }
 
@@ -314,7 +388,7 @@ public class GameManager {
      * Finalizes the player selection process.
      * Disables the menu, destroys all existing game objects, and enables the
      * selected player and enemies.
-     * Stops the "MENU" sound and starts the "STARTGAME" sound.
+     * Crossfades from the menu music to the game music.
      * Initializes enemy relocation and player monitoring.
      */
     private void handlerFinalSelectPlayer()
@@ -328,8 +402,7 @@ public class GameManager {
         this.engine.addEnable(this.player);
         this.engine.setPlayer(player);
 
-        this.soundEffects.stopSound("MENU");
-        this.soundEffects.loopSound("STARTGAME");
+        this.music.play(this.gameTrack, true);
         this.startRelocateEnemies();
 
         this.monitorPlayer();
@@ -432,9 +505,9 @@ public class GameManager {
         // Spawn positions and angles
         double bottomRight = 100;
         double bottomLeft = -bottomRight;
-        double right = 400;
+        double right = SPAWN_SIDE_X;
         double left = -right;
-        double bottomY = 440;
+        double bottomY = SPAWN_TOP_Y;
 
         double[] spawnAngles = { 0.0, 180.0, 270.0, 270.0 };
         double[] spawnXCoords = { left, right, bottomLeft, bottomRight };
@@ -461,10 +534,11 @@ public class GameManager {
                 shape = new Shape(ImagesLoader.loadAnimationFrames("inimigo1.gif"), 150);
 
             GameObject enemy = new GameObject("Enemy " + i, t, collider, behavior, shape);
+            enemy.category(CollisionCategory.ENEMY);
             enemy.onInit();
             enemy.behavior().subscribe(this.player);
             enemy.setSoundEffects(createSoundEffects());
-            enemy.soundEffects().addSound("MOVE", AudioLoader.loadAudio("move1.wav"));
+            enemy.soundEffects().addSound("MOVE", AudioLoader.loadSample("move1.wav"));
             enemys.add(enemy);
         }
 
@@ -473,14 +547,17 @@ public class GameManager {
     /**
      * Creates and configures sound effects for the game.
      * Adds predefined sound effects for attack and death actions.
+     * The sounds are samples decoded once and shared by every game object,
+     * played on the voices of the game's mixer instead of a `Clip` per object.
+     * When the mixer is not running, the sound effects are silent.
      *
      * @return An instance of `ISoundEffects` containing the configured sound
      *         effects.
      */
     private ISoundEffects createSoundEffects() {
-        SoundEffects soundEffects = new SoundEffects();
-        soundEffects.addSound("ATTACK", AudioLoader.loadAudio("blaster.wav"));
-        soundEffects.addSound("DEATH", AudioLoader.loadAudio("explosion.wav"));
+        ISoundEffects soundEffects = this.mixer.isRunning() ? new SoundEffects(this.mixer) : new SilentSoundEffects();
+        soundEffects.addSound("ATTACK", AudioLoader.loadSample("blaster.wav"));
+        soundEffects.addSound("DEATH", AudioLoader.loadSample("explosion.wav"));
 
         return soundEffects;
     }
@@ -502,6 +579,7 @@ public class GameManager {
             int lives = playerBehavior.getLife() - 1; // This should be updated with the actual number of lives
             Ponto position = this.player.transform().position();
             GameObject lifeDisplay = null;
+            this.lifeDisplays.clear();
 
             for (int i = 0; i < lives; i++) {
                 Shape shape = new Shape(ImagesLoader.loadAnimationFrames("player.gif"), 0);
@@ -510,9 +588,11 @@ public class GameManager {
                 Circulo collider = new Circulo(raio, transform);
 
                 lifeDisplay = new GameObject("Life " + (i + 1), transform, collider, new EnemyBehavior(), shape);
+                lifeDisplay.category(CollisionCategory.UI);
                 lifeDisplay.onInit();
                 lifeDisplay.behavior().onInit();
                 this.engine.add(lifeDisplay);
+                this.lifeDisplays.add(lifeDisplay);
             }
 
             // Create and add the score display
@@ -521,6 +601,7 @@ public class GameManager {
             Transform t1 = new Transform(new Ponto(380, 320.0), layer, 0.0, scale);
             Circulo p1 = new Circulo(0.01, t1);
             GameObject score = new GameObject("Score", t1, p1, new Behavior(), s1);
+            score.category(CollisionCategory.UI);
             this.score = score;
             this.score.onInit();
             engine.addEnable(this.score);
@@ -533,7 +614,7 @@ public class GameManager {
      * Adds the created objects to the game engine for rendering and interaction.
      */
     public void generateMenuObjects() {
-        ArrayList<IGameObject> objects = new ArrayList<>();
+        ArrayList<GameObject> objects = new ArrayList<>();
 
         // Spawn constants
         double scale = 32;
@@ -604,19 +685,21 @@ public class GameManager {
         objects.add(nave2);
 
         // Add all objects to the engine
-        for (int i = 0; i < objects.size(); i++)
+        for (int i = 0; i < objects.size(); i++) {
+            objects.get(i).category(CollisionCategory.UI);
             this.engine.addEnable(objects.get(i));
+        }
     }
 
     /**
      * Generates the "Game Over" screen objects and displays them.
-     * Stops all sounds, destroys all game objects, and sets the menu state to true.
+     * Crossfades to the game over music, destroys all game objects, and sets the
+     * menu state to true.
      */
     public void generateGameOver() {
-        soundEffects.stopAllSounds();
         this.engine.destroyAll();
         this.engine.getGui().setMenu(true);
-        soundEffects.loopSound("GAMEOVER");
+        this.music.play("gameOver.wav", true);
 
         double scale = 64;
         double raio = 0.0001;
@@ -637,6 +720,8 @@ public class GameManager {
         GameObject message = new GameObject("Another one falls. The Empire endures.", t1, p1, new Behavior(), s1);
         message.onInit();
 
+        startGame.category(CollisionCategory.UI);
+        message.category(CollisionCategory.UI);
         engine.addEnable(startGame);
         engine.addEnable(message);
 
@@ -645,13 +730,13 @@ public class GameManager {
 
     /**
      * Generates the "Victory" screen objects and displays them.
-     * Stops all sounds, destroys all game objects, and sets the menu state to true.
+     * Crossfades to the victory music, destroys all game objects, and sets the
+     * menu state to true.
      */
     public void generateWin() {
-        soundEffects.stopAllSounds();
         this.engine.destroyAll();
         this.engine.getGui().setMenu(true);
-        this.soundEffects.playSound("WIN");
+        this.music.play("win.wav", false);
 
         double scale = 64;
         double raio = 0.0001;
@@ -672,6 +757,8 @@ public class GameManager {
         GameObject message = new GameObject("You've brought balance to the galaxy.", t1, p1, new Behavior(), s1);
         message.onInit();
 
+        win.category(CollisionCategory.UI);
+        message.category(CollisionCategory.UI);
         engine.addEnable(win);
         engine.addEnable(message);
         this.shutdown();
@@ -695,10 +782,11 @@ public class GameManager {
 
         PlayerBehavior behavior = new PlayerBehavior(); // Behavior of the player
         GameObject player = new GameObject("Player", t1, collider, behavior, shape); // Create the player game object
+        player.category(CollisionCategory.PLAYER);
         player.onInit(); // Initialize the player
         this.player = player; // Set the player as the current player
         this.player.setSoundEffects(createSoundEffects());
-        this.player.soundEffects().addSound("HIT", AudioLoader.loadAudio("playerHit.wav"));
+        this.player.soundEffects().addSound("HIT", AudioLoader.loadSample("playerHit.wav"));
     }
 
 }
@@ -61,6 +61,15 @@ public class GameObject implements IGameObject {
     protected double rotateSpeed; // The rotation speed of the game object
     protected double scaleDiff; // The scale difference of the game object
 
+    private CollisionCategory category = CollisionCategory.DEFAULT; // The collision category
+    private int collisionMask = CollisionCategory.ALL; // The categories this object collides with
+
+    private GameObjectPool pool; // The pool that owns this game object, or null
+    private boolean inPool; // Whether the game object is waiting in its pool
+
+    private int storeLayer = -1; // The layer the object is stored in by its LayerStore, or -1
+    private int storeSlot = -1; // The index of the object in that layer
+
     /**
      * Validates the invariants for the `GameObject` class.
      * Ensures that the provided parameters are not null.
@@ -121,6 +130,134 @@ public class GameObject implements IGameObject {
         this.shape.setlogicalWidthAndHeight(this.collider.getLogicalWidth(), this.collider.getLogicalHeight());
     }
 
+    /**
+     * Gets the collision category of the game object.
+     *
+     * @return The collision category.
+     */
+    @Override
+    public CollisionCategory category() {
+        return this.category;
+    }
+
+    /**
+     * Sets the collision category of the game object.
+     *
+     * @param category The collision category.
+     * @throws IllegalArgumentException if the category is null.
+     */
+    public void category(CollisionCategory category) {
+        if (category == null)
+            throw new IllegalArgumentException("GameObject: category cannot be null");
+        this.category = category;
+    }
+
+    /**
+     * Gets the collision mask of the game object.
+     *
+     * @return The mask of accepted category bits.
+     */
+    @Override
+    public int collisionMask() {
+        return this.collisionMask;
+    }
+
+    /**
+     * Sets the collision mask of the game object.
+     *
+     * @param collisionMask The mask of accepted category bits (see
+     *                      `CollisionCategory.mask()`).
+     */
+    public void collisionMask(int collisionMask) {
+        this.collisionMask = collisionMask;
+    }
+
+    /**
+     * Gets the pool that owns the game object.
+     *
+     * @return The owning `GameObjectPool`, or null if the object is not pooled.
+     */
+    public GameObjectPool pool() {
+        return this.pool;
+    }
+
+    /**
+     * Sets the pool that owns the game object.
+     *
+     * @param pool The owning pool.
+     */
+    void pool(GameObjectPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Checks if the game object is waiting in its pool.
+     *
+     * @return True if the object has been released and not acquired again.
+     */
+    boolean inPool() {
+        return this.inPool;
+    }
+
+    /**
+     * Marks the game object as waiting in its pool or in use.
+     *
+     * @param inPool True if the object was released to its pool.
+     */
+    void inPool(boolean inPool) {
+        this.inPool = inPool;
+    }
+
+    /**
+     * Gets the layer the game object is stored in by a `LayerStore`.
+     *
+     * @return The stored layer, or -1 if the object is not stored.
+     */
+    int storeLayer() {
+        return this.storeLayer;
+    }
+
+    /**
+     * Gets the index of the game object inside its stored layer.
+     *
+     * @return The slot index, or -1 if the object is not stored.
+     */
+    int storeSlot() {
+        return this.storeSlot;
+    }
+
+    /**
+     * Sets where the game object is stored by a `LayerStore`.
+     *
+     * @param layer The stored layer, or -1.
+     * @param slot  The index inside the layer, or -1.
+     */
+    void storeSlot(int layer, int slot) {
+        this.storeLayer = layer;
+        this.storeSlot = slot;
+    }
+
+    /**
+     * Returns the game object to the pool that owns it.
+     * Has no effect if the object is not pooled or was already released.
+     */
+    public void release() {
+        if (this.pool != null)
+            this.pool.release(this);
+    }
+
+    /**
+     * Clears the motion parameters and the behavior state so a pooled game
+     * object can be used again.
+     */
+    void reset() {
+        this.velocity = new Ponto(0.0, 0.0);
+        this.velocityLayer = 0;
+        this.rotateSpeed = 0;
+        this.scaleDiff = 0;
+        this.behaviour.reset();
+    }
+
     /**
      * Sets the sound effects for the game object.
      *
@@ -0,0 +1,169 @@
+package core;
+
+import java.util.ArrayDeque;
+
+/**
+ * The `GameObjectPool` class keeps spent `GameObject`s so they can be reset and
+ * reused instead of being allocated again.
+ * It is meant for short-lived objects created at a high rate, such as bullets.
+ *
+ * <p>
+ * Usage:
+ * </p>
+ * - `acquire(factory)` returns a pooled object, or creates a new one through
+ * the factory when the pool is empty. The caller then resets its transform and
+ * initializes it as if it were new.
+ * - The `GameEngine` calls `GameObject.release()` when the object is destroyed,
+ * which returns it to the pool that created it.
+ *
+ * @preConditions:
+ *                 - The capacity must be greater than 0.
+ *                 - The factory must create a new `GameObject` on every call.
+ *
+ * @postConditions:
+ *                  - An object is never handed out twice without being
+ *                  released in between.
+ *                  - Releasing an object twice, or releasing an object owned by
+ *                  another pool, has no effect.
+ *                  - At most `capacity` objects are kept; extra released objects
+ *                  are left to the garbage collector.
+ *
+ * @see GameObject
+ * @see GameEngine
+ *
+ * @author Brandon Mejia
+ * @version 2025-05-20
+ */
+public class GameObjectPool {
+
+    /**
+     * Creates the objects of a pool.
+     */
+    public interface Factory {
+        /**
+         * Creates a new game object for the pool.
+         *
+         * @return A new `GameObject`.
+         */
+        GameObject create();
+    }
+
+    private final ArrayDeque<GameObject> free; // Released objects ready to be reused
+    private final int capacity; // Maximum number of objects kept
+
+    // Statistics
+    private long created = 0; // Objects created by the factory
+    private long reused = 0; // Acquisitions served from the pool
+    private long released = 0; // Objects returned to the pool
+
+    /**
+     * Validates the invariant for the `GameObjectPool` class.
+     * Ensures that the capacity is a positive number.
+     * If the validation fails, an error message is printed, and the program exits.
+     *
+     * @param capacity The maximum number of objects kept. Must be greater than 0.
+     */
+    private void invariante(int capacity) {
+        if (capacity > 0)
+            return;
+
+        System.out.println("GameObjectPool:iv");
+        System.exit(0);
+    }
+
+    /**
+     * Constructs an empty pool.
+     *
+     * @param capacity The maximum number of released objects kept for reuse.
+     */
+    public GameObjectPool(int capacity) {
+        invariante(capacity);
+        this.capacity = capacity;
+        this.free = new ArrayDeque<>(); // Grows with use, up to the capacity
+    }
+
+    /**
+     * Takes an object from the pool, or creates one with the factory if the pool
+     * is empty. Reused objects come back disabled, with no velocity, rotation or
+     * scale change, and with their behavior state cleared.
+     *
+     * @param factory The factory used when the pool is empty.
+     * @return A `GameObject` owned by this pool.
+     */
+    public synchronized GameObject acquire(Factory factory) {
+        GameObject go = this.free.pollLast();
+        if (go == null) {
+            go = factory.create();
+            go.pool(this);
+            this.created++;
+            return go;
+        }
+
+        go.inPool(false);
+        go.reset();
+        this.reused++;
+        return go;
+    }
+
+    /**
+     * Returns an object to the pool.
+     *
+     * @param go The object to return.
+     */
+    public synchronized void release(GameObject go) {
+        if (go == null || go.pool() != this || go.inPool())
+            return;
+
+        go.inPool(true);
+        this.released++;
+        if (this.free.size() < this.capacity)
+            this.free.addLast(go);
+    }
+
+    /**
+     * Gets the number of objects ready to be reused.
+     *
+     * @return The number of available objects.
+     */
+    public synchronized int available() {
+        return this.free.size();
+    }
+
+    /**
+     * Gets the number of objects created by the factory.
+     *
+     * @return The number of created objects.
+     */
+    public synchronized long created() {
+        return this.created;
+    }
+
+    /**
+     * Gets the number of acquisitions that reused a pooled object.
+     *
+     * @return The number of reused objects.
+     */
+    public synchronized long reused() {
+        return this.reused;
+    }
+
+    /**
+     * Gets the number of objects returned to the pool.
+     *
+     * @return The number of released objects.
+     */
+    public synchronized long released() {
+        return this.released;
+    }
+
+    /**
+     * Returns a string representation of the pool statistics.
+     *
+     * @return A string with the created, reused, released and available counts.
+     */
+    @Override
+    public synchronized String toString() {
+        return "GameObjectPool{created=" + created + ", reused=" + reused +
+                ", released=" + released + ", available=" + free.size() + '}';
+    }
+}
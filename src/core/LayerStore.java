@@ -0,0 +1,329 @@
+package core;
+
+import core.objectsInterface.IGameObject;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The `LayerStore` class keeps the game objects of the `GameEngine` in dense
+ * arrays, one per layer, indexed by the layer number.
+ * Every `GameObject` remembers its layer and its index inside that layer, so
+ * adding is an append and removing is a swap with the last object of the layer,
+ * both O(1) and without copying the layer.
+ *
+ * <p>
+ * Iteration:
+ * </p>
+ * - Layers are visited in ascending order and objects by index, from 0 to
+ * `size(layer) - 1`.
+ * - Between `beginIteration()` and `endIteration()` removals only clear the
+ * slot (`get()` returns null for it), so indices do not shift under a running
+ * loop. The holes are compacted by `endIteration()`.
+ * - Objects added during an iteration are appended; a loop that read
+ * `size(layer)` before starting does not visit them.
+ *
+ * @preConditions:
+ *                 - Layers must not be negative.
+ *                 - The store is not thread-safe; the `GameEngine` synchronizes
+ *                 access to it.
+ *
+ * @postConditions:
+ *                  - An object is stored at most once.
+ *                  - Removing an object that is not stored has no effect.
+ *
+ * @see GameEngine
+ * @see GameObject
+ *
+ * @author Brandon Mejia
+ * @version 2025-05-20
+ */
+public class LayerStore {
+    private static final int INITIAL_LAYER_CAPACITY = 16;
+
+    private IGameObject[][] layers = new IGameObject[4][]; // Objects of each layer, indexed by layer
+    private int[] sizes = new int[4]; // Used slots of each layer, including holes
+    private int[] holes = new int[4]; // Cleared slots of each layer waiting to be compacted
+    private int layerCount = 0; // Highest used layer + 1
+    private int size = 0; // Number of stored objects
+
+    private int iterating = 0; // Depth of nested iterations
+
+    /**
+     * Validates the invariant for the `LayerStore` class.
+     * Ensures that the layer is not negative.
+     *
+     * @param layer The layer. Must not be negative.
+     * @throws IllegalArgumentException if the layer is negative.
+     */
+    private void invariante(int layer) {
+        if (layer >= 0)
+            return;
+
+        throw new IllegalArgumentException("LayerStore:iv");
+    }
+
+    /**
+     * Adds a game object to the end of its transform's layer.
+     * Has no effect if the object is already stored.
+     *
+     * @param go The game object to add.
+     */
+    public void add(IGameObject go) {
+        if (this.layerOf(go) >= 0)
+            return;
+
+        int layer = go.transform().layer();
+        invariante(layer);
+        this.ensureLayer(layer);
+
+        IGameObject[] objects = this.layers[layer];
+        int slot = this.sizes[layer];
+        if (slot == objects.length)
+            objects = this.layers[layer] = Arrays.copyOf(objects, objects.length * 2);
+
+        objects[slot] = go;
+        this.sizes[layer]++;
+        this.size++;
+        setSlot(go, layer, slot);
+    }
+
+    /**
+     * Removes a game object from the layer it is stored in, which may differ from
+     * its transform's current layer.
+     *
+     * @param go The game object to remove.
+     * @return True if the object was stored.
+     */
+    public boolean remove(IGameObject go) {
+        int layer = this.layerOf(go);
+        if (layer < 0)
+            return false;
+
+        int slot = this.slotOf(go, layer);
+        IGameObject[] objects = this.layers[layer];
+        setSlot(go, -1, -1);
+        this.size--;
+
+        if (this.iterating > 0) {
+            objects[slot] = null; // Keep indices stable for the running loop
+            this.holes[layer]++;
+            return true;
+        }
+
+        int last = --this.sizes[layer];
+        if (slot != last) {
+            objects[slot] = objects[last];
+            setSlot(objects[slot], layer, slot);
+        }
+        objects[last] = null;
+        return true;
+    }
+
+    /**
+     * Checks if a game object is stored.
+     *
+     * @param go The game object to check.
+     * @return True if the object is stored.
+     */
+    public boolean contains(IGameObject go) {
+        return this.layerOf(go) >= 0;
+    }
+
+    /**
+     * Gets the number of layer slots, that is, the highest used layer plus one.
+     *
+     * @return The number of layers to visit.
+     */
+    public int layerCount() {
+        return this.layerCount;
+    }
+
+    /**
+     * Gets the number of slots of a layer. During an iteration this includes the
+     * slots cleared by removals.
+     *
+     * @param layer The layer.
+     * @return The number of slots of the layer.
+     */
+    public int size(int layer) {
+        return layer >= 0 && layer < this.layerCount ? this.sizes[layer] : 0;
+    }
+
+    /**
+     * Gets the number of stored objects.
+     *
+     * @return The number of objects in all layers.
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Gets the object stored at a slot of a layer.
+     *
+     * @param layer The layer.
+     * @param index The slot index, from 0 to `size(layer) - 1`.
+     * @return The stored object, or null if the slot was cleared during the
+     *         current iteration.
+     */
+    public IGameObject get(int layer, int index) {
+        return this.layers[layer][index];
+    }
+
+    /**
+     * Copies the objects of a layer into a new list.
+     *
+     * @param layer The layer.
+     * @return The objects of the layer, in slot order.
+     */
+    public List<IGameObject> toList(int layer) {
+        int count = this.size(layer);
+        ArrayList<IGameObject> list = new ArrayList<>(count);
+        for (int i = 0; i < count; i++)
+            if (this.layers[layer][i] != null)
+                list.add(this.layers[layer][i]);
+
+        return list;
+    }
+
+    /**
+     * Copies every stored object into a new list, layer by layer.
+     *
+     * @return All the stored objects.
+     */
+    public List<IGameObject> toList() {
+        ArrayList<IGameObject> list = new ArrayList<>(this.size);
+        for (int layer = 0; layer < this.layerCount; layer++)
+            for (int i = 0; i < this.sizes[layer]; i++)
+                if (this.layers[layer][i] != null)
+                    list.add(this.layers[layer][i]);
+
+        return list;
+    }
+
+    /**
+     * Starts an iteration. Until the matching `endIteration()`, removals leave a
+     * cleared slot instead of moving another object into it.
+     */
+    public void beginIteration() {
+        this.iterating++;
+    }
+
+    /**
+     * Ends an iteration. When the outermost iteration ends, the slots cleared
+     * during it are compacted.
+     */
+    public void endIteration() {
+        if (this.iterating == 0 || --this.iterating > 0)
+            return;
+
+        for (int layer = 0; layer < this.layerCount; layer++)
+            if (this.holes[layer] > 0)
+                this.compact(layer);
+    }
+
+    /**
+     * Moves the objects of a layer over its cleared slots, keeping their order.
+     *
+     * @param layer The layer to compact.
+     */
+    private void compact(int layer) {
+        IGameObject[] objects = this.layers[layer];
+        int count = this.sizes[layer];
+        int write = 0;
+        for (int read = 0; read < count; read++) {
+            IGameObject go = objects[read];
+            if (go == null)
+                continue;
+
+            if (write != read) {
+                objects[write] = go;
+                setSlot(go, layer, write);
+            }
+            write++;
+        }
+        Arrays.fill(objects, write, count, null);
+        this.sizes[layer] = write;
+        this.holes[layer] = 0;
+    }
+
+    /**
+     * Makes sure the arrays of a layer exist.
+     *
+     * @param layer The layer.
+     */
+    private void ensureLayer(int layer) {
+        if (layer >= this.layers.length) {
+            int capacity = Math.max(layer + 1, this.layers.length * 2);
+            this.layers = Arrays.copyOf(this.layers, capacity);
+            this.sizes = Arrays.copyOf(this.sizes, capacity);
+            this.holes = Arrays.copyOf(this.holes, capacity);
+        }
+        if (this.layers[layer] == null)
+            this.layers[layer] = new IGameObject[INITIAL_LAYER_CAPACITY];
+        if (layer >= this.layerCount)
+            this.layerCount = layer + 1;
+    }
+
+    /**
+     * Finds the layer a game object is stored in.
+     *
+     * @param go The game object.
+     * @return The stored layer, or -1 if the object is not stored.
+     */
+    private int layerOf(IGameObject go) {
+        if (go instanceof GameObject gameObject)
+            return gameObject.storeLayer();
+
+        // Other implementations do not keep their slot: search for them
+        for (int layer = 0; layer < this.layerCount; layer++)
+            if (this.indexOf(go, layer) >= 0)
+                return layer;
+
+        return -1;
+    }
+
+    /**
+     * Finds the slot of a game object stored in the given layer.
+     *
+     * @param go    The game object.
+     * @param layer The layer it is stored in.
+     * @return The slot index.
+     */
+    private int slotOf(IGameObject go, int layer) {
+        if (go instanceof GameObject gameObject)
+            return gameObject.storeSlot();
+
+        return this.indexOf(go, layer);
+    }
+
+    /**
+     * Searches a layer for a game object.
+     *
+     * @param go    The game object.
+     * @param layer The layer to search.
+     * @return The slot index, or -1 if the object is not in the layer.
+     */
+    private int indexOf(IGameObject go, int layer) {
+        IGameObject[] objects = this.layers[layer];
+        for (int i = 0; i < this.sizes[layer]; i++)
+            if (objects[i] == go)
+                return i;
+
+        return -1;
+    }
+
+    /**
+     * Records where a game object is stored.
+     *
+     * @param go    The game object.
+     * @param layer The stored layer, or -1.
+     * @param slot  The slot index, or -1.
+     */
+    private static void setSlot(IGameObject go, int layer, int slot) {
+        if (go instanceof GameObject gameObject)
+            gameObject.storeSlot(layer, slot);
+    }
+}
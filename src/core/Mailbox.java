@@ -0,0 +1,114 @@
+package core;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The `Mailbox` class hands work from other threads (input listeners, loaders,
+ * tools...) to the game thread. Any thread posts a message without locking or
+ * waiting, and the game thread runs the messages in posting order when it
+ * drains the mailbox at the start of a tick, so game objects are only changed
+ * by the game thread and never while the engine iterates over them.
+ *
+ * <p>
+ * The messages are kept in an `MpscQueue`, like the commands of the
+ * `AudioCommandQueue`: posting never locks, and only the game thread takes
+ * messages. A drain runs at most the messages posted when it started, so
+ * messages posted while it runs (including by the messages themselves) wait for
+ * the next tick.
+ * </p>
+ *
+ * <p>
+ * Example usage:
+ * </p>
+ *
+ * <pre>
+ * // On any thread
+ * engine.getMailbox().post(() -&gt; engine.setPlayer(player));
+ * // On the game thread, at the start of a tick
+ * engine.getMailbox().drain();
+ * </pre>
+ *
+ * @preConditions:
+ *                 - Messages must not be null.
+ *                 - Only one thread (the game thread) calls `drain()`.
+ *
+ * @postConditions:
+ *                  - Messages are run exactly once, in posting order, on the
+ *                  draining thread.
+ *                  - An exception thrown by a message is reported and does not
+ *                  stop the drain.
+ *
+ * @see GameEngine
+ * @see MpscQueue
+ *
+ * @author Brandon Mejia
+ * @version 2025-05-20
+ */
+public class Mailbox {
+
+    private final MpscQueue<Runnable> messages = new MpscQueue<>(); // Taken by the draining thread only
+
+    // Statistics
+    private final AtomicLong posted = new AtomicLong();
+    private volatile long drained = 0;
+    private long maxDrain = 0; // Most messages run by one drain
+
+    /**
+     * Posts a message to be run by the next drain. Never blocks.
+     *
+     * @param message The work to run on the draining thread.
+     * @throws IllegalArgumentException if the message is null.
+     */
+    public void post(Runnable message) {
+        if (message == null)
+            throw new IllegalArgumentException("Mailbox:iv");
+
+        this.posted.incrementAndGet();
+        this.messages.offer(message);
+    }
+
+    /**
+     * Runs the messages posted before this call, in posting order, on the
+     * calling thread.
+     *
+     * @return The number of messages run.
+     */
+    public int drain() {
+        long waiting = this.posted.get() - this.drained; // Messages posted before this call
+        int count = 0;
+        Runnable message;
+        while (count < waiting && (message = this.messages.poll()) != null) {
+            try {
+                message.run();
+            } catch (RuntimeException e) {
+                System.err.println("Mailbox: Message failed: " + e);
+            }
+            count++;
+        }
+        this.drained += count;
+        if (count > this.maxDrain)
+            this.maxDrain = count;
+        return count;
+    }
+
+    /**
+     * Gets the number of messages waiting to run.
+     *
+     * @return The number of pending messages.
+     */
+    public long pending() {
+        return Math.max(0, this.posted.get() - this.drained);
+    }
+
+    /**
+     * Returns a string representation of the mailbox statistics.
+     *
+     * @return A string with the posted, run and pending messages and the largest
+     *         drain.
+     */
+    @Override
+    public String toString() {
+        return "Mailbox{posted=" + posted + ", drained=" + drained + ", pending=" + pending() + ", maxDrain=" +
+                maxDrain + '}';
+    }
+}
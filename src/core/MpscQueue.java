@@ -0,0 +1,110 @@
+package core;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * The `MpscQueue` class is the lock-free queue behind the `Mailbox` and the
+ * `AudioCommandQueue`: any number of threads offer items without locking or
+ * waiting, and a single consumer thread polls them in the order they were
+ * offered.
+ *
+ * <p>
+ * The queue is a multi-producer single-consumer linked list with a stub node: a
+ * producer links its node with one atomic exchange of the tail followed by a
+ * volatile write of the previous node's link, and only the consumer moves the
+ * head. An item whose producer exchanged the tail but has not linked it yet is
+ * not visible to `poll()` until it is linked, so items are never lost or
+ * reordered.
+ * </p>
+ *
+ * <p>
+ * Example usage:
+ * </p>
+ *
+ * <pre>
+ * MpscQueue&lt;Runnable&gt; queue = new MpscQueue&lt;&gt;();
+ * queue.offer(task); // On any thread
+ * Runnable next = queue.poll(); // On the consumer thread
+ * </pre>
+ *
+ * @preConditions:
+ *                 - Items must not be null.
+ *                 - Only one thread at a time calls `poll()` and `isEmpty()`.
+ *
+ * @postConditions:
+ *                  - Every offered item is polled exactly once, and the items of
+ *                  each producer are polled in the order it offered them.
+ *
+ * @param <T> The type of the items.
+ *
+ * @see Mailbox
+ * @see AudioCommandQueue
+ *
+ * @author Brandon Mejia
+ * @version 2025-05-20
+ */
+public class MpscQueue<T> {
+
+    /**
+     * An offered item, linked to the one offered after it.
+     */
+    private static final class Node<T> {
+        private T item;
+        private volatile Node<T> next;
+    }
+
+    private final AtomicReference<Node<T>> tail; // Last offered node; producers exchange it
+    private Node<T> head; // Last node polled (the stub); used by the consumer only
+
+    /**
+     * Creates an empty queue.
+     */
+    public MpscQueue() {
+        Node<T> stub = new Node<>();
+        this.head = stub;
+        this.tail = new AtomicReference<>(stub);
+    }
+
+    /**
+     * Adds an item at the end of the queue. Never blocks. The link is a volatile
+     * write, so a volatile read made by the caller after this call is ordered
+     * after it.
+     *
+     * @param item The item.
+     * @throws IllegalArgumentException if the item is null.
+     */
+    public void offer(T item) {
+        if (item == null)
+            throw new IllegalArgumentException("MpscQueue:iv");
+
+        Node<T> node = new Node<>();
+        node.item = item;
+        Node<T> previous = this.tail.getAndSet(node);
+        previous.next = node;
+    }
+
+    /**
+     * Takes the oldest linked item. Called by the consumer only.
+     *
+     * @return The item, or null if there is none.
+     */
+    public T poll() {
+        Node<T> next = this.head.next;
+        if (next == null)
+            return null;
+
+        this.head = next;
+        T item = next.item;
+        next.item = null; // The node stays as the stub; drop its reference
+        return item;
+    }
+
+    /**
+     * Checks if there is no linked item to poll. Called by the consumer only.
+     *
+     * @return True if `poll()` would return null.
+     */
+    public boolean isEmpty() {
+        return this.head.next == null;
+    }
+}
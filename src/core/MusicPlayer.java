@@ -0,0 +1,475 @@
+package core;
+
+import assets.AudioLoader;
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.util.Arrays;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * The `MusicPlayer` class streams music tracks into an `AudioMixer` instead of
+ * decoding them whole into memory. A background thread reads each track through
+ * a channel in small chunks, converts it to the rate of the mixer and keeps a
+ * short ring buffer ahead of playback; the mixing thread only copies from the
+ * ring buffer.
+ *
+ * <p>
+ * A looping track is reopened when it ends while the ring buffer still holds
+ * its last chunk, so the loop is seamless. Starting a track fades the playing
+ * one out while the new one fades in (crossfade).
+ * </p>
+ *
+ * <p>
+ * Example usage:
+ * </p>
+ *
+ * <pre>
+ * MusicPlayer music = new MusicPlayer(AudioMixer.getDefault());
+ * music.play("menu.wav", true);
+ * music.play("gameSound.wav", true); // Crossfades from the menu track
+ * </pre>
+ *
+ * @preConditions:
+ *                 - Tracks must be PCM files in `/assets/audio/` that the mixer
+ *                 can mix (8 or 16 bit, mono or stereo).
+ *
+ * @postConditions:
+ *                  - Memory used by a track does not depend on its length.
+ *                  - Files are opened and read on the streaming thread only.
+ *                  - If the mixer is not running, tracks are not opened.
+ *
+ * @see AudioMixer
+ * @see AudioLoader#openPcmStream(String)
+ *
+ * @author Brandon Mejia
+ * @version 2025-05-20
+ */
+public class MusicPlayer implements AudioMixer.Source, Runnable {
+    public static final int DEFAULT_FADE_MILLIS = 1500;
+    private static final int CHUNK_BYTES = 4096; // Bytes read from a file at a time
+    private static final int RING_FRAMES = 16384; // Frames buffered ahead (about 0.37 s)
+    private static final long REFILL_NANOS = 10_000_000L; // Pause between refills
+
+    /**
+     * A track being played: its ring buffer, fade and decoding state.
+     */
+    private static final class Stream {
+        private final String fileName;
+        private final boolean loop;
+
+        // Ring buffer of stereo frames at the mixer rate
+        private final float[] ring = new float[RING_FRAMES * 2];
+        private volatile long written = 0; // Frames written by the streaming thread
+        private volatile long read = 0; // Frames read by the mixing thread
+
+        // Fade, set by the callers and applied by the mixing thread
+        private volatile float target = 1.0f; // Gain to fade to
+        private volatile float fadeStep = 1.0f; // Gain change per frame
+        private float gain = 0.0f; // Current gain; mixing thread only
+
+        private volatile boolean ended = false; // The whole track was buffered
+        private volatile boolean finished = false; // Nothing more to play
+
+        // Decoding state; streaming thread only
+        private AudioInputStream input;
+        private ReadableByteChannel channel;
+        private final ByteBuffer chunk = ByteBuffer.allocate(CHUNK_BYTES);
+        private long passFrames = 0; // Source frames converted since the file was opened
+        private double position = 0; // Position between the previous and next source frames
+        private float previousLeft = 0, previousRight = 0;
+
+        private Stream(String fileName, boolean loop) {
+            this.fileName = fileName;
+            this.loop = loop;
+        }
+    }
+
+    private final AudioMixer mixer;
+    private volatile Stream[] streams = new Stream[0]; // Replaced, never modified, when streams change
+    private volatile float volume = 1.0f; // Music volume (0.0 to 1.0)
+
+    private Thread streamThread;
+    private volatile boolean running = false;
+
+    // Statistics
+    private volatile long underruns = 0; // Buffers mixed with a track not buffered in time
+
+    /**
+     * Validates the invariant for the `MusicPlayer` class.
+     * Ensures that the mixer is present.
+     *
+     * @param mixer The mixer the music is played on.
+     * @throws IllegalArgumentException if the mixer is null.
+     */
+    private void invariante(AudioMixer mixer) {
+        if (mixer != null)
+            return;
+
+        throw new IllegalArgumentException("MusicPlayer:iv");
+    }
+
+    /**
+     * Creates a music player.
+     *
+     * @param mixer The mixer the music is played on.
+     */
+    public MusicPlayer(AudioMixer mixer) {
+        invariante(mixer);
+        this.mixer = mixer;
+    }
+
+    /**
+     * Plays a track, crossfading from the playing one with the default fade.
+     *
+     * @param fileName The name of the file in `/assets/audio/`.
+     * @param loop     True to loop the track until another one is played.
+     */
+    public void play(String fileName, boolean loop) {
+        this.play(fileName, loop, DEFAULT_FADE_MILLIS);
+    }
+
+    /**
+     * Plays a track, fading the playing tracks out while it fades in. Playing the
+     * track that is already playing does nothing.
+     *
+     * @param fileName   The name of the file in `/assets/audio/`.
+     * @param loop       True to loop the track until another one is played.
+     * @param fadeMillis The length of the crossfade; 0 to switch at once.
+     */
+    public synchronized void play(String fileName, boolean loop, int fadeMillis) {
+        if (fileName == null || !this.mixer.isRunning())
+            return;
+        if (this.isPlaying(fileName))
+            return;
+
+        this.fadeOut(fadeMillis);
+
+        Stream stream = new Stream(fileName, loop);
+        stream.fadeStep = fadeStep(fadeMillis);
+        Stream[] streams = Arrays.copyOf(this.streams, this.streams.length + 1);
+        streams[streams.length - 1] = stream;
+        this.streams = streams;
+
+        if (!this.running) {
+            this.running = true;
+            this.mixer.addSource(this);
+            this.streamThread = new Thread(this, "music-stream");
+            this.streamThread.setDaemon(true);
+            this.streamThread.start();
+        }
+        LockSupport.unpark(this.streamThread);
+    }
+
+    /**
+     * Fades out every track.
+     *
+     * @param fadeMillis The length of the fade; 0 to stop at once.
+     */
+    public synchronized void stop(int fadeMillis) {
+        this.fadeOut(fadeMillis);
+    }
+
+    /**
+     * Starts fading out the playing tracks.
+     *
+     * @param fadeMillis The length of the fade.
+     */
+    private void fadeOut(int fadeMillis) {
+        float step = fadeStep(fadeMillis);
+        for (Stream stream : this.streams) {
+            stream.fadeStep = step;
+            stream.target = 0.0f;
+        }
+    }
+
+    /**
+     * Converts a fade length into the gain change per frame.
+     *
+     * @param fadeMillis The length of the fade.
+     * @return The gain change per frame.
+     */
+    private static float fadeStep(int fadeMillis) {
+        if (fadeMillis <= 0)
+            return 1.0f;
+        return 1000.0f / (fadeMillis * AudioMixer.SAMPLE_RATE);
+    }
+
+    /**
+     * Checks if a track is playing and not fading out.
+     *
+     * @param fileName The name of the file.
+     * @return True if the track is playing.
+     */
+    public boolean isPlaying(String fileName) {
+        for (Stream stream : this.streams)
+            if (!stream.finished && stream.target > 0 && stream.fileName.equals(fileName))
+                return true;
+        return false;
+    }
+
+    /**
+     * Sets the music volume.
+     *
+     * @param volume The volume level (0.0 to 1.0).
+     */
+    public void setVolume(float volume) {
+        this.volume = Math.max(0.0f, Math.min(1.0f, volume));
+    }
+
+    /**
+     * Stops the streaming thread, closes the tracks and removes the player from
+     * the mixer.
+     */
+    public synchronized void close() {
+        if (!this.running)
+            return;
+
+        this.running = false;
+        this.mixer.removeSource(this);
+        LockSupport.unpark(this.streamThread);
+        try {
+            this.streamThread.join(1000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        for (Stream stream : this.streams)
+            closeInput(stream);
+        this.streams = new Stream[0];
+    }
+
+    /**
+     * Adds the buffered frames of the tracks to the mix. Called by the mixing
+     * thread.
+     *
+     * @param buffer     The interleaved stereo buffer to add to.
+     * @param frames     The number of frames to render.
+     * @param outputRate The sample rate of the buffer.
+     */
+    @Override
+    public void mix(float[] buffer, int frames, float outputRate) {
+        float volume = this.volume;
+        for (Stream stream : this.streams) {
+            if (stream.finished)
+                continue;
+
+            long read = stream.read;
+            int available = (int) Math.min(frames, stream.written - read);
+            float target = stream.target;
+            float step = stream.fadeStep;
+            float gain = stream.gain;
+
+            for (int i = 0; i < available; i++) {
+                if (gain < target)
+                    gain = Math.min(target, gain + step);
+                else if (gain > target)
+                    gain = Math.max(target, gain - step);
+
+                int index = (int) ((read + i) % RING_FRAMES) * 2;
+                buffer[2 * i] += stream.ring[index] * gain * volume;
+                buffer[2 * i + 1] += stream.ring[index + 1] * gain * volume;
+            }
+            stream.gain = gain;
+            stream.read = read + available;
+
+            if (target == 0.0f && gain == 0.0f)
+                stream.finished = true; // Faded out
+            else if (stream.ended && stream.read == stream.written)
+                stream.finished = true; // Played to the end
+            else if (available < frames && !stream.ended)
+                this.underruns++;
+        }
+    }
+
+    /**
+     * Streaming loop: keeps the ring buffers of the tracks filled and drops the
+     * finished tracks.
+     */
+    @Override
+    public void run() {
+        while (this.running) {
+            boolean finished = false;
+            for (Stream stream : this.streams) {
+                if (stream.finished)
+                    finished = true;
+                else
+                    this.fill(stream);
+            }
+            if (finished)
+                this.removeFinished();
+
+            if (this.streams.length == 0)
+                LockSupport.park(this);
+            else
+                LockSupport.parkNanos(this, REFILL_NANOS);
+        }
+    }
+
+    /**
+     * Closes and removes the tracks that finished.
+     */
+    private synchronized void removeFinished() {
+        Stream[] streams = new Stream[this.streams.length];
+        int count = 0;
+        for (Stream stream : this.streams) {
+            if (stream.finished)
+                closeInput(stream);
+            else
+                streams[count++] = stream;
+        }
+        this.streams = Arrays.copyOf(streams, count);
+    }
+
+    /**
+     * Reads chunks of a track into its ring buffer while there is room for them.
+     * A looping track is reopened at its end, unless a whole pass over the file
+     * gave no frames: then it ends instead of reopening the file forever.
+     *
+     * @param stream The track.
+     */
+    private void fill(Stream stream) {
+        while (this.running && !stream.ended && !stream.finished) {
+            if (stream.input == null && !this.open(stream)) {
+                stream.ended = true; // The file cannot be read: play what is buffered
+                return;
+            }
+
+            AudioFormat format = stream.input.getFormat();
+            double step = format.getSampleRate() / AudioMixer.SAMPLE_RATE;
+            int maxFrames = (int) Math.ceil(CHUNK_BYTES / format.getFrameSize() / step) + 2;
+            if (RING_FRAMES - (stream.written - stream.read) < maxFrames)
+                return; // Full until the mixer catches up
+
+            int bytes;
+            try {
+                bytes = stream.channel.read(stream.chunk);
+            } catch (IOException e) {
+                System.err.println("MusicPlayer: Error reading '" + stream.fileName + "': " + e.getMessage());
+                bytes = -1;
+            }
+
+            if (bytes < 0) {
+                closeInput(stream);
+                if (!stream.loop || stream.passFrames == 0)
+                    stream.ended = true; // A track without frames would be reopened forever
+                continue; // Reopened on the next pass when looping
+            }
+            this.convert(stream, format, step);
+        }
+    }
+
+    /**
+     * Opens the file of a track.
+     *
+     * @param stream The track.
+     * @return True if the file was opened and can be mixed.
+     */
+    private boolean open(Stream stream) {
+        AudioInputStream input = AudioLoader.openPcmStream(stream.fileName);
+        if (input == null)
+            return false;
+
+        if (!VoicePool.canMix(input.getFormat())) {
+            System.err.println("MusicPlayer: Unsupported format for '" + stream.fileName + "': " + input.getFormat());
+            try {
+                input.close();
+            } catch (IOException e) {
+                // Nothing to do
+            }
+            return false;
+        }
+
+        stream.input = input;
+        stream.channel = Channels.newChannel(input);
+        stream.chunk.clear();
+        stream.passFrames = 0;
+        return true;
+    }
+
+    /**
+     * Closes the file of a track.
+     *
+     * @param stream The track.
+     */
+    private static void closeInput(Stream stream) {
+        if (stream.channel == null)
+            return;
+
+        try {
+            stream.channel.close();
+        } catch (IOException e) {
+            // Nothing to do
+        }
+        stream.channel = null;
+        stream.input = null;
+    }
+
+    /**
+     * Converts the whole frames of the chunk to stereo frames at the mixer rate
+     * and appends them to the ring buffer. A partial frame is kept for the next
+     * chunk.
+     *
+     * @param stream The track.
+     * @param format The format of the file.
+     * @param step   The source frames per output frame.
+     */
+    private void convert(Stream stream, AudioFormat format, double step) {
+        ByteBuffer chunk = stream.chunk;
+        byte[] data = chunk.array();
+        int frameSize = format.getFrameSize();
+        int sampleBytes = format.getSampleSizeInBits() / 8;
+        int rightOffset = format.getChannels() == 2 ? sampleBytes : 0;
+        boolean bigEndian = format.isBigEndian();
+        int frames = chunk.position() / frameSize;
+
+        long written = stream.written;
+        double position = stream.position;
+        float previousLeft = stream.previousLeft;
+        float previousRight = stream.previousRight;
+
+        for (int f = 0; f < frames; f++) {
+            int offset = f * frameSize;
+            float left = VoicePool.read(data, offset, sampleBytes, bigEndian);
+            float right = rightOffset == 0 ? left : VoicePool.read(data, offset + rightOffset, sampleBytes, bigEndian);
+
+            // Emit the output frames that fall between the previous and this source frame
+            while (position < 1.0) {
+                int index = (int) (written % RING_FRAMES) * 2;
+                stream.ring[index] = previousLeft + (left - previousLeft) * (float) position;
+                stream.ring[index + 1] = previousRight + (right - previousRight) * (float) position;
+                written++;
+                position += step;
+            }
+            position -= 1.0;
+            previousLeft = left;
+            previousRight = right;
+        }
+
+        stream.position = position;
+        stream.previousLeft = previousLeft;
+        stream.previousRight = previousRight;
+        stream.written = written; // Publishes the frames to the mixing thread
+        stream.passFrames += frames;
+
+        // Keep the bytes of a partial frame
+        chunk.flip();
+        chunk.position(frames * frameSize);
+        chunk.compact();
+    }
+
+    /**
+     * Returns a string representation of the player state.
+     *
+     * @return A string with the tracks and underruns.
+     */
+    @Override
+    public String toString() {
+        StringBuilder tracks = new StringBuilder();
+        for (Stream stream : this.streams)
+            tracks.append(tracks.length() == 0 ? "" : ", ").append(stream.fileName);
+        return "MusicPlayer{tracks=[" + tracks + "], underruns=" + underruns + '}';
+    }
+}
@@ -7,9 +7,6 @@ import geometry.Ponto;
 import gui.IInputEvent;
 
 import java.util.ArrayList;
-import java.util.concurrent.Executors;
-import java.util.concurrent.TimeUnit;
-import java.util.concurrent.ScheduledExecutorService;
 
 /**
  * Represents the behavior of a player in the game.
@@ -32,16 +29,8 @@ import java.util.concurrent.ScheduledExecutorService;
  *                   - The game object's state is updated accordingly based on
  *                   player actions.
  *
- * @see <a href=
- *      "https://www.youtube.com/watch?v=PJxcxHgmK4w">ScheduledExecutorService</a>
- * @see <a href=
- *      "https://stackoverflow.com/questions/71371997/single-scheduledexecutorservice-instance-vs-multiple-scheduledexecutorservice-in">Single
- *      ScheduledExecutorService instance vs Multiple ScheduledExecutorService
- *      instances</a>
- * @see <a href=
- *      "https://www.blackbox.ai/share/211e5a8d-74e2-4daf-aca4-469f1fa1c7e9">Is
- *      ScheduledExecutorService useful? - BlackBox.ai</a>
  * @see core.Behavior
+ * @see core.TimerWheel
  *
  * @Author Brandon Mejia
  * @Version 2025-04-18
@@ -51,16 +40,14 @@ public class PlayerBehavior extends Behavior {
     private boolean isInvincible = false; // Indicates whether the player is invincible
     private final long invincibilityDuration = 2000; // Duration of invincibility in milliseconds
 
-    private final ScheduledExecutorService localScheduler; // Scheduler for handling timed tasks
-
     /**
      * Constructs a new PlayerBehavior instance.
-     * Initializes the default attack strategy and the scheduler.
+     * Initializes the default attack strategy. Timed tasks run on the timer
+     * wheel of the engine.
      */
     public PlayerBehavior() {
         super();
         this.attackStrategy = new LinearShootAttack();
-        this.localScheduler = Executors.newSingleThreadScheduledExecutor();
     }
 
     /**
@@ -113,9 +100,9 @@ public class PlayerBehavior extends Behavior {
             this.isAttacking = true;
 
             // Schedule to reset the attack flag after the invincibility duration
-            localScheduler.schedule(() -> {
+            this.schedule(this.ticks(invincibilityDuration), () -> {
                 isAttacking = false;
-            }, invincibilityDuration , TimeUnit.MILLISECONDS);
+            });
 
             ISoundEffects soundEffects = this.go.soundEffects();
             if (soundEffects != null)
@@ -147,9 +134,9 @@ public class PlayerBehavior extends Behavior {
             this.go.soundEffects().playSound("HIT");
 
             // Schedule to reset the invincibility flag after the invincibility duration
-            localScheduler.schedule(() -> {
+            this.schedule(this.ticks(invincibilityDuration), () -> {
                 this.isInvincible = false;
-            }, invincibilityDuration, TimeUnit.MILLISECONDS);
+            });
 
         }
 
@@ -227,8 +214,8 @@ public class PlayerBehavior extends Behavior {
         // Also update the collider position
         this.go.collider().updatePosicao();
 
-        localScheduler.schedule(() -> {
+        this.schedule(this.ticks(invincibilityDuration), () -> {
             this.isInvincible = false;
-        }, invincibilityDuration, TimeUnit.MILLISECONDS);
+        });
     }
 }
\ No newline at end of file
@@ -17,13 +17,15 @@ import java.util.List;
  *                 empty (handled gracefully).
  *                 - For the single frame constructor, the frame must not be
  *                 null.
- *                 - For frame updates, the system time must be accessible.
+ *                 - Frame updates must receive a time that does not go
+ *                 backwards: the system time, or the simulation time of the
+ *                 engine.
  *
  * @postConditions:
  *                  - The Shape instance is initialized with at least an empty
  *                  frame list.
  *                  - The currentFrameIndex is set to 0.
- *                  - The lastFrameTime is set to the current system time.
+ *                  - The lastFrameTime is set by the first frame update.
  *                  - Frame animations cycle properly when updated.
  *                  - getCurrentFrame returns null only when frames list is
  *                  empty.
@@ -38,6 +40,8 @@ public class Shape implements IShape {
     private List<BufferedImage> frames; // List of frames for the animation
     private int currentFrameIndex; // Index of the current frame being displayed
 
+    private static final long NOT_STARTED = Long.MIN_VALUE; // The animation was not updated yet
+
     private long lastFrameTime; // Timestamp of the last frame update
     private int frameDelayMillis; // Delay between frames in milliseconds
 
@@ -62,21 +66,21 @@ public class Shape implements IShape {
     /**
      * Default constructor for the `Shape` class.
      * Initializes a `Shape` instance with an empty list of frames,
-     * sets the current frame index to 0, the frame delay to 0 milliseconds,
-     * and records the current system time as the last frame update time.
+     * sets the current frame index to 0 and the frame delay to 0 milliseconds.
+     * The animation clock starts at the first frame update.
      *
      * @postConditions:
      *                  - The `frames` list is initialized as an empty list.
      *                  - The `currentFrameIndex` is set to 0.
      *                  - The `frameDelayMillis` is set to 0.
-     *                  - The `lastFrameTime` is set to the current system time.
+     *                  - The `lastFrameTime` is set by the first frame update.
      */
     public Shape()
     {
         this.frames = new ArrayList<>();
         this.currentFrameIndex = 0;
         this.frameDelayMillis = 0;
-        this.lastFrameTime = System.currentTimeMillis();
+        this.lastFrameTime = NOT_STARTED;
     }
 
     /**
@@ -107,7 +111,7 @@ public class Shape implements IShape {
 
         this.currentFrameIndex = 0;
         this.frameDelayMillis = frameDelayMillis;
-        this.lastFrameTime = System.currentTimeMillis();
+        this.lastFrameTime = NOT_STARTED;
     }
 
     /**
@@ -126,7 +130,7 @@ public class Shape implements IShape {
         this.frames.add(frames);
         this.currentFrameIndex = 0;
         this.frameDelayMillis = frameDelayMillis;
-        this.lastFrameTime = System.currentTimeMillis();
+        this.lastFrameTime = NOT_STARTED;
     }
 
     /**
@@ -154,20 +158,42 @@ public class Shape implements IShape {
     }
 
     /**
-     * Updates the animation logic. This method should be called during each game
-     * loop cycle.
+     * Updates the animation logic with the system time. This method should be
+     * called during each game loop cycle.
      */
     public void updateAnimation() {
+        this.updateAnimation(System.currentTimeMillis());
+    }
+
+    /**
+     * Updates the animation logic with a given time, such as the simulation time
+     * of the engine, so the animation does not depend on the wall clock.
+     *
+     * @param currentTime The current time in milliseconds.
+     */
+    public void updateAnimation(long currentTime) {
         if (frames.size() <= 1 || frameDelayMillis <= 0)
             return;
 
-        long currentTime = System.currentTimeMillis();
+        if (lastFrameTime == NOT_STARTED) {
+            lastFrameTime = currentTime;
+            return;
+        }
         if (currentTime - lastFrameTime >= frameDelayMillis) {
             currentFrameIndex = (currentFrameIndex + 1) % frames.size();
             lastFrameTime = currentTime;
         }
     }
 
+    /**
+     * Retrieves the index of the frame currently displayed.
+     *
+     * @return The current frame index.
+     */
+    public int getFrameIndex() {
+        return currentFrameIndex;
+    }
+
     /**
      * Retrieves the list of animation frames.
      *
@@ -188,7 +214,7 @@ public class Shape implements IShape {
         this.frames = frames;
         this.currentFrameIndex = 0;
         this.frameDelayMillis = frameDelayMillis;
-        this.lastFrameTime = System.currentTimeMillis();
+        this.lastFrameTime = NOT_STARTED;
     }
 
     /**
@@ -0,0 +1,99 @@
+package core;
+
+import assets.Sample;
+import core.objectsInterface.ISoundEffects;
+import javax.sound.sampled.Clip;
+
+/**
+ * Sound effects that play nothing, for games that run without audio (headless
+ * runs, or machines where the mixer could not open a line).
+ *
+ * <p>
+ * Unlike a `SoundEffects` on a stopped mixer, it posts no commands, so no audio
+ * worker thread is started and the game loop does no audio work at all.
+ * </p>
+ *
+ * <p>
+ * Example usage:
+ * </p>
+ *
+ * <pre>
+ * ISoundEffects soundEffects = new SilentSoundEffects();
+ * soundEffects.addSound("explosion", AudioLoader.loadSample("explosion.wav"));
+ * soundEffects.playSound("explosion"); // Nothing is played
+ * </pre>
+ *
+ * @preConditions:
+ *                 - None.
+ *
+ * @postConditions:
+ *                  - No sound is ever played and `isPlaying()` is always false.
+ *
+ * @see SoundEffects
+ *
+ * @author Brandon Mejia
+ * @version 2025-05-20
+ */
+public class SilentSoundEffects implements ISoundEffects {
+
+    @Override
+    public void playSound(String soundName) {
+        // Nothing is played
+    }
+
+    @Override
+    public void addSound(String soundName, Clip clip) {
+        // The clip is not kept
+    }
+
+    @Override
+    public void addSound(String soundName, Sample sample) {
+        // The sample is not kept
+    }
+
+    @Override
+    public void loopSound(String soundName) {
+        // Nothing is played
+    }
+
+    @Override
+    public void stopSound(String soundName) {
+        // Nothing is playing
+    }
+
+    @Override
+    public void stopAllSounds() {
+        // Nothing is playing
+    }
+
+    /**
+     * Checks if a sound is playing.
+     *
+     * @param soundName The name of the sound (ignored).
+     * @return False: nothing is ever played.
+     */
+    @Override
+    public boolean isPlaying(String soundName) {
+        return false;
+    }
+
+    @Override
+    public void setVolume(String soundName, float volume) {
+        // Nothing is played
+    }
+
+    @Override
+    public void setPan(String soundName, float pan) {
+        // Nothing is played
+    }
+
+    @Override
+    public void setGlobalVolume(float volume) {
+        // Nothing is played
+    }
+
+    @Override
+    public void dispose() {
+        // Nothing to release
+    }
+}
@@ -1,10 +1,13 @@
 package core;
 
+import assets.Sample;
 import javax.sound.sampled.Clip;
 import javax.sound.sampled.FloatControl;
 import core.objectsInterface.ISoundEffects;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 /**
  * The SoundEffects class manages sound effects for a game, allowing for
@@ -14,12 +17,30 @@ import java.util.Map;
  * sound clips and global volume settings.
  *
  * <p>
+ * The class is a front end for an `AudioMixer`: short effects are added as
+ * shared `Sample`s and mixed with every other sound into the single line of the
+ * mixer, so game objects do not open an audio line each. The global volume
+ * belongs to this manager: it is multiplied into the gain of each of its
+ * sounds, so other managers sharing the mixer, and the music, keep their
+ * volume. The volume of the whole mix is the master volume of the mixer.
+ * `Clip`s can still be added and are played on lines of their own.
+ * </p>
+ *
+ * <p>
+ * Adding samples, playing, stopping and volume changes are posted to an
+ * `AudioCommandQueue` and run by its audio worker thread in posting order, so
+ * the calling thread (usually the game loop) never waits for the mixer or a
+ * clip. `isPlaying()` is answered right away and reflects only the commands
+ * the worker already ran: a sound just posted to play may not be reported yet.
+ * </p>
+ *
+ * <p>
  * Example usage:
  * </p>
  *
  * <pre>
  * SoundEffects soundEffects = new SoundEffects();
- * soundEffects.addSound("explosion", explosionClip);
+ * soundEffects.addSound("explosion", AudioLoader.loadSample("explosion.wav"));
  * soundEffects.playSound("explosion");
  * soundEffects.setGlobalVolume(0.5f);
  * </pre>
@@ -31,7 +52,8 @@ import java.util.Map;
  * @postConditions:
  *                  - Sound clips are stored and can be played, looped, or
  *                  stopped.
- *                  - Global volume affects all sound clips.
+ *                  - Global volume affects all the sounds of this manager
+ *                  and no other.
  *                  - Resources are released when dispose() is called.
  *
  * @see <a href=
@@ -45,14 +67,45 @@ import java.util.Map;
  * @version 2025-03-25
  */
 public class SoundEffects implements ISoundEffects {
-    private Map<String, Clip> soundClips = new HashMap<>();
-    private float globalVolume = 1.0f; // Default global volume (0.0 to 1.0)
+    private Map<String, Clip> soundClips = new ConcurrentHashMap<>();
+    private final Map<String, Sample> samples = new ConcurrentHashMap<>(); // Sounds played on the voice pool
+    private final Map<String, Float> sampleVolumes = new ConcurrentHashMap<>(); // Volume of each sample (0.0 to 1.0)
+    private final Map<String, Float> samplePans = new ConcurrentHashMap<>(); // Stereo position of each sample
+    private final Queue<Map.Entry<String, Sample>> addedSamples = new ConcurrentLinkedQueue<>(); // Posted by addSound, in order
+    private final AudioMixer mixer; // Plays the samples
+    private final AudioCommandQueue commands; // Runs the commands on the audio worker
+    private final AudioCommandQueue.Executor executor = this::execute;
+    private volatile float globalVolume = 1.0f; // Volume of this manager's sounds (0.0 to 1.0)
     // private static boolean off = true;
 
     /**
      * Default constructor for SoundEffects.
+     * Samples are played on the default mixer.
      */
     public SoundEffects() {
+        this(AudioMixer.getDefault());
+    }
+
+    /**
+     * Constructs a SoundEffects object that plays its samples on the given
+     * mixer.
+     *
+     * @param mixer The mixer shared with other sound effects.
+     */
+    public SoundEffects(AudioMixer mixer) {
+        this(mixer, AudioCommandQueue.getDefault());
+    }
+
+    /**
+     * Constructs a SoundEffects object that plays its samples on the given
+     * mixer and runs its commands on the given queue.
+     *
+     * @param mixer    The mixer shared with other sound effects.
+     * @param commands The queue whose worker runs the commands.
+     */
+    public SoundEffects(AudioMixer mixer, AudioCommandQueue commands) {
+        this.mixer = mixer == null ? AudioMixer.getDefault() : mixer;
+        this.commands = commands == null ? AudioCommandQueue.getDefault() : commands;
     }
 
     /**
@@ -61,7 +114,8 @@ public class SoundEffects implements ISoundEffects {
      * @param soundClips A map of sound names to their corresponding Clip objects.
      */
     public SoundEffects(Map<String, Clip> soundClips) {
-        this.soundClips = soundClips;
+        this();
+        this.soundClips = new ConcurrentHashMap<>(soundClips);
     }
 
     /**
@@ -93,6 +147,32 @@ public class SoundEffects implements ISoundEffects {
         setClipVolume(clip, this.globalVolume); // Apply global volume to the newly added sound
     }
 
+    /**
+     * Adds a shared sample to the sound effects manager. The sample is added
+     * on the audio worker, after the commands posted before it.
+     *
+     * @param soundName The name of the sound.
+     * @param sample    The decoded sample representing the sound.
+     */
+    @Override
+    public void addSound(String soundName, Sample sample) {
+        if (soundName == null || soundName.trim().isEmpty()) {
+            System.err.println("SoundEffects: Invalid sound name provided.");
+            return;
+        }
+        if (sample == null) {
+            System.err.println("SoundEffects: Null sample provided for '" + soundName + "'.");
+            return;
+        }
+
+        // The queue carries no sample: the ADD commands take the added samples in
+        // the order they were posted
+        synchronized (this.addedSamples) {
+            this.addedSamples.add(Map.entry(soundName, sample));
+            this.commands.post(this.executor, AudioCommandQueue.Op.ADD, soundName, 0.0f);
+        }
+    }
+
     /**
      * Plays a sound clip by its name.
      *
@@ -100,9 +180,155 @@ public class SoundEffects implements ISoundEffects {
      */
     @Override
     public void playSound(String soundName) {
+        this.commands.post(this.executor, AudioCommandQueue.Op.PLAY, soundName, 0.0f);
+    }
+
+    /**
+     * Loops a sound clip continuously by its name.
+     *
+     * @param soundName The name of the sound to loop.
+     */
+    @Override
+    public void loopSound(String soundName) {
+        this.commands.post(this.executor, AudioCommandQueue.Op.LOOP, soundName, 0.0f);
+    }
+
+    /**
+     * Stops a sound clip by its name.
+     *
+     * @param soundName The name of the sound to stop.
+     */
+    @Override
+    public void stopSound(String soundName) {
+        this.commands.post(this.executor, AudioCommandQueue.Op.STOP, soundName, 0.0f);
+    }
+
+    /**
+     * Stops all currently playing sound clips.
+     */
+    @Override
+    public void stopAllSounds() {
+        this.commands.post(this.executor, AudioCommandQueue.Op.STOP_ALL, null, 0.0f);
+    }
+
+    /**
+     * Checks if a specific sound is currently playing. The answer reflects only
+     * the commands the audio worker already ran, not those still queued.
+     *
+     * @param soundName The name of the sound to check.
+     * @return True if the sound is playing, false otherwise.
+     */
+    @Override
+    public boolean isPlaying(String soundName) {
+        Sample sample = samples.get(soundName);
+        if (sample != null)
+            return this.mixer.isPlaying(this, sample);
+
+        Clip clip = soundClips.get(soundName);
+        if (clip != null) {
+            return clip.isRunning();
+        }
+        for (Map.Entry<String, Sample> added : addedSamples)
+            if (added.getKey().equals(soundName))
+                return false; // Added, but the worker has not run the ADD yet
+        System.err.println("SoundEffects: Sound '" + soundName + "' not found to check playing status.");
+        return false;
+    }
+
+    /**
+     * Sets the volume for a specific sound clip.
+     *
+     * @param soundName The name of the sound.
+     * @param volume    The volume level (0.0 to 1.0).
+     */
+    @Override
+    public void setVolume(String soundName, float volume) {
+        this.commands.post(this.executor, AudioCommandQueue.Op.SET_VOLUME, soundName, volume);
+    }
+
+    /**
+     * Sets the stereo position of a sample.
+     *
+     * @param soundName The name of the sound.
+     * @param pan       The stereo position, from -1.0 (left) to 1.0 (right).
+     */
+    @Override
+    public void setPan(String soundName, float pan) {
+        this.commands.post(this.executor, AudioCommandQueue.Op.SET_PAN, soundName, pan);
+    }
+
+    /**
+     * Sets the global volume for all the sounds of this manager. Other managers
+     * sharing the mixer keep their volume; see `AudioMixer.setMasterVolume()`
+     * for the volume of the whole mix.
+     *
+     * @param volume The global volume level (0.0 to 1.0).
+     */
+    @Override
+    public void setGlobalVolume(float volume) {
+        this.commands.post(this.executor, AudioCommandQueue.Op.SET_GLOBAL_VOLUME, null, volume);
+    }
+
+    /**
+     * Releases all resources associated with the sound effects manager.
+     */
+    @Override
+    public void dispose() {
+        this.commands.post(this.executor, AudioCommandQueue.Op.DISPOSE, null, 0.0f);
+    }
+
+    /**
+     * Runs a command posted by this manager. Called by the audio worker.
+     *
+     * @param op        The kind of command.
+     * @param soundName The name of the sound, or null.
+     * @param value     The volume or pan, when the command has one.
+     */
+    private void execute(AudioCommandQueue.Op op, String soundName, float value) {
+        switch (op) {
+            case ADD -> add();
+            case PLAY -> play(soundName);
+            case LOOP -> loop(soundName);
+            case STOP -> stop(soundName);
+            case STOP_ALL -> stopAll();
+            case SET_VOLUME -> applyVolume(soundName, value);
+            case SET_PAN -> applyPan(soundName, value);
+            case SET_GLOBAL_VOLUME -> applyGlobalVolume(value);
+            case DISPOSE -> release();
+        }
+    }
+
+    /**
+     * Adds the oldest posted sample on the audio worker, replacing and stopping
+     * a sample with the same name.
+     */
+    private void add() {
+        Map.Entry<String, Sample> added = addedSamples.poll();
+        if (added == null)
+            return;
+
+        Sample old = samples.put(added.getKey(), added.getValue());
+        if (old != null)
+            this.mixer.stop(this, old);
+        sampleVolumes.put(added.getKey(), 1.0f);
+        samplePans.put(added.getKey(), 0.0f);
+    }
+
+    /**
+     * Plays a sound on the audio worker.
+     *
+     * @param soundName The name of the sound to play.
+     */
+    private void play(String soundName) {
         // if(off)
         // return;
 
+        Sample sample = samples.get(soundName);
+        if (sample != null) {
+            this.mixer.play(sample, sampleGain(soundName), samplePan(soundName), false, this);
+            return;
+        }
+
         Clip clip = soundClips.get(soundName);
         if (clip != null) {
             if (clip.isRunning()) {
@@ -116,15 +342,21 @@ public class SoundEffects implements ISoundEffects {
     }
 
     /**
-     * Loops a sound clip continuously by its name.
+     * Loops a sound on the audio worker.
      *
      * @param soundName The name of the sound to loop.
      */
-    @Override
-    public void loopSound(String soundName) {
+    private void loop(String soundName) {
         // if (off)
         // return;
 
+        Sample sample = samples.get(soundName);
+        if (sample != null) {
+            if (!this.mixer.isPlaying(this, sample))
+                this.mixer.play(sample, sampleGain(soundName), samplePan(soundName), true, this);
+            return;
+        }
+
         Clip clip = soundClips.get(soundName);
         if (clip != null) {
             if (!clip.isRunning()) {
@@ -137,12 +369,17 @@ public class SoundEffects implements ISoundEffects {
     }
 
     /**
-     * Stops a sound clip by its name.
+     * Stops a sound on the audio worker.
      *
      * @param soundName The name of the sound to stop.
      */
-    @Override
-    public void stopSound(String soundName) {
+    private void stop(String soundName) {
+        Sample sample = samples.get(soundName);
+        if (sample != null) {
+            this.mixer.stop(this, sample);
+            return;
+        }
+
         Clip clip = soundClips.get(soundName);
         if (clip != null && clip.isRunning()) {
             clip.stop();
@@ -152,10 +389,10 @@ public class SoundEffects implements ISoundEffects {
     }
 
     /**
-     * Stops all currently playing sound clips.
+     * Stops every sound of this manager on the audio worker.
      */
-    @Override
-    public void stopAllSounds() {
+    private void stopAll() {
+        this.mixer.stop(this, null);
         for (Clip clip : soundClips.values()) {
             if (clip.isRunning()) {
                 clip.stop();
@@ -164,45 +401,51 @@ public class SoundEffects implements ISoundEffects {
     }
 
     /**
-     * Checks if a specific sound is currently playing.
+     * Sets the volume of a sound on the audio worker.
      *
-     * @param soundName The name of the sound to check.
-     * @return True if the sound is playing, false otherwise.
+     * @param soundName The name of the sound.
+     * @param volume    The volume level (0.0 to 1.0).
      */
-    @Override
-    public boolean isPlaying(String soundName) {
+    private void applyVolume(String soundName, float volume) {
+        if (samples.containsKey(soundName)) {
+            sampleVolumes.put(soundName, Math.max(0.0f, Math.min(1.0f, volume)));
+            this.mixer.setGain(this, samples.get(soundName), sampleGain(soundName));
+            return;
+        }
+
         Clip clip = soundClips.get(soundName);
         if (clip != null) {
-            return clip.isRunning();
+            setClipVolume(clip, volume * this.globalVolume);
+        } else {
+            System.err.println("SoundEffects: Sound '" + soundName + "' not found to set volume.");
         }
-        System.err.println("SoundEffects: Sound '" + soundName + "' not found to check playing status.");
-        return false;
     }
 
     /**
-     * Sets the volume for a specific sound clip.
+     * Sets the stereo position of a sample on the audio worker.
      *
      * @param soundName The name of the sound.
-     * @param volume    The volume level (0.0 to 1.0).
+     * @param pan       The stereo position, from -1.0 (left) to 1.0 (right).
      */
-    @Override
-    public void setVolume(String soundName, float volume) {
-        Clip clip = soundClips.get(soundName);
-        if (clip != null) {
-            setClipVolume(clip, volume * this.globalVolume);
+    private void applyPan(String soundName, float pan) {
+        Sample sample = samples.get(soundName);
+        if (sample != null) {
+            samplePans.put(soundName, Math.max(-1.0f, Math.min(1.0f, pan)));
+            this.mixer.setPan(this, sample, samplePan(soundName));
         } else {
-            System.err.println("SoundEffects: Sound '" + soundName + "' not found to set volume.");
+            System.err.println("SoundEffects: Sound '" + soundName + "' not found to set pan.");
         }
     }
 
     /**
-     * Sets the global volume for all sound clips.
+     * Sets the global volume on the audio worker.
      *
      * @param volume The global volume level (0.0 to 1.0).
      */
-    @Override
-    public void setGlobalVolume(float volume) {
+    private void applyGlobalVolume(float volume) {
         this.globalVolume = Math.max(0.0f, Math.min(1.0f, volume));
+        for (Map.Entry<String, Sample> entry : samples.entrySet())
+            this.mixer.setGain(this, entry.getValue(), sampleGain(entry.getKey()));
         for (String soundName : soundClips.keySet()) {
             Clip clip = soundClips.get(soundName);
             if (clip != null) {
@@ -212,20 +455,43 @@ public class SoundEffects implements ISoundEffects {
     }
 
     /**
-     * Releases all resources associated with the sound effects manager.
+     * Releases the resources of this manager on the audio worker.
      */
-    @Override
-    public void dispose() {
-        stopAllSounds();
+    private void release() {
+        stopAll();
         for (Clip clip : soundClips.values()) {
             if (clip.isOpen()) {
                 clip.close();
             }
         }
         soundClips.clear();
+        samples.clear();
+        sampleVolumes.clear();
+        samplePans.clear();
         System.out.println("SoundEffects: Resources released.");
     }
 
+    /**
+     * Gets the gain a sample is played at: its own volume times the global
+     * volume of this manager. The master volume is applied by the mixer.
+     *
+     * @param soundName The name of the sample.
+     * @return The gain (0.0 to 1.0).
+     */
+    private float sampleGain(String soundName) {
+        return sampleVolumes.getOrDefault(soundName, 1.0f) * this.globalVolume;
+    }
+
+    /**
+     * Gets the stereo position a sample is played at.
+     *
+     * @param soundName The name of the sample.
+     * @return The pan, from -1.0 (left) to 1.0 (right).
+     */
+    private float samplePan(String soundName) {
+        return samplePans.getOrDefault(soundName, 0.0f);
+    }
+
     /**
      * Sets the volume for a specific Clip object.
      *
@@ -248,4 +514,4 @@ public class SoundEffects implements ISoundEffects {
             gainControl.setValue(dB);
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,342 @@
+package core;
+
+import core.objectsInterface.ICollider;
+import core.objectsInterface.IGameObject;
+
+import java.util.Arrays;
+
+/**
+ * The `SpatialHashGrid` class is a uniform spatial hash used as the collision
+ * broadphase of the `GameEngine`.
+ * Game objects are bucketed by the axis-aligned bounds of their colliders into
+ * square cells of a configurable size. Only objects that share at least one
+ * cell are reported as candidate pairs, so the exact (and expensive) collider
+ * test runs only for objects that are close to each other.
+ *
+ * <p>
+ * The grid is rebuilt every tick: call `clear()`, `insert()` every object and
+ * then `forEachPair()` or `query()`. Cell entries are packed into a single
+ * `long` array (cell hash in the high bits, object index in the low bits) and
+ * sorted in place, so after the arrays have grown to the working size no
+ * allocation happens per tick.
+ * </p>
+ *
+ * @preConditions:
+ *                 - The cell size must be greater than 0.
+ *                 - Inserted objects must have a non-null collider.
+ *
+ * @postConditions:
+ *                  - Every pair of inserted objects whose cells overlap is
+ *                  reported exactly once by `forEachPair()`.
+ *                  - Every inserted object whose cells overlap the queried
+ *                  area is reported exactly once by `query()`.
+ *
+ * @see GameEngine
+ * @see ICollider
+ *
+ * @author Brandon Mejia
+ * @version 2025-05-20
+ */
+public class SpatialHashGrid {
+
+    /**
+     * Receives the candidate pairs found by the grid.
+     */
+    public interface PairVisitor {
+        /**
+         * Visits a candidate pair.
+         *
+         * @param a The first object of the pair.
+         * @param b The second object of the pair.
+         */
+        void visit(IGameObject a, IGameObject b);
+    }
+
+    /**
+     * Receives the objects found by a grid query.
+     */
+    public interface ObjectVisitor {
+        /**
+         * Visits an object found by a query.
+         *
+         * @param go The object found.
+         */
+        void visit(IGameObject go);
+    }
+
+    private double cellSize; // Side length of each square cell
+    private double inverseCellSize; // Cached 1 / cellSize
+
+    // Inserted objects and the range of cells each one covers
+    private IGameObject[] objects = new IGameObject[64];
+    private int[] minCellX = new int[64];
+    private int[] minCellY = new int[64];
+    private int[] maxCellX = new int[64];
+    private int[] maxCellY = new int[64];
+    private int objectCount = 0;
+
+    // Packed (cell hash << 32 | object index) entries, one per covered cell
+    private long[] entries = new long[256];
+    private int entryCount = 0;
+    private boolean sorted = true;
+
+    // Per-object stamps used to report each object once per query
+    private int[] queryStamp = new int[64];
+    private int queryCounter = 0;
+
+    /**
+     * Validates the invariant for the `SpatialHashGrid` class.
+     * Ensures that the cell size is a positive number.
+     *
+     * @param cellSize The cell size. Must be greater than 0.
+     * @throws IllegalArgumentException if the cell size is not positive.
+     */
+    private void invariante(double cellSize) {
+        if (cellSize > 0 && !Double.isInfinite(cellSize))
+            return;
+
+        throw new IllegalArgumentException("SpatialHashGrid:iv");
+    }
+
+    /**
+     * Constructs an empty grid with the given cell size.
+     *
+     * @param cellSize The side length of each cell, in world units.
+     */
+    public SpatialHashGrid(double cellSize) {
+        this.setCellSize(cellSize);
+    }
+
+    /**
+     * Sets the side length of the cells. Takes effect on the next `insert()`.
+     *
+     * @param cellSize The side length of each cell, in world units.
+     */
+    public void setCellSize(double cellSize) {
+        invariante(cellSize);
+        this.cellSize = cellSize;
+        this.inverseCellSize = 1.0 / cellSize;
+    }
+
+    /**
+     * Gets the side length of the cells.
+     *
+     * @return The cell size, in world units.
+     */
+    public double getCellSize() {
+        return this.cellSize;
+    }
+
+    /**
+     * Gets the number of objects inserted since the last `clear()`.
+     *
+     * @return The number of objects in the grid.
+     */
+    public int size() {
+        return this.objectCount;
+    }
+
+    /**
+     * Removes every object from the grid, keeping the allocated storage.
+     */
+    public void clear() {
+        Arrays.fill(this.objects, 0, this.objectCount, null);
+        this.objectCount = 0;
+        this.entryCount = 0;
+        this.sorted = true;
+    }
+
+    /**
+     * Inserts a game object into every cell covered by its collider bounds.
+     *
+     * @param go The game object to insert.
+     */
+    public void insert(IGameObject go) {
+        ICollider collider = go.collider();
+        this.insert(go, collider.minX(), collider.minY(), collider.maxX(), collider.maxY());
+    }
+
+    /**
+     * Inserts a game object into every cell covered by the given bounds.
+     *
+     * @param go   The game object to insert.
+     * @param minX The minimum x of the bounds.
+     * @param minY The minimum y of the bounds.
+     * @param maxX The maximum x of the bounds.
+     * @param maxY The maximum y of the bounds.
+     */
+    public void insert(IGameObject go, double minX, double minY, double maxX, double maxY) {
+        if (this.objectCount == this.objects.length)
+            this.growObjects();
+
+        int index = this.objectCount++;
+        int x0 = cell(minX), y0 = cell(minY), x1 = cell(maxX), y1 = cell(maxY);
+        this.objects[index] = go;
+        this.minCellX[index] = x0;
+        this.minCellY[index] = y0;
+        this.maxCellX[index] = x1;
+        this.maxCellY[index] = y1;
+
+        for (int cx = x0; cx <= x1; cx++) {
+            for (int cy = y0; cy <= y1; cy++) {
+                if (this.entryCount == this.entries.length)
+                    this.entries = Arrays.copyOf(this.entries, this.entries.length * 2);
+
+                this.entries[this.entryCount++] = pack(hash(cx, cy), index);
+            }
+        }
+        this.sorted = false;
+    }
+
+    /**
+     * Reports every pair of objects that share at least one cell.
+     * A pair sharing several cells is reported only once, in the first cell
+     * (lowest x, then lowest y) both objects cover.
+     *
+     * @param visitor The visitor that receives the candidate pairs.
+     */
+    public void forEachPair(PairVisitor visitor) {
+        this.ensureSorted();
+
+        int start = 0;
+        while (start < this.entryCount) {
+            int runHash = hashOf(this.entries[start]);
+            int end = start + 1;
+            while (end < this.entryCount && hashOf(this.entries[end]) == runHash)
+                end++;
+
+            for (int i = start; i < end; i++) {
+                int a = indexOf(this.entries[i]);
+                if (i > start && a == indexOf(this.entries[i - 1]))
+                    continue; // Same object in two cells with the same hash
+
+                for (int j = i + 1; j < end; j++) {
+                    int b = indexOf(this.entries[j]);
+                    if (b == indexOf(this.entries[j - 1]))
+                        continue;
+
+                    int sharedX = Math.max(this.minCellX[a], this.minCellX[b]);
+                    int sharedY = Math.max(this.minCellY[a], this.minCellY[b]);
+                    if (sharedX > Math.min(this.maxCellX[a], this.maxCellX[b]) ||
+                            sharedY > Math.min(this.maxCellY[a], this.maxCellY[b]))
+                        continue; // Only a hash collision, no cell in common
+
+                    if (hash(sharedX, sharedY) == runHash)
+                        visitor.visit(this.objects[a], this.objects[b]);
+                }
+            }
+            start = end;
+        }
+    }
+
+    /**
+     * Reports every object that shares at least one cell with the given bounds.
+     *
+     * @param minX    The minimum x of the queried area.
+     * @param minY    The minimum y of the queried area.
+     * @param maxX    The maximum x of the queried area.
+     * @param maxY    The maximum y of the queried area.
+     * @param visitor The visitor that receives the objects found.
+     */
+    public void query(double minX, double minY, double maxX, double maxY, ObjectVisitor visitor) {
+        this.ensureSorted();
+        if (++this.queryCounter == 0) { // Stamp overflow: start again from a clean slate
+            Arrays.fill(this.queryStamp, 0);
+            this.queryCounter = 1;
+        }
+
+        int x0 = cell(minX), y0 = cell(minY), x1 = cell(maxX), y1 = cell(maxY);
+        for (int cx = x0; cx <= x1; cx++) {
+            for (int cy = y0; cy <= y1; cy++) {
+                int h = hash(cx, cy);
+                for (int i = this.firstEntry(h); i < this.entryCount && hashOf(this.entries[i]) == h; i++) {
+                    int index = indexOf(this.entries[i]);
+                    if (this.queryStamp[index] == this.queryCounter)
+                        continue;
+                    if (this.minCellX[index] > cx || this.maxCellX[index] < cx ||
+                            this.minCellY[index] > cy || this.maxCellY[index] < cy)
+                        continue; // Only a hash collision
+
+                    this.queryStamp[index] = this.queryCounter;
+                    visitor.visit(this.objects[index]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Sorts the cell entries so each cell forms a contiguous run.
+     */
+    private void ensureSorted() {
+        if (this.sorted)
+            return;
+
+        Arrays.sort(this.entries, 0, this.entryCount);
+        this.sorted = true;
+    }
+
+    /**
+     * Finds the first entry of the run with the given cell hash.
+     *
+     * @param h The cell hash.
+     * @return The index of the first entry not smaller than the run's key.
+     */
+    private int firstEntry(int h) {
+        long key = pack(h, 0);
+        int low = 0, high = this.entryCount;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (this.entries[mid] < key)
+                low = mid + 1;
+            else
+                high = mid;
+        }
+        return low;
+    }
+
+    /**
+     * Doubles the capacity of the per-object arrays.
+     */
+    private void growObjects() {
+        int capacity = this.objects.length * 2;
+        this.objects = Arrays.copyOf(this.objects, capacity);
+        this.minCellX = Arrays.copyOf(this.minCellX, capacity);
+        this.minCellY = Arrays.copyOf(this.minCellY, capacity);
+        this.maxCellX = Arrays.copyOf(this.maxCellX, capacity);
+        this.maxCellY = Arrays.copyOf(this.maxCellY, capacity);
+        this.queryStamp = Arrays.copyOf(this.queryStamp, capacity);
+    }
+
+    /**
+     * Converts a world coordinate into a cell coordinate.
+     *
+     * @param value The world coordinate.
+     * @return The cell coordinate.
+     */
+    private int cell(double value) {
+        return (int) Math.floor(value * this.inverseCellSize);
+    }
+
+    /**
+     * Hashes a cell coordinate into 32 bits.
+     *
+     * @param cx The cell x-coordinate.
+     * @param cy The cell y-coordinate.
+     * @return The cell hash.
+     */
+    private static int hash(int cx, int cy) {
+        return (cx * 0x8da6b343) ^ (cy * 0xd8163841);
+    }
+
+    private static long pack(int hash, int index) {
+        return ((long) hash << 32) | (index & 0xffffffffL);
+    }
+
+    private static int hashOf(long entry) {
+        return (int) (entry >> 32);
+    }
+
+    private static int indexOf(long entry) {
+        return (int) entry;
+    }
+}
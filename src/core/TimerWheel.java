@@ -0,0 +1,334 @@
+package core;
+
+/**
+ * The `TimerWheel` class runs the timed logic of the game (cooldowns,
+ * invincibility, respawns, wave timers...) on the game thread. Delays are
+ * measured in simulation ticks, and the wheel is advanced by the `GameEngine`
+ * once per tick, so timers follow the simulation instead of the wall clock and
+ * need no background thread.
+ *
+ * <p>
+ * The wheel is hierarchical: each level has 64 slots, and a slot of level `n`
+ * covers 64^n ticks. A timer is linked into the slot of the level that fits its
+ * delay and is moved down one level when the wheel reaches that slot, until it
+ * lands in the first level, whose slots are run one per tick. Scheduling,
+ * cancelling and running a timer are O(1); moving it down is O(1) per level.
+ * </p>
+ *
+ * <p>
+ * Example usage:
+ * </p>
+ *
+ * <pre>
+ * TimerWheel timers = engine.getTimerWheel();
+ * TimerWheel.Timer cooldown = timers.schedule(timers.ticks(2000), () -&gt; this.isInvincible = false);
+ * TimerWheel.Timer wave = timers.scheduleAtFixedRate(timers.ticks(1000), timers.ticks(10000), this::spawnWave);
+ * wave.cancel();
+ * </pre>
+ *
+ * @preConditions:
+ *                 - The wheel is used by one thread (the game thread).
+ *                 - Delays and periods must be greater than 0 ticks. Durations
+ *                 in milliseconds are converted with `ticks()`, so they do not
+ *                 depend on the tick rate.
+ *
+ * @postConditions:
+ *                  - A timer runs on the tick its delay expires, never earlier.
+ *                  - Timers due on the same tick run in the order they reached
+ *                  their slot.
+ *                  - An exception thrown by a timer is reported and does not
+ *                  stop the other timers.
+ *
+ * @see GameEngine
+ *
+ * @author Brandon Mejia
+ * @version 2025-05-20
+ */
+public class TimerWheel {
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS; // Slots per level
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int LEVELS = 4; // Covers 2^24 ticks (over 3 days at 60 ticks per second)
+    private static final long MAX_SPAN = 1L << (SLOT_BITS * LEVELS);
+
+    /**
+     * A scheduled task, linked into one slot of the wheel.
+     */
+    public static final class Timer {
+        private final TimerWheel wheel;
+        private final Runnable task;
+        private final long period; // Ticks between runs, or 0 to run once
+        private long deadline; // Tick the timer runs on
+        private int slot = -1; // Index of the slot it is linked into, or -1
+        private Timer previous;
+        private Timer next;
+        private boolean cancelled = false;
+
+        private Timer(TimerWheel wheel, Runnable task, long deadline, long period) {
+            this.wheel = wheel;
+            this.task = task;
+            this.deadline = deadline;
+            this.period = period;
+        }
+
+        /**
+         * Cancels the timer. It will not run again. Has no effect if it already
+         * ran once or was cancelled.
+         */
+        public void cancel() {
+            this.cancelled = true;
+            if (this.slot >= 0)
+                this.wheel.unlink(this);
+        }
+
+        /**
+         * Checks if the timer is still waiting to run.
+         *
+         * @return True if it was not cancelled and will run again.
+         */
+        public boolean isPending() {
+            return !this.cancelled && this.slot >= 0;
+        }
+
+        /**
+         * Gets the tick the timer runs on next.
+         *
+         * @return The deadline tick.
+         */
+        public long deadline() {
+            return this.deadline;
+        }
+    }
+
+    private final Timer[] heads = new Timer[SLOTS * LEVELS]; // First timer of each slot, level by level
+    private final Timer[] tails = new Timer[SLOTS * LEVELS]; // Last timer of each slot
+    private long now = 0; // Last tick advanced to
+    private int tickRate = 60; // Ticks per second, to convert ticks to simulation time
+    private int size = 0; // Timers linked into the wheel
+
+    // Statistics
+    private long fired = 0;
+    private long cascaded = 0;
+
+    /**
+     * Validates the invariant for the timers.
+     * Ensures that the task is present and the delay is positive.
+     *
+     * @param task  The task to run.
+     * @param delay The delay in ticks. Must be greater than 0.
+     * @throws IllegalArgumentException if a value is invalid.
+     */
+    private void invariante(Runnable task, long delay) {
+        if (task != null && delay > 0)
+            return;
+
+        throw new IllegalArgumentException("TimerWheel:iv");
+    }
+
+    /**
+     * Schedules a task to run once.
+     *
+     * @param delayTicks The number of ticks before it runs. Must be greater than
+     *                   0.
+     * @param task       The task to run.
+     * @return The timer, which can be cancelled.
+     */
+    public Timer schedule(long delayTicks, Runnable task) {
+        invariante(task, delayTicks);
+        Timer timer = new Timer(this, task, this.now + delayTicks, 0);
+        this.link(timer);
+        return timer;
+    }
+
+    /**
+     * Schedules a task to run repeatedly. The runs stay on the ticks
+     * `initialDelayTicks + k * periodTicks`, whatever the task does.
+     *
+     * @param initialDelayTicks The number of ticks before the first run. Must be
+     *                          greater than 0.
+     * @param periodTicks       The number of ticks between runs. Must be greater
+     *                          than 0.
+     * @param task              The task to run.
+     * @return The timer, which can be cancelled.
+     */
+    public Timer scheduleAtFixedRate(long initialDelayTicks, long periodTicks, Runnable task) {
+        invariante(task, initialDelayTicks);
+        invariante(task, periodTicks);
+        Timer timer = new Timer(this, task, this.now + initialDelayTicks, periodTicks);
+        this.link(timer);
+        return timer;
+    }
+
+    /**
+     * Advances the wheel by one tick and runs the timers due on it. Timers
+     * scheduled by a running task run on a later tick.
+     */
+    public void advance() {
+        long now = ++this.now;
+
+        // Move down the timers of every higher level whose slot starts on this tick, highest first
+        int level = 1;
+        while (level < LEVELS && (now & ((1L << (SLOT_BITS * level)) - 1)) == 0)
+            level++;
+        for (level = level - 1; level >= 1; level--)
+            this.cascade(level * SLOTS + (int) ((now >>> (SLOT_BITS * level)) & SLOT_MASK));
+
+        int slot = (int) (now & SLOT_MASK);
+        Timer timer;
+        while ((timer = this.heads[slot]) != null) {
+            this.unlink(timer);
+            this.fired++;
+            try {
+                timer.task.run();
+            } catch (RuntimeException e) {
+                System.err.println("TimerWheel: Timer failed on tick " + now + ": " + e);
+            }
+            if (timer.period > 0 && !timer.cancelled) {
+                timer.deadline += timer.period;
+                this.link(timer);
+            }
+        }
+    }
+
+    /**
+     * Re-links the timers of a slot of a higher level into the levels that fit
+     * the ticks they have left.
+     *
+     * @param slot The index of the slot.
+     */
+    private void cascade(int slot) {
+        Timer timer = this.heads[slot];
+        this.heads[slot] = null;
+        this.tails[slot] = null;
+        while (timer != null) {
+            Timer next = timer.next;
+            timer.previous = null;
+            timer.next = null;
+            timer.slot = -1;
+            this.size--;
+            this.link(timer);
+            this.cascaded++;
+            timer = next;
+        }
+    }
+
+    /**
+     * Links a timer at the end of the slot that fits its deadline.
+     *
+     * @param timer The timer.
+     */
+    private void link(Timer timer) {
+        long delta = Math.min(Math.max(timer.deadline - this.now, 0), MAX_SPAN - 1);
+        long deadline = this.now + delta; // Far deadlines wait in the last level and are placed again later
+
+        int level = 0;
+        while (level < LEVELS - 1 && delta >= (1L << (SLOT_BITS * (level + 1))))
+            level++;
+        int slot = level * SLOTS + (int) ((deadline >>> (SLOT_BITS * level)) & SLOT_MASK);
+
+        timer.slot = slot;
+        timer.previous = this.tails[slot];
+        timer.next = null;
+        if (this.tails[slot] == null)
+            this.heads[slot] = timer;
+        else
+            this.tails[slot].next = timer;
+        this.tails[slot] = timer;
+        this.size++;
+    }
+
+    /**
+     * Removes a timer from its slot.
+     *
+     * @param timer The timer.
+     */
+    private void unlink(Timer timer) {
+        int slot = timer.slot;
+        if (timer.previous == null)
+            this.heads[slot] = timer.next;
+        else
+            timer.previous.next = timer.next;
+        if (timer.next == null)
+            this.tails[slot] = timer.previous;
+        else
+            timer.next.previous = timer.previous;
+
+        timer.previous = null;
+        timer.next = null;
+        timer.slot = -1;
+        this.size--;
+    }
+
+    /**
+     * Gets the last tick the wheel was advanced to.
+     *
+     * @return The current tick.
+     */
+    public long now() {
+        return this.now;
+    }
+
+    /**
+     * Sets the number of ticks per second, used to convert the current tick to
+     * simulation time.
+     *
+     * @param tickRate The tick rate in Hz. Must be greater than 0.
+     */
+    public void setTickRate(int tickRate) {
+        if (tickRate <= 0)
+            throw new IllegalArgumentException("TimerWheel:iv");
+        this.tickRate = tickRate;
+    }
+
+    /**
+     * Converts a duration to ticks at the tick rate of the wheel, rounding up so
+     * a timer never runs before the duration has passed.
+     *
+     * @param millis The duration in milliseconds. Must not be negative.
+     * @return The number of ticks, at least 1.
+     */
+    public long ticks(long millis) {
+        if (millis < 0)
+            throw new IllegalArgumentException("TimerWheel:iv");
+        return Math.max(1, (millis * this.tickRate + 999) / 1000);
+    }
+
+    /**
+     * Gets the number of ticks per second.
+     *
+     * @return The tick rate in Hz.
+     */
+    public int getTickRate() {
+        return this.tickRate;
+    }
+
+    /**
+     * Gets the simulation time: the ticks advanced, in milliseconds. Unlike the
+     * wall clock, it is the same on every run of the same ticks.
+     *
+     * @return The simulation time in milliseconds.
+     */
+    public long timeMillis() {
+        return this.now * 1000 / this.tickRate;
+    }
+
+    /**
+     * Gets the number of timers waiting to run.
+     *
+     * @return The number of pending timers.
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Returns a string representation of the wheel statistics.
+     *
+     * @return A string with the current tick, pending timers, runs and moves
+     *         between levels.
+     */
+    @Override
+    public String toString() {
+        return "TimerWheel{tick=" + now + ", pending=" + size + ", fired=" + fired + ", cascaded=" + cascaded + '}';
+    }
+}
@@ -34,11 +34,18 @@ import geometry.Ponto;
  * @version 2025-03-25
  */
 public class Transform implements ITransform {
-    private Ponto position; // The position of the transform
+    private double x; // The x position of the transform
+    private double y; // The y position of the transform
     private int layer; // The layer of the transform
     private double angle; // The angle of the transform (0 <= angle < 360)
     private double previousAngle; // The previous angle of the transform
     private double scale; // The scale of the transform
+    private long version; // Incremented every time position, angle or scale change
+
+    // State at the start of the current simulation tick, used for render interpolation
+    private double tickStartX; // The x position at the start of the tick
+    private double tickStartY; // The y position at the start of the tick
+    private double tickStartAngle; // The angle at the start of the tick
 
     /**
      * Validates the invariants for the `Transform` class.
@@ -68,7 +75,8 @@ public class Transform implements ITransform {
     public Transform(Ponto p, int layer, double angle, double scale) {
         invariante(layer, scale);
 
-        this.position = new Ponto(p);
+        this.x = p.x();
+        this.y = p.y();
         this.layer = layer;
         this.scale = scale;
         this.angle = angle;
@@ -77,6 +85,7 @@ public class Transform implements ITransform {
             this.angle += 360;
 
         this.angle = angle % 360;
+        this.storeTickState();
     }
 
     /**
@@ -85,10 +94,38 @@ public class Transform implements ITransform {
      * @param t The Transform object to copy.
      */
     public Transform(Transform t) {
-        this.position = new Ponto(t.position());
+        this.x = t.x;
+        this.y = t.y;
         this.layer = t.layer();
         this.angle = t.angle();
         this.scale = t.scale();
+        this.storeTickState();
+    }
+
+    /**
+     * Places the transform in a new state, as if it had just been constructed.
+     * Used to reuse the transforms of pooled game objects.
+     *
+     * @param p     The new position.
+     * @param layer The new layer.
+     * @param angle The new angle.
+     * @param scale The new scale.
+     */
+    public void reset(Ponto p, int layer, double angle, double scale) {
+        invariante(layer, scale);
+
+        this.x = p.x();
+        this.y = p.y();
+        this.layer = layer;
+        this.scale = scale;
+        this.previousAngle = 0;
+
+        if (angle < 0)
+            angle += 360;
+
+        this.angle = angle % 360;
+        this.version++;
+        this.storeTickState();
     }
 
     /**
@@ -100,7 +137,12 @@ public class Transform implements ITransform {
     @Override
     public void move(Ponto dPos, int dlayer) {
         this.layer += dlayer;
-        this.position = new Ponto(this.position.x() + dPos.x(), this.position.y() + dPos.y());
+        if (dPos.x() == 0 && dPos.y() == 0)
+            return;
+
+        this.x += dPos.x();
+        this.y += dPos.y();
+        this.version++;
     }
 
     /**
@@ -118,6 +160,8 @@ public class Transform implements ITransform {
             this.angle += 360;
 
         this.angle = this.angle % 360;
+        if (dTheta != 0)
+            this.version++;
     }
 
     /**
@@ -128,6 +172,8 @@ public class Transform implements ITransform {
     @Override
     public void scale(double dScale) {
         this.scale += dScale;
+        if (dScale != 0)
+            this.version++;
     }
 
     /**
@@ -137,7 +183,40 @@ public class Transform implements ITransform {
      */
     @Override
     public Ponto position() {
-        return new Ponto(this.position);
+        return new Ponto(this.x, this.y);
+    }
+
+    /**
+     * Gets the x-coordinate of the position without allocating a point.
+     *
+     * @return The x-coordinate of the transform.
+     */
+    @Override
+    public double x() {
+        return this.x;
+    }
+
+    /**
+     * Gets the y-coordinate of the position without allocating a point.
+     *
+     * @return The y-coordinate of the transform.
+     */
+    @Override
+    public double y() {
+        return this.y;
+    }
+
+    /**
+     * Gets the version of the transform. The version changes every time the
+     * position, angle or scale change, so colliders can tell whether their
+     * cached world-space shape is still valid by comparing it with the version
+     * they last used.
+     *
+     * @return The current version of the transform.
+     */
+    @Override
+    public long version() {
+        return this.version;
     }
 
     /**
@@ -178,6 +257,76 @@ public class Transform implements ITransform {
         this.previousAngle = angle;
     }
 
+    /**
+     * Records the current position and angle as the state at the start of a
+     * simulation tick. The game engine calls this before updating the object, so
+     * the renderer can blend between the previous and the current tick.
+     */
+    @Override
+    public void storeTickState() {
+        this.tickStartX = this.x;
+        this.tickStartY = this.y;
+        this.tickStartAngle = this.angle;
+    }
+
+    /**
+     * Gets the position interpolated between the start of the tick and the
+     * current position.
+     *
+     * @param alpha The interpolation factor (0 = start of tick, 1 = current).
+     * @return The interpolated position.
+     */
+    @Override
+    public Ponto interpolatedPosition(double alpha) {
+        return new Ponto(this.interpolatedX(alpha), this.interpolatedY(alpha));
+    }
+
+    /**
+     * Gets the x-coordinate interpolated between the start of the tick and the
+     * current position.
+     *
+     * @param alpha The interpolation factor (0 = start of tick, 1 = current).
+     * @return The interpolated x-coordinate.
+     */
+    @Override
+    public double interpolatedX(double alpha) {
+        return this.tickStartX + (this.x - this.tickStartX) * alpha;
+    }
+
+    /**
+     * Gets the y-coordinate interpolated between the start of the tick and the
+     * current position.
+     *
+     * @param alpha The interpolation factor (0 = start of tick, 1 = current).
+     * @return The interpolated y-coordinate.
+     */
+    @Override
+    public double interpolatedY(double alpha) {
+        return this.tickStartY + (this.y - this.tickStartY) * alpha;
+    }
+
+    /**
+     * Gets the angle interpolated between the start of the tick and the current
+     * angle, following the shortest arc.
+     *
+     * @param alpha The interpolation factor (0 = start of tick, 1 = current).
+     * @return The interpolated angle (0 <= angle < 360).
+     */
+    @Override
+    public double interpolatedAngle(double alpha) {
+        double delta = this.angle - this.tickStartAngle;
+        if (delta > 180)
+            delta -= 360;
+        else if (delta < -180)
+            delta += 360;
+
+        double result = (this.tickStartAngle + delta * alpha) % 360;
+        if (result < 0)
+            result += 360;
+
+        return result;
+    }
+
     /**
      * Gets the scale of the transform.
      *
@@ -195,7 +344,7 @@ public class Transform implements ITransform {
      */
     @Override
     public String toString() {
-        String pontos = this.position.toString();
+        String pontos = this.position().toString();
         String angle = String.format("%.2f", angle()).replace(",", ".");
         String scale = String.format("%.2f", scale()).replace(",", ".");
 
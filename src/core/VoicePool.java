@@ -0,0 +1,351 @@
+package core;
+
+import assets.Sample;
+import javax.sound.sampled.AudioFormat;
+
+/**
+ * The `VoicePool` class is the bounded set of voices mixed by an `AudioMixer`.
+ * A voice plays a shared `Sample` with its own position, gain and pan, so any
+ * number of game objects can use the same sound without a copy of its data or
+ * an audio line of their own.
+ *
+ * <p>
+ * A sound is started on a free voice. When every voice is busy, the voice that
+ * was started first is stolen: its sound is cut and the voice is reused for the
+ * new sound. Each voice remembers its owner (usually a `SoundEffects`), so an
+ * owner can stop or check only its own sounds.
+ * </p>
+ *
+ * <p>
+ * Samples are resampled to the rate of the mixer with linear interpolation;
+ * 8 and 16 bit signed PCM, mono or stereo, can be mixed.
+ * </p>
+ *
+ * @preConditions:
+ *                 - The number of voices must be greater than 0.
+ *
+ * @postConditions:
+ *                  - At most `size()` sounds play at the same time.
+ *                  - All methods are thread-safe; `mix()` holds the lock of the
+ *                  pool only while one buffer is rendered.
+ *
+ * @see AudioMixer
+ * @see Sample
+ *
+ * @author Brandon Mejia
+ * @version 2025-05-20
+ */
+public class VoicePool {
+    public static final int DEFAULT_VOICES = 16;
+
+    /**
+     * A sound being played.
+     */
+    private static final class Voice {
+        private boolean active = false;
+        private Sample sample;
+        private Object owner; // Who started the sound
+        private double position; // Position in the sample, in frames
+        private float gain; // Volume (0.0 to 1.0)
+        private float pan; // -1.0 (left) to 1.0 (right)
+        private boolean loop;
+        private long startedAt; // Order in which the voice was started
+    }
+
+    private final Voice[] voices;
+    private long starts = 0; // Start counter used to find the oldest voice
+
+    // Statistics
+    private long plays = 0;
+    private long steals = 0;
+    private long dropped = 0;
+
+    /**
+     * Validates the invariant for the `VoicePool` class.
+     * Ensures that the number of voices is positive.
+     *
+     * @param size The number of voices. Must be greater than 0.
+     * @throws IllegalArgumentException if the number of voices is not positive.
+     */
+    private void invariante(int size) {
+        if (size > 0)
+            return;
+
+        throw new IllegalArgumentException("VoicePool:iv");
+    }
+
+    /**
+     * Creates a pool with the default number of voices.
+     */
+    public VoicePool() {
+        this(DEFAULT_VOICES);
+    }
+
+    /**
+     * Creates a pool.
+     *
+     * @param size The maximum number of sounds that play at the same time.
+     */
+    public VoicePool(int size) {
+        invariante(size);
+        this.voices = new Voice[size];
+        for (int i = 0; i < size; i++)
+            this.voices[i] = new Voice();
+    }
+
+    /**
+     * Starts a sample on a voice, stealing the oldest voice if all are busy.
+     *
+     * @param sample The sample to play.
+     * @param gain   The volume level (0.0 to 1.0).
+     * @param pan    The stereo position, from -1.0 (left) to 1.0 (right).
+     * @param loop   True to loop the sample until it is stopped.
+     * @param owner  The owner of the sound, used by `stop()` and `isPlaying()`.
+     * @return True if the sound was started, false if it was dropped.
+     */
+    public synchronized boolean play(Sample sample, float gain, float pan, boolean loop, Object owner) {
+        if (sample == null || sample.frameCount() == 0 || !canMix(sample.format())) {
+            this.dropped++;
+            return false;
+        }
+
+        Voice voice = null;
+        for (Voice v : this.voices) {
+            if (!v.active) {
+                voice = v;
+                break;
+            }
+            if (voice == null || v.startedAt < voice.startedAt)
+                voice = v;
+        }
+        if (voice.active)
+            this.steals++;
+
+        voice.sample = sample;
+        voice.owner = owner;
+        voice.position = 0;
+        voice.gain = clamp(gain, 0.0f, 1.0f);
+        voice.pan = clamp(pan, -1.0f, 1.0f);
+        voice.loop = loop;
+        voice.startedAt = ++this.starts;
+        voice.active = true;
+        this.plays++;
+        return true;
+    }
+
+    /**
+     * Stops the sounds of an owner.
+     *
+     * @param owner  The owner of the sounds.
+     * @param sample The sample to stop, or null to stop every sound of the owner.
+     */
+    public synchronized void stop(Object owner, Sample sample) {
+        for (Voice voice : this.voices)
+            if (voice.active && voice.owner == owner && (sample == null || voice.sample == sample))
+                release(voice);
+    }
+
+    /**
+     * Checks if an owner is playing a sample.
+     *
+     * @param owner  The owner of the sound.
+     * @param sample The sample.
+     * @return True if a voice is playing the sample for the owner.
+     */
+    public synchronized boolean isPlaying(Object owner, Sample sample) {
+        for (Voice voice : this.voices)
+            if (voice.active && voice.owner == owner && voice.sample == sample)
+                return true;
+        return false;
+    }
+
+    /**
+     * Changes the gain of the sounds an owner is playing.
+     *
+     * @param owner  The owner of the sounds.
+     * @param sample The sample whose voices are changed.
+     * @param gain   The volume level (0.0 to 1.0).
+     */
+    public synchronized void setGain(Object owner, Sample sample, float gain) {
+        for (Voice voice : this.voices)
+            if (voice.active && voice.owner == owner && voice.sample == sample)
+                voice.gain = clamp(gain, 0.0f, 1.0f);
+    }
+
+    /**
+     * Changes the stereo position of the sounds an owner is playing.
+     *
+     * @param owner  The owner of the sounds.
+     * @param sample The sample whose voices are changed.
+     * @param pan    The stereo position, from -1.0 (left) to 1.0 (right).
+     */
+    public synchronized void setPan(Object owner, Sample sample, float pan) {
+        for (Voice voice : this.voices)
+            if (voice.active && voice.owner == owner && voice.sample == sample)
+                voice.pan = clamp(pan, -1.0f, 1.0f);
+    }
+
+    /**
+     * Stops every sound.
+     */
+    public synchronized void stopAll() {
+        for (Voice voice : this.voices)
+            release(voice);
+    }
+
+    /**
+     * Adds the active voices to a stereo buffer and advances them. Voices that
+     * reach the end of a sample that does not loop become free.
+     *
+     * @param buffer     The interleaved stereo buffer (left, right) to add to.
+     * @param frames     The number of frames to render.
+     * @param outputRate The sample rate of the buffer.
+     */
+    synchronized void mix(float[] buffer, int frames, float outputRate) {
+        for (Voice voice : this.voices)
+            if (voice.active)
+                render(voice, buffer, frames, outputRate);
+    }
+
+    /**
+     * Renders a voice into a stereo buffer.
+     *
+     * @param voice      The voice to render.
+     * @param buffer     The interleaved stereo buffer to add to.
+     * @param frames     The number of frames to render.
+     * @param outputRate The sample rate of the buffer.
+     */
+    private static void render(Voice voice, float[] buffer, int frames, float outputRate) {
+        Sample sample = voice.sample;
+        AudioFormat format = sample.format();
+        byte[] data = sample.data();
+        int count = sample.frameCount();
+        int frameSize = format.getFrameSize();
+        int sampleBytes = format.getSampleSizeInBits() / 8;
+        int rightOffset = format.getChannels() == 2 ? sampleBytes : 0; // Mono feeds both sides
+        boolean bigEndian = format.isBigEndian();
+
+        double step = format.getSampleRate() / outputRate;
+        double position = voice.position;
+        float left = voice.gain * Math.min(1.0f, 1.0f - voice.pan);
+        float right = voice.gain * Math.min(1.0f, 1.0f + voice.pan);
+
+        for (int i = 0; i < frames; i++) {
+            int index = (int) position;
+            if (index >= count) {
+                if (!voice.loop) {
+                    release(voice);
+                    return;
+                }
+                position %= count;
+                index = (int) position;
+            }
+            int next = index + 1 < count ? index + 1 : (voice.loop ? 0 : index);
+            float fraction = (float) (position - index);
+
+            int a = index * frameSize;
+            int b = next * frameSize;
+            float l = lerp(read(data, a, sampleBytes, bigEndian), read(data, b, sampleBytes, bigEndian), fraction);
+            float r = rightOffset == 0 ? l
+                    : lerp(read(data, a + rightOffset, sampleBytes, bigEndian),
+                            read(data, b + rightOffset, sampleBytes, bigEndian), fraction);
+
+            buffer[2 * i] += l * left;
+            buffer[2 * i + 1] += r * right;
+            position += step;
+        }
+        voice.position = position;
+    }
+
+    /**
+     * Reads one signed PCM sample as a value from -1.0 to 1.0.
+     *
+     * @param data      The PCM bytes.
+     * @param offset    The offset of the sample.
+     * @param bytes     The size of the sample (1 or 2 bytes).
+     * @param bigEndian The byte order of 16 bit samples.
+     * @return The sample value.
+     */
+    static float read(byte[] data, int offset, int bytes, boolean bigEndian) {
+        if (bytes == 1)
+            return data[offset] / 128.0f;
+
+        int value = bigEndian
+                ? (data[offset] << 8) | (data[offset + 1] & 0xFF)
+                : (data[offset + 1] << 8) | (data[offset] & 0xFF);
+        return value / 32768.0f;
+    }
+
+    private static float lerp(float a, float b, float fraction) {
+        return a + (b - a) * fraction;
+    }
+
+    private static float clamp(float value, float min, float max) {
+        return Math.max(min, Math.min(max, value));
+    }
+
+    /**
+     * Frees a voice.
+     *
+     * @param voice The voice.
+     */
+    private static void release(Voice voice) {
+        voice.active = false;
+        voice.sample = null;
+        voice.owner = null;
+    }
+
+    /**
+     * Checks if samples in a format can be mixed.
+     *
+     * @param format The format of the sample.
+     * @return True for 8 or 16 bit signed PCM with one or two channels.
+     */
+    public static boolean canMix(AudioFormat format) {
+        return format.getEncoding() == AudioFormat.Encoding.PCM_SIGNED
+                && (format.getSampleSizeInBits() == 8 || format.getSampleSizeInBits() == 16)
+                && (format.getChannels() == 1 || format.getChannels() == 2);
+    }
+
+    /**
+     * Gets the number of voices.
+     *
+     * @return The maximum number of sounds that play at the same time.
+     */
+    public int size() {
+        return this.voices.length;
+    }
+
+    /**
+     * Gets the number of voices playing a sound.
+     *
+     * @return The number of busy voices.
+     */
+    public synchronized int activeVoices() {
+        int active = 0;
+        for (Voice voice : this.voices)
+            if (voice.active)
+                active++;
+        return active;
+    }
+
+    /**
+     * Gets the number of sounds that interrupted another sound.
+     *
+     * @return The number of stolen voices.
+     */
+    public synchronized long steals() {
+        return this.steals;
+    }
+
+    /**
+     * Returns a string representation of the pool statistics.
+     *
+     * @return A string with the plays, steals, dropped sounds and voices.
+     */
+    @Override
+    public synchronized String toString() {
+        return "VoicePool{plays=" + plays + ", steals=" + steals + ", dropped=" + dropped +
+                ", active=" + activeVoices() + ", voices=" + voices.length + '}';
+    }
+}
@@ -2,13 +2,15 @@ package core.behaviorItems;
 
 import assets.ImagesLoader;
 import core.Behavior;
+import core.CollisionCategory;
 import core.GameObject;
+import core.GameObjectPool;
 import core.Shape;
 import core.Transform;
 import core.objectsInterface.IGameObject;
 import geometry.Ponto;
 import geometry.Poligono;
-import java.util.Random;
+import java.util.SplittableRandom;
 
 /**
  * The `HomingShootAttack` class implements the `IAttackStrategy` interface.
@@ -34,7 +36,8 @@ import java.util.Random;
  *                 positions.
  *
  * @postConditions:
- *                  - A homing bullet is created and positioned at a fixed
+ *                  - A homing bullet is taken from the pool of this attack (or
+ *                  created if the pool is empty) and positioned at a fixed
  *                  offset from the attacker.
  *                  - The bullet's trajectory is calculated to move towards the
  *                  target.
@@ -42,6 +45,7 @@ import java.util.Random;
  *                  according to the defined logic.
  *
  * @see IAttackStrategy
+ * @see GameObjectPool
  *
  * @author Brandon Mejia
  *
@@ -52,6 +56,19 @@ public class HomingShootAttack implements IAttackStrategy {
     private static int index = 0;
     private final Shape shape = new Shape(ImagesLoader.loadImage("laser2.gif"), 100); // Default shape of the bullet
 
+    // Bullets are reused: the engine returns them to this pool when destroyed. Each
+    // attack owns its pool, so engines running side by side never share bullets
+    private final GameObjectPool bulletPool = new GameObjectPool(64);
+    private final GameObjectPool.Factory bulletFactory = this::newBullet;
+
+    // The rectangular shape of the bullet
+    private static final Ponto[] BULLET_POINTS = {
+            new Ponto(0, 2),
+            new Ponto(8, 2),
+            new Ponto(8, 0),
+            new Ponto(0, 0)
+    };
+
     /**
      * Validates the invariants for the attack.
      * Ensures that the attacker and target are not null and are not the same
@@ -81,42 +98,27 @@ public class HomingShootAttack implements IAttackStrategy {
     public IGameObject execute(IGameObject attacker, IGameObject target) {
         invariante(attacker, target);
 
-        String name = "Homing_Bullet";
-        // Define the shape of the bullet as a rectangle
-        Ponto[] rPoints = {
-                new Ponto(0, 2),
-                new Ponto(8, 2),
-                new Ponto(8, 0),
-                new Ponto(0, 0)
-        };
-        GameObject bullet = getGameObject(rPoints, attacker, name, target);
-
-        // Increment the index for unique bullet naming
-        index++;
-
-        return bullet;
+        return getGameObject(attacker, target);
     }
 
     /**
-     * Creates a GameObject representing the homing bullet.
+     * Prepares a GameObject representing the homing bullet.
      *
-     * @param rPoints  The points defining the shape of the bullet.
      * @param attacker The attacking game object.
-     * @param name     The name of the bullet.
      * @param target   The target game object.
-     * @return The created bullet as a GameObject.
+     * @return The bullet as a GameObject.
      */
-    private GameObject getGameObject(Ponto[] rPoints, IGameObject attacker, String name, IGameObject target) {
+    private GameObject getGameObject(IGameObject attacker, IGameObject target) {
         long minSpeed = 7;
         long maxSpeed = 12;
-        long randomSpeed = minSpeed + (long) (Math.random() * (maxSpeed - minSpeed));
+        SplittableRandom random = attacker.behavior().getRandom();
+        long randomSpeed = minSpeed + (long) (random.nextDouble() * (maxSpeed - minSpeed));
         double theta = calculateAngleToTarget(attacker, target);
 
-        Random random = new Random();
         double randomOffsetX = (random.nextDouble() - 0.5) * 25;
         Ponto bulletStart = attacker.transform().position();
         bulletStart = calculateBulletStartPosition(new Ponto(bulletStart.x() + randomOffsetX, bulletStart.y()), theta);
-        return createBullet(rPoints, attacker, name, theta, bulletStart, randomSpeed, target.transform().layer());
+        return createBullet(attacker, theta, bulletStart, randomSpeed, target.transform().layer());
     }
 
     /**
@@ -150,41 +152,54 @@ public class HomingShootAttack implements IAttackStrategy {
     }
 
     /**
-     * Creates the bullet GameObject with the specified parameters.
+     * Takes a bullet from the pool and places it with the specified parameters.
      *
-     * @param rPoints     The points defining the shape of the bullet.
      * @param attacker    The attacking game object.
-     * @param name        The name of the bullet.
      * @param theta       The angle of the bullet's trajectory.
      * @param bulletStart The starting position of the bullet.
      * @param speed       The speed of the bullet.
-     * @return The created bullet as a GameObject.
+     * @param layer       The layer of the bullet.
+     * @return The bullet as a GameObject.
      */
-    private GameObject createBullet(Ponto[] rPoints, IGameObject attacker, String name, double theta, Ponto bulletStart,
-            double speed, int layer) {
-        Transform transform = new Transform(
+    private GameObject createBullet(IGameObject attacker, double theta, Ponto bulletStart, double speed, int layer) {
+        GameObject bullet = this.bulletPool.acquire(this.bulletFactory);
+        bullet.transform().reset(
                 bulletStart,
                 layer,
                 (Math.toDegrees(theta) + 360),
                 attacker.transform().scale());
+        bullet.category(CollisionCategory.ENEMY_BULLET);
 
-        Poligono rectangle = new Poligono(rPoints, transform);
         Ponto velocity = new Ponto(Math.cos(theta) * speed, Math.sin(theta) * speed);
+        bullet.velocity(velocity);
+
+        bullet.onInit();
+        return bullet;
+    }
+
+    /**
+     * Creates a new pooled bullet. Its transform is placed by `createBullet()`
+     * every time the bullet is acquired, and its name is assigned only once.
+     *
+     * @return The created bullet as a GameObject.
+     */
+    private GameObject newBullet() {
+        Transform transform = new Transform(new Ponto(0, 0), 0, 0, 1);
+        Poligono rectangle = new Poligono(BULLET_POINTS, transform);
 
         Shape shape = new Shape(this.shape);
 
         Behavior behavior = new Behavior();
 
         GameObject bullet = new GameObject(
-                name + " " + index,
+                "Homing_Bullet " + index,
                 transform,
                 rectangle,
                 behavior,
                 shape);
 
-        bullet.velocity(velocity);
-
-        bullet.onInit();
+        // Increment the index for unique bullet naming
+        index++;
         return bullet;
     }
-}
\ No newline at end of file
+}
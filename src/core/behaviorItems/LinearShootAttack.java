@@ -5,7 +5,7 @@ import core.*;
 import core.objectsInterface.IGameObject;
 import geometry.Poligono;
 import geometry.Ponto;
-import java.util.Random;
+import java.util.SplittableRandom;
 
 /**
  * The `LinearShootAttack` class implements the `IAttackStrategy` interface.
@@ -26,7 +26,8 @@ import java.util.Random;
  *                  player (0 to 180) or for the enemy (>180).
  *
  * @Post-Conditions:
- *                   - A bullet with a rectangular shape is created.
+ *                   - A bullet with a rectangular shape is taken from the pool
+ *                   of this attack, or created if the pool is empty.
  *                   - The bullet is positioned using a fixed offset based on
  *                   whether it is a player or enemy bullet.
  *                   - The bullet's transform, velocity, and naming follow the
@@ -38,6 +39,7 @@ import java.util.Random;
  * @see Ponto
  * @see Poligono
  * @see Shape
+ * @see GameObjectPool
  *
  * @author Brandon Mejia
  *
@@ -48,6 +50,19 @@ public class LinearShootAttack implements IAttackStrategy {
     private double SPEED = 10.0; // Default speed of the bullet
     private final Shape shape = new Shape(ImagesLoader.loadImage("laser1.gif"), 100); // Default shape of the bullet
 
+    // Bullets are reused: the engine returns them to this pool when destroyed. Each
+    // attack owns its pool, so engines running side by side never share bullets
+    private final GameObjectPool bulletPool = new GameObjectPool(64);
+    private final GameObjectPool.Factory bulletFactory = this::newBullet;
+
+    // The rectangular shape of the bullet
+    private static final Ponto[] BULLET_POINTS = {
+            new Ponto(0, 2),
+            new Ponto(8, 2),
+            new Ponto(8, 0),
+            new Ponto(0, 0)
+    };
+
     /**
      * Validates the attacker parameter to ensure it is not null.
      *
@@ -63,102 +78,90 @@ public class LinearShootAttack implements IAttackStrategy {
     }
 
     /**
-     * Executes the shooting attack by creating and initializing a bullet object.
+     * Executes the shooting attack by taking a bullet from the pool and
+     * initializing it.
      *
      * @param attacker The `IGameObject` that initiates the attack.
      * @param target   The `IGameObject` that is the target of the attack (not used
      *                 in this implementation).
-     * @return The created bullet object as an `IGameObject`.
+     * @return The bullet object as an `IGameObject`.
      */
     @Override
     public IGameObject execute(IGameObject attacker, IGameObject target) {
         invariante(attacker);
 
-        String name = "Linear_Bullet";
-
         double angle = attacker.transform().angle();
-        Transform transform;
+        Ponto bulletStart;
+        int layer;
         if (angle > 180) {
-            transform = this.enemyTransform(attacker);
+            bulletStart = this.enemyBulletStart(attacker);
+            layer = attacker.transform().layer() - 1;
             SPEED = -1.0 * SPEED;
         } else {
-            transform = this.playerTransform(attacker);
+            bulletStart = this.playerBulletStart(attacker);
+            layer = attacker.transform().layer() + 1;
         }
 
-        // Define the shape of the bullet as a rectangle
-        Ponto[] rPoints = {
-                new Ponto(0, 2),
-                new Ponto(8, 2),
-                new Ponto(8, 0),
-                new Ponto(0, 0)
-        };
-        GameObject bullet = getGameObject(rPoints, transform, name);
+        GameObject bullet = this.bulletPool.acquire(this.bulletFactory);
+        bullet.transform().reset(bulletStart, layer, angle, attacker.transform().scale());
+        bullet.category(angle > 180 ? CollisionCategory.ENEMY_BULLET : CollisionCategory.PLAYER_BULLET);
 
-        // Increment the index for unique bullet naming
-        index++;
+        // Set the velocity of the bullet
+        bullet.velocity(new Ponto(0.0, SPEED));
 
+        // Initialize and update the bullet
+        bullet.onInit();
+        bullet.onUpdate();
         return bullet;
     }
 
     /**
-     * Creates a transform for enemy bullets.
+     * Calculates the start position of enemy bullets.
      *
      * @param attacker The `IGameObject` representing the enemy initiating the
      *                 attack.
-     * @return A `Transform` object for the enemy bullet.
+     * @return The start position of the enemy bullet.
      */
-    private Transform enemyTransform(IGameObject attacker) {
+    private Ponto enemyBulletStart(IGameObject attacker) {
         // Get the position of the attacker
         Ponto p = attacker.transform().position();
 
         // Add an offset to spawn the bullet slightly in front of the attacker.
         double offsetDistanceY = -35.0;
-        Random random = new Random();
+        SplittableRandom random = attacker.behavior().getRandom();
         double randomOffsetX = (random.nextDouble() - 0.5) * 25;
 
-        Ponto bulletStart = new Ponto(p.x() + randomOffsetX, p.y() + offsetDistanceY);
-
-        // Create a new transform for the bullet using the offset position
-        return new Transform(bulletStart, attacker.transform().layer() - 1, attacker.transform().angle(),
-                attacker.transform().scale());
+        return new Ponto(p.x() + randomOffsetX, p.y() + offsetDistanceY);
     }
 
     /**
-     * Creates a transform for player bullets.
+     * Calculates the start position of player bullets.
      *
      * @param attacker The `IGameObject` representing the player initiating the
      *                 attack.
-     * @return A `Transform` object for the player bullet.
+     * @return The start position of the player bullet.
      */
-    private Transform playerTransform(IGameObject attacker) {
+    private Ponto playerBulletStart(IGameObject attacker) {
         // Get the position of the attacker
         Ponto p = attacker.transform().position();
 
         // Add an offset to spawn the bullet slightly in front of the attacker.
         double offsetDistanceY = 35.0;
-        Random random = new Random();
+        SplittableRandom random = attacker.behavior().getRandom();
         double randomOffsetX = (random.nextDouble() - 0.5) * 25;
 
-        Ponto bulletStart = new Ponto(p.x() + randomOffsetX, p.y() + offsetDistanceY);
-
-        // Create a new transform for the bullet using the offset position
-        return new Transform(bulletStart, attacker.transform().layer() + 1, attacker.transform().angle(),
-                attacker.transform().scale());
+        return new Ponto(p.x() + randomOffsetX, p.y() + offsetDistanceY);
     }
 
     /**
-     * Creates a `GameObject` representing the bullet with the specified properties.
+     * Creates a new pooled bullet. Its transform is placed by `execute()` every
+     * time the bullet is acquired, and its name is assigned only once.
      *
-     * @param rPoints   The points defining the rectangular shape of the bullet.
-     * @param transform The transform of the bullet.
-     * @param name      The name of the bullet.
      * @return The created `GameObject` representing the bullet.
      */
-    private GameObject getGameObject(Ponto[] rPoints, Transform transform, String name) {
-        Poligono rectangle = new Poligono(rPoints, transform);
-
-        // Set the velocity of the bullet
-        Ponto velocity = new Ponto(0.0, SPEED);
+    private GameObject newBullet() {
+        Transform transform = new Transform(new Ponto(0, 0), 0, 0, 1);
+        Poligono rectangle = new Poligono(BULLET_POINTS, transform);
 
         // Create the bullet object with its properties
         Shape shape;
@@ -168,12 +171,10 @@ public class LinearShootAttack implements IAttackStrategy {
             shape = new Shape(this.shape);
 
         Behavior behavior = new Behavior();
-        GameObject bullet = new GameObject(name + " " + index, transform, rectangle, behavior, shape);
-        bullet.velocity(velocity);
+        GameObject bullet = new GameObject("Linear_Bullet " + index, transform, rectangle, behavior, shape);
 
-        // Initialize and update the bullet
-        bullet.onInit();
-        bullet.onUpdate();
+        // Increment the index for unique bullet naming
+        index++;
         return bullet;
     }
-}
\ No newline at end of file
+}
@@ -3,7 +3,6 @@ package core.behaviorItems;
 import core.EnemyBehavior;
 import core.GameObject;
 import geometry.Ponto;
-import java.util.Random;
 
 /**
  * The `ZigzagMovement` class implements the `IEnemyMovement` interface.
@@ -47,7 +46,7 @@ public class ZigzagMovement implements IEnemyMovement
 
     // Configurable parameters for the zigzag pattern
     private double targetDistance = 5;     // Distance for each "X" step of the movement
-    static private double waitDuration = 50;       // Time (in update calls/frames) to wait between steps
+    static private double waitDuration = 50;       // Time (in update calls/ticks) to wait between steps
     private int maxSteps = 8;               // Number of steps to take in one direction before returning
 
     // Internal state for tracking total displacement
@@ -87,10 +86,13 @@ public class ZigzagMovement implements IEnemyMovement
         if (!isActive)
             return;
 
-        // Guarda a posição inicial na primeira ativação
+        // Guarda a posição inicial e sorteia a pausa na primeira atualização de cada ativação
         if (initialX == null)
         {
             initialX = enemy.transform().position().x();
+            // Pausa entre 500 e 1500 ms (1001 porque nextInt é exclusivo do limite superior)
+            long waitMillis = 500 + enemy.behavior().getRandom().nextInt(1001);
+            waitDuration = enemy.behavior().ticks(waitMillis);
         }
 
         if (waitTime > 0)
@@ -200,13 +202,7 @@ public class ZigzagMovement implements IEnemyMovement
         waitTime = 0;
         isReturning = false;
         stepsTaken = 0;
-        initialX = null; // Reinicia a posição inicial para o próximo movimento
-
-        if (active) 
-        {
-            Random rand = new Random();
-            waitDuration = 30 + rand.nextInt(61); // 61 porque nextInt é exclusivo do limite superior
-        }
+        initialX = null; // Reinicia a posição inicial (e a pausa) para o próximo movimento
     }
 
     /**
@@ -1,6 +1,7 @@
 package core.objectsInterface;
 
 import java.util.ArrayList;
+import java.util.SplittableRandom;
 import gui.IInputEvent;
 
 /**
@@ -103,9 +104,34 @@ public interface IBehavior {
      */
     boolean isEnabled();
 
+    /**
+     * Called by the game engine when the game object leaves the world bounds.
+     * Implementations typically disable the object, without side effects such
+     * as scoring.
+     */
+    void onOutOfBounds();
+
     /**
      * Notifies the observer of this behavior about changes or events.
      * Used to implement the observer pattern.
      */
     void notifyObserver();
+
+    /**
+     * Converts a duration to simulation ticks at the tick rate the behavior is
+     * updated at.
+     *
+     * @param millis The duration in milliseconds.
+     * @return The number of ticks, at least 1.
+     */
+    long ticks(long millis);
+
+    /**
+     * Gets the random generator used for the random decisions of the behavior
+     * and its strategies, so a seeded game takes the same decisions on every
+     * run.
+     *
+     * @return The random generator.
+     */
+    SplittableRandom getRandom();
 }
\ No newline at end of file
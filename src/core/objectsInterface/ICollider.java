@@ -91,4 +91,32 @@ public interface ICollider {
    * @return The logical height of the collider
    */
   public double getLogicalHeight();
+
+  /**
+   * Gets the smallest x-coordinate covered by the collider.
+   *
+   * @return The minimum x of the collider's axis-aligned bounds
+   */
+  public double minX();
+
+  /**
+   * Gets the smallest y-coordinate covered by the collider.
+   *
+   * @return The minimum y of the collider's axis-aligned bounds
+   */
+  public double minY();
+
+  /**
+   * Gets the largest x-coordinate covered by the collider.
+   *
+   * @return The maximum x of the collider's axis-aligned bounds
+   */
+  public double maxX();
+
+  /**
+   * Gets the largest y-coordinate covered by the collider.
+   *
+   * @return The maximum y of the collider's axis-aligned bounds
+   */
+  public double maxY();
 }
\ No newline at end of file
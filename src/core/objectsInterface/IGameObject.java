@@ -1,5 +1,6 @@
 package core.objectsInterface;
 
+import core.CollisionCategory;
 import core.Shape;
 
 /**
@@ -51,6 +52,22 @@ public interface IGameObject {
      */
     IBehavior behavior();
 
+    /**
+     * Gets the collision category of the game object.
+     *
+     * @return The collision category. Its bit (`CollisionCategory.bit()`) is
+     *         the one tested against collision masks.
+     */
+    CollisionCategory category();
+
+    /**
+     * Gets the collision mask of the game object: the categories it accepts
+     * collisions with.
+     *
+     * @return The mask of accepted category bits.
+     */
+    int collisionMask();
+
     /**
      * Updates the game object.
      * This method is called during the game loop to update the state of the game
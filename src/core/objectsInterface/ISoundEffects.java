@@ -1,5 +1,6 @@
 package core.objectsInterface;
 
+import assets.Sample;
 import javax.sound.sampled.Clip;
 
 /**
@@ -27,6 +28,15 @@ public interface ISoundEffects {
      */
     void addSound(String soundName, Clip clip);
 
+    /**
+     * Adds a shared sample to the sound effects manager. Samples are mixed by a
+     * shared audio mixer instead of playing on an audio line of their own.
+     *
+     * @param soundName The logical name of the sound.
+     * @param sample    The decoded sample to be associated with the sound name.
+     */
+    void addSound(String soundName, Sample sample);
+
     /**
      * Plays a loaded sound in a continuous loop.
      *
@@ -47,7 +57,8 @@ public interface ISoundEffects {
     void stopAllSounds();
 
     /**
-     * Checks if a specific sound is currently playing.
+     * Checks if a specific sound is currently playing. Implementations that run
+     * their commands asynchronously answer from the commands already run.
      *
      * @param soundName The logical name of the sound.
      * @return true if the sound is playing, false otherwise.
@@ -63,7 +74,15 @@ public interface ISoundEffects {
     void setVolume(String soundName, float volume);
 
     /**
-     * Sets the global volume for all sounds.
+     * Sets the stereo position of a specific sound.
+     *
+     * @param soundName The logical name of the sound.
+     * @param pan       The stereo position from -1.0 (left) to 1.0 (right).
+     */
+    void setPan(String soundName, float pan);
+
+    /**
+     * Sets the global volume for all the sounds of this manager.
      *
      * @param volume The volume level from 0.0 (mute) to 1.0 (maximum).
      */
@@ -43,6 +43,27 @@ public interface ITransform {
 	 */
 	public Ponto position();
 
+	/**
+	 * Gets the x-coordinate of the position without allocating a point.
+	 *
+	 * @return The x-coordinate.
+	 */
+	public double x();
+
+	/**
+	 * Gets the y-coordinate of the position without allocating a point.
+	 *
+	 * @return The y-coordinate.
+	 */
+	public double y();
+
+	/**
+	 * Gets a counter that changes whenever the position, angle or scale change.
+	 *
+	 * @return The current version.
+	 */
+	public long version();
+
 	/**
 	 * Gets the layer of the ITransform.
 	 *
@@ -63,4 +84,46 @@ public interface ITransform {
 	 * @return The current scale factor.
 	 */
 	public double scale();
-}
\ No newline at end of file
+
+	/**
+	 * Records the current position and angle as the state at the start of a
+	 * simulation tick.
+	 */
+	public void storeTickState();
+
+	/**
+	 * Gets the position interpolated between the start of the current tick and
+	 * the current position.
+	 *
+	 * @param alpha The interpolation factor in [0, 1].
+	 * @return The interpolated (x, y) coordinates.
+	 */
+	public Ponto interpolatedPosition(double alpha);
+
+	/**
+	 * Gets the x-coordinate interpolated between the start of the current tick
+	 * and the current position, without allocating a point.
+	 *
+	 * @param alpha The interpolation factor in [0, 1].
+	 * @return The interpolated x-coordinate.
+	 */
+	public double interpolatedX(double alpha);
+
+	/**
+	 * Gets the y-coordinate interpolated between the start of the current tick
+	 * and the current position, without allocating a point.
+	 *
+	 * @param alpha The interpolation factor in [0, 1].
+	 * @return The interpolated y-coordinate.
+	 */
+	public double interpolatedY(double alpha);
+
+	/**
+	 * Gets the angle interpolated between the start of the current tick and the
+	 * current angle.
+	 *
+	 * @param alpha The interpolation factor in [0, 1].
+	 * @return The interpolated angle in degrees.
+	 */
+	public double interpolatedAngle(double alpha);
+}
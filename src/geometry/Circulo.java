@@ -25,8 +25,10 @@ import core.Transform;
  */
 public class Circulo extends Collider implements FiguraGeometrica {
 
-    private double r; // The radius of the circle
-    private Ponto centro; // The center point of the circle
+    private double r; // The world-space radius of the circle
+    private double cx, cy; // The world-space center of the circle
+    private double baseR; // The radius before the transform's scale is applied
+    private long worldVersion = -1; // Transform version used for the world-space values
 
     /**
      * Ensures the invariants of the circle are maintained.
@@ -54,9 +56,11 @@ public class Circulo extends Collider implements FiguraGeometrica {
      */
     public Circulo(double x, double y, double r, Transform transform) {
         super(transform);
-        this.centro = new Ponto(x, y);
-        invariantes(r, centro);
+        this.cx = x;
+        this.cy = y;
+        invariantes(r, this.centro());
         this.r = r;
+        this.baseR = r;
     }
 
     /**
@@ -67,9 +71,11 @@ public class Circulo extends Collider implements FiguraGeometrica {
      */
     public Circulo(double r, Transform transform) {
         super(transform);
-        this.centro = transform.position();
+        this.cx = transform.x();
+        this.cy = transform.y();
         this.r = r;
-        invariantes(r, centro);
+        this.baseR = r;
+        invariantes(r, this.centro());
     }
 
     /**
@@ -82,9 +88,11 @@ public class Circulo extends Collider implements FiguraGeometrica {
      */
     public Circulo(Ponto c, double r, Transform transform) {
         super(transform);
-        this.centro = new Ponto(c);
-        invariantes(r, centro);
+        this.cx = c.x();
+        this.cy = c.y();
+        invariantes(r, this.centro());
         this.r = r;
+        this.baseR = r;
     }
 
     /**
@@ -93,8 +101,11 @@ public class Circulo extends Collider implements FiguraGeometrica {
      * @param r The new radius of the circle.
      */
     public void setR(double r) {
-        invariantes(r, this.centro);
+        invariantes(r, this.centro());
         this.r = r;
+        this.baseR = r;
+        this.worldVersion = -1;
+        invalidateBounds();
     }
 
     /**
@@ -103,7 +114,25 @@ public class Circulo extends Collider implements FiguraGeometrica {
      * @return The center point of the circle.
      */
     public Ponto centro() {
-        return new Ponto(this.centro);
+        return new Ponto(this.cx, this.cy);
+    }
+
+    /**
+     * Gets the x-coordinate of the center without copying the point.
+     *
+     * @return The x-coordinate of the center.
+     */
+    double centroX() {
+        return this.cx;
+    }
+
+    /**
+     * Gets the y-coordinate of the center without copying the point.
+     *
+     * @return The y-coordinate of the center.
+     */
+    double centroY() {
+        return this.cy;
     }
 
     /**
@@ -133,7 +162,7 @@ public class Circulo extends Collider implements FiguraGeometrica {
     @Override
     public String toString() {
         String r = String.format("%.2f", this.r).replace(",", ".");
-        return String.format("%s %s", this.centro.toString(), r);
+        return String.format("%s %s", this.centro().toString(), r);
     }
 
     /**
@@ -153,7 +182,7 @@ public class Circulo extends Collider implements FiguraGeometrica {
      * @return The distance from the center of the circle to the given point.
      */
     public double distanciaAoCentro(Ponto p) {
-        return Math.sqrt(Math.pow(this.centro.x() - p.x(), 2) + Math.pow(this.centro.y() - p.y(), 2));
+        return Math.sqrt(Math.pow(this.cx - p.x(), 2) + Math.pow(this.cy - p.y(), 2));
     }
 
     /**
@@ -163,8 +192,8 @@ public class Circulo extends Collider implements FiguraGeometrica {
      * @return true if the circles intersect, false otherwise.
      */
     public boolean intersecta(Circulo c) {
-        double dx = c.centro.x() - this.centro.x();
-        double dy = c.centro.y() - this.centro.y();
+        double dx = c.cx - this.cx;
+        double dy = c.cy - this.cy;
         double distance = Math.sqrt(dx * dx + dy * dy);
         return distance < this.r + c.r;
     }
@@ -195,8 +224,11 @@ public class Circulo extends Collider implements FiguraGeometrica {
      */
     @Override
     public boolean intersecta(FiguraGeometrica f) {
+        if (f instanceof Poligono poligono && poligono.isConvex())
+            return poligono.satIntersecta(this);
+
         if (f instanceof Poligono poligono) {
-            for (Segmento s : poligono.lados)
+            for (Segmento s : poligono.lados())
                 if (s.intersecta(this))
                     return true;
 
@@ -226,15 +258,33 @@ public class Circulo extends Collider implements FiguraGeometrica {
      */
     @Override
     public void updatePosicao() {
-        this.centro = transform.position();
+        this.updateWorld();
     }
 
     /**
      * Updates the scale of the circle based on its transform.
+     * The scale is applied to the base radius, so repeated updates do not
+     * compound it.
      */
     @Override
     public void updateEscalar() {
-        this.r *= transform.scale();
+        this.updateWorld();
+    }
+
+    /**
+     * Writes the world-space center and radius from the transform, only if the
+     * transform changed since the last update.
+     */
+    private void updateWorld() {
+        long version = transform.version();
+        if (version == this.worldVersion)
+            return;
+
+        this.cx = transform.x();
+        this.cy = transform.y();
+        this.r = this.baseR * transform.scale();
+        this.worldVersion = version;
+        invalidateBounds();
     }
 
     /**
@@ -245,6 +295,9 @@ public class Circulo extends Collider implements FiguraGeometrica {
      */
     @Override
     public boolean colision(ICollider other) {
+        if (other instanceof Collider c && !this.boundsOverlap(c))
+            return false;
+
         FiguraGeometrica f = (FiguraGeometrica) other;
         return this.intersecta(f);
     }
@@ -269,8 +322,8 @@ public class Circulo extends Collider implements FiguraGeometrica {
         g2d.setStroke(new java.awt.BasicStroke(2));
 
         // Convert the center of the circle to screen coordinates
-        double screenX = panelWidth + this.centro.x();
-        double screenY = panelHeight - this.centro.y();
+        double screenX = panelWidth + this.cx;
+        double screenY = panelHeight - this.cy;
 
         // Calculate the top-left corner of the oval
         double topLeftX = screenX - this.r;
@@ -305,4 +358,15 @@ public class Circulo extends Collider implements FiguraGeometrica {
     public double getLogicalHeight() {
         return (2 * this.r);
     }
+
+    /**
+     * Computes the bounds of the circle: the circle itself and its enclosing
+     * square.
+     */
+    @Override
+    protected void computeBounds() {
+        setBounds(this.cx - this.r, this.cy - this.r,
+                this.cx + this.r, this.cy + this.r,
+                this.cx, this.cy, this.r);
+    }
 }
\ No newline at end of file
@@ -18,8 +18,24 @@ import java.awt.Graphics2D;
  * @version 2025-03-08
  */
 public class Poligono extends Collider implements FiguraGeometrica {
-	protected Ponto[] vertices; // Array of vertices defining the polygon
-	protected Segmento[] lados; // Array of segments representing the polygon's sides
+	protected Ponto[] vertices; // Local-space vertices, as given to the constructor
+	protected Segmento[] lados; // Local-space sides, used to validate the shape
+
+	// Immutable local-space shape, relative to its own centroid, and the
+	// world-space vertices written from the transform when it changes
+	private double[] localX;
+	private double[] localY;
+	private double[] worldX;
+	private double[] worldY;
+	private long worldVersion = -1; // Transform version used for worldX/worldY
+	private double worldAngle; // Transform angle used for worldX/worldY
+
+	// Separating-axis data: convexity never changes under the collider's rigid
+	// transforms, the unit edge normals only change when the polygon rotates
+	private boolean convex;
+	private double[] normalX;
+	private double[] normalY;
+	private boolean normalsDirty = true;
 
 	/**
 	 * Ensures the points form a valid polygon.
@@ -63,6 +79,8 @@ public class Poligono extends Collider implements FiguraGeometrica {
 		this.vertices = new Ponto[pontos.length];
 		for (int i = 0; i < pontos.length; i++)
 			this.vertices[i] = new Ponto(pontos[i]);
+		this.convex = this.checkConvex();
+		this.initLocalSpace();
 	}
 
 	/**
@@ -82,30 +100,90 @@ public class Poligono extends Collider implements FiguraGeometrica {
 		this.vertices = new Ponto[pontosList.length];
 		for (int i = 0; i < pontosList.length; i++)
 			this.vertices[i] = new Ponto(pontosList[i]);
+		this.convex = this.checkConvex();
+		this.initLocalSpace();
 	}
 
 	/**
-	 * Returns a copy of the sides of the polygon.
+	 * Stores the constructor vertices as the immutable local-space shape,
+	 * relative to its centroid, and uses them as the initial world-space
+	 * vertices until the transform is first applied.
+	 */
+	private void initLocalSpace() {
+		int n = this.vertices.length;
+		this.localX = new double[n];
+		this.localY = new double[n];
+		this.worldX = new double[n];
+		this.worldY = new double[n];
+		for (int i = 0; i < n; i++) {
+			this.worldX[i] = this.vertices[i].x();
+			this.worldY[i] = this.vertices[i].y();
+		}
+
+		Ponto centro = this.centro();
+		for (int i = 0; i < n; i++) {
+			this.localX[i] = this.worldX[i] - centro.x();
+			this.localY[i] = this.worldY[i] - centro.y();
+		}
+	}
+
+	/**
+	 * Writes the world-space vertices from the local-space shape and the
+	 * transform: rotation by the transform's angle and scaling (only when the
+	 * scale is at least 1) around the centroid, which is placed at the
+	 * transform's position. Does nothing if the transform has not changed since
+	 * the last update, and never allocates.
+	 */
+	private void updateWorld() {
+		long version = this.transform.version();
+		if (version == this.worldVersion)
+			return;
+
+		double angle = this.transform.angle();
+		double rads = angle * Math.PI / 180;
+		double scale = Math.max(1.0, this.transform.scale());
+		double cos = Math.cos(rads) * scale;
+		double sin = Math.sin(rads) * scale;
+		double px = this.transform.x();
+		double py = this.transform.y();
+
+		for (int i = 0; i < this.localX.length; i++) {
+			this.worldX[i] = px + this.localX[i] * cos - this.localY[i] * sin;
+			this.worldY[i] = py + this.localX[i] * sin + this.localY[i] * cos;
+		}
+
+		if (this.worldVersion == -1 || angle != this.worldAngle)
+			this.normalsDirty = true;
+
+		this.worldAngle = angle;
+		this.worldVersion = version;
+		invalidateBounds();
+	}
+
+	/**
+	 * Returns a copy of the sides of the polygon, in world space.
 	 *
 	 * @return An array of Segmento objects representing the sides of the polygon.
 	 */
 	public Segmento[] lados() {
-		Segmento[] ladosCopy = new Segmento[this.lados.length];
-		for (int i = 0; i < this.lados.length; i++)
-			ladosCopy[i] = new Segmento(this.lados[i]);
+		int n = this.worldX.length;
+		Segmento[] ladosCopy = new Segmento[n];
+		for (int i = 0; i < n; i++)
+			ladosCopy[i] = new Segmento(new Ponto(this.worldX[i], this.worldY[i]),
+					new Ponto(this.worldX[(i + 1) % n], this.worldY[(i + 1) % n]));
 
 		return ladosCopy;
 	}
 
 	/**
-	 * Returns a copy of the vertices of the polygon.
+	 * Returns a copy of the vertices of the polygon, in world space.
 	 *
 	 * @return An array of Ponto objects representing the vertices of the polygon.
 	 */
 	public Ponto[] vertices() {
-		Ponto[] verticesCopy = new Ponto[this.vertices.length];
-		for (int i = 0; i < this.vertices.length; i++)
-			verticesCopy[i] = new Ponto(this.vertices[i]);
+		Ponto[] verticesCopy = new Ponto[this.worldX.length];
+		for (int i = 0; i < this.worldX.length; i++)
+			verticesCopy[i] = new Ponto(this.worldX[i], this.worldY[i]);
 
 		return verticesCopy;
 	}
@@ -118,6 +196,7 @@ public class Poligono extends Collider implements FiguraGeometrica {
 	@Override
 	public String toString() {
 		String s = "";
+		Ponto[] vertices = this.vertices();
 		for (int i = 0; i < vertices.length; i++) {
 			if (i == vertices.length - 1)
 				s += vertices[i].toString();
@@ -135,7 +214,7 @@ public class Poligono extends Collider implements FiguraGeometrica {
 	@Override
 	public double perimetro() {
 		double perimetro = 0;
-		for (Segmento s : lados)
+		for (Segmento s : this.lados())
 			perimetro += s.length();
 
 		return perimetro;
@@ -153,9 +232,9 @@ public class Poligono extends Collider implements FiguraGeometrica {
 		if (dx == 0 && dy == 0)
 			return this;
 
-		Ponto[] pontos = new Ponto[this.vertices.length];
-		for (int i = 0; i < this.vertices.length; i++)
-			pontos[i] = new Ponto(this.vertices[i].x() + dx, this.vertices[i].y() + dy);
+		Ponto[] pontos = new Ponto[this.worldX.length];
+		for (int i = 0; i < this.worldX.length; i++)
+			pontos[i] = new Ponto(this.worldX[i] + dx, this.worldY[i] + dy);
 
 		try {
 			return this.getClass().getConstructor(Ponto[].class).newInstance((Object) pontos);
@@ -179,9 +258,9 @@ public class Poligono extends Collider implements FiguraGeometrica {
 		double novoCentroY = newCenter.y() - centroideAtual.y();
 
 		// Translate all vertices by the calculated difference
-		Ponto[] pontos = new Ponto[this.vertices.length];
-		for (int i = 0; i < this.vertices.length; i++)
-			pontos[i] = new Ponto(this.vertices[i].x() + novoCentroX, this.vertices[i].y() + novoCentroY);
+		Ponto[] pontos = new Ponto[this.worldX.length];
+		for (int i = 0; i < this.worldX.length; i++)
+			pontos[i] = new Ponto(this.worldX[i] + novoCentroX, this.worldY[i] + novoCentroY);
 
 		return new Poligono(pontos, this.transform);
 	}
@@ -189,16 +268,17 @@ public class Poligono extends Collider implements FiguraGeometrica {
 	/**
 	 * Checks if this polygon contains the given point.
 	 *
-	 * @param ponto The point to check.
+	 * @param x The x-coordinate of the point to check.
+	 * @param y The y-coordinate of the point to check.
 	 * @return true if the point is inside this polygon, false otherwise.
 	 */
-	private boolean isInsidePoint(Ponto ponto) {
-		int n = this.vertices.length;
+	private boolean isInsidePoint(double x, double y) {
+		int n = this.worldX.length;
 		boolean result = false;
 		for (int i = 0, j = n - 1; i < n; j = i++) {
-			if ((this.vertices[i].y() > ponto.y()) != (this.vertices[j].y() > ponto.y()) &&
-					(ponto.x() < (this.vertices[j].x() - this.vertices[i].x()) * (ponto.y() - this.vertices[i].y())
-							/ (this.vertices[j].y() - this.vertices[i].y()) + this.vertices[i].x())) {
+			if ((this.worldY[i] > y) != (this.worldY[j] > y) &&
+					(x < (this.worldX[j] - this.worldX[i]) * (y - this.worldY[i])
+							/ (this.worldY[j] - this.worldY[i]) + this.worldX[i])) {
 				result = !result;
 			}
 		}
@@ -212,8 +292,8 @@ public class Poligono extends Collider implements FiguraGeometrica {
 	 * @return true if the given polygon is inside this polygon, false otherwise.
 	 */
 	public boolean isInside(Poligono poligono) {
-		for (Ponto vertice : poligono.vertices())
-			if (!this.isInsidePoint(vertice))
+		for (int i = 0; i < poligono.worldX.length; i++)
+			if (!this.isInsidePoint(poligono.worldX[i], poligono.worldY[i]))
 				return false;
 
 		return true;
@@ -230,11 +310,11 @@ public class Poligono extends Collider implements FiguraGeometrica {
 		double raio = circulo.r();
 
 		// Check if the center of the circle is inside the polygon
-		if (!this.isInsidePoint(centro))
+		if (!this.isInsidePoint(centro.x(), centro.y()))
 			return false;
 
 		// Check if all vertices of the polygon are within the circle's radius
-		for (Ponto vertice : this.vertices)
+		for (Ponto vertice : this.vertices())
 			if (circulo.distanciaAoCentro(vertice) >= raio)
 				return true;
 
@@ -250,7 +330,7 @@ public class Poligono extends Collider implements FiguraGeometrica {
 	 *         otherwise.
 	 */
 	public boolean intersecta(Segmento s) {
-		for (Segmento l : lados)
+		for (Segmento l : this.lados())
 			if (l.intersecta(s))
 				return true;
 
@@ -265,8 +345,14 @@ public class Poligono extends Collider implements FiguraGeometrica {
 	 */
 	@Override
 	public boolean intersecta(FiguraGeometrica f) {
+		if (f instanceof Poligono poligono && this.convex && poligono.convex)
+			return this.satIntersecta(poligono);
+
+		if (f instanceof Circulo circulo && this.convex)
+			return this.satIntersecta(circulo);
+
 		if (f instanceof Poligono poligono) {
-			for (Segmento s : poligono.lados)
+			for (Segmento s : poligono.lados())
 				if (this.intersecta(s))
 					return true;
 
@@ -274,7 +360,7 @@ public class Poligono extends Collider implements FiguraGeometrica {
 		}
 
 		if (f instanceof Circulo circulo) {
-			for (Segmento s : this.lados)
+			for (Segmento s : this.lados())
 				if (s.intersecta(circulo))
 					return true;
 
@@ -284,6 +370,166 @@ public class Poligono extends Collider implements FiguraGeometrica {
 		return false;
 	}
 
+	/**
+	 * Checks if the polygon is convex.
+	 *
+	 * @return true if every turn along the vertices has the same orientation.
+	 */
+	public boolean isConvex() {
+		return this.convex;
+	}
+
+	/**
+	 * Checks if all the turns along the vertices have the same orientation.
+	 *
+	 * @return true if the polygon is convex, false otherwise.
+	 */
+	private boolean checkConvex() {
+		int n = this.vertices.length;
+		int sign = 0;
+		for (int i = 0; i < n; i++) {
+			Ponto a = this.vertices[i], b = this.vertices[(i + 1) % n], c = this.vertices[(i + 2) % n];
+			double cross = (b.x() - a.x()) * (c.y() - b.y()) - (b.y() - a.y()) * (c.x() - b.x());
+			int s = cross > 0 ? 1 : (cross < 0 ? -1 : 0);
+			if (s == 0)
+				continue;
+			if (sign == 0)
+				sign = s;
+			else if (s != sign)
+				return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Recomputes the unit normals of the edges if the polygon rotated since they
+	 * were last computed. The arrays are allocated only once.
+	 */
+	private void updateNormals() {
+		if (!this.normalsDirty)
+			return;
+
+		int n = this.worldX.length;
+		if (this.normalX == null) {
+			this.normalX = new double[n];
+			this.normalY = new double[n];
+		}
+
+		for (int i = 0; i < n; i++) {
+			double ex = this.worldX[(i + 1) % n] - this.worldX[i];
+			double ey = this.worldY[(i + 1) % n] - this.worldY[i];
+			double length = Math.sqrt(ex * ex + ey * ey);
+			this.normalX[i] = -ey / length;
+			this.normalY[i] = ex / length;
+		}
+		this.normalsDirty = false;
+	}
+
+	/**
+	 * Checks if the projections of two polygons onto the given axis are disjoint.
+	 *
+	 * @param other The other polygon.
+	 * @param ax    The x component of the axis.
+	 * @param ay    The y component of the axis.
+	 * @return true if the axis separates the polygons.
+	 */
+	private boolean isSeparatingAxis(Poligono other, double ax, double ay) {
+		double minA = Double.POSITIVE_INFINITY, maxA = Double.NEGATIVE_INFINITY;
+		for (int i = 0; i < this.worldX.length; i++) {
+			double p = this.worldX[i] * ax + this.worldY[i] * ay;
+			minA = Math.min(minA, p);
+			maxA = Math.max(maxA, p);
+		}
+
+		double minB = Double.POSITIVE_INFINITY, maxB = Double.NEGATIVE_INFINITY;
+		for (int i = 0; i < other.worldX.length; i++) {
+			double p = other.worldX[i] * ax + other.worldY[i] * ay;
+			minB = Math.min(minB, p);
+			maxB = Math.max(maxB, p);
+		}
+
+		return maxA < minB || maxB < minA;
+	}
+
+	/**
+	 * Separating-axis test between two convex polygons.
+	 * The polygons intersect unless one of their edge normals separates them.
+	 *
+	 * @param other The other convex polygon.
+	 * @return true if the polygons intersect, false otherwise.
+	 */
+	boolean satIntersecta(Poligono other) {
+		this.updateNormals();
+		other.updateNormals();
+
+		for (int i = 0; i < this.normalX.length; i++)
+			if (this.isSeparatingAxis(other, this.normalX[i], this.normalY[i]))
+				return false;
+
+		for (int i = 0; i < other.normalX.length; i++)
+			if (this.isSeparatingAxis(other, other.normalX[i], other.normalY[i]))
+				return false;
+
+		return true;
+	}
+
+	/**
+	 * Separating-axis test between this convex polygon and a circle.
+	 * The candidate axes are the edge normals of the polygon and the axis from
+	 * the circle's center to the closest vertex.
+	 *
+	 * @param circulo The circle.
+	 * @return true if the polygon and the circle intersect, false otherwise.
+	 */
+	boolean satIntersecta(Circulo circulo) {
+		this.updateNormals();
+		double cx = circulo.centroX(), cy = circulo.centroY(), r = circulo.r();
+
+		for (int i = 0; i < this.normalX.length; i++)
+			if (this.isSeparatingAxis(cx, cy, r, this.normalX[i], this.normalY[i]))
+				return false;
+
+		double closestX = 0, closestY = 0, closestDistance = Double.POSITIVE_INFINITY;
+		for (int i = 0; i < this.worldX.length; i++) {
+			double dx = this.worldX[i] - cx, dy = this.worldY[i] - cy;
+			double distance = dx * dx + dy * dy;
+			if (distance < closestDistance) {
+				closestDistance = distance;
+				closestX = dx;
+				closestY = dy;
+			}
+		}
+
+		if (closestDistance == 0)
+			return true; // The center lies on a vertex
+
+		double length = Math.sqrt(closestDistance);
+		return !this.isSeparatingAxis(cx, cy, r, closestX / length, closestY / length);
+	}
+
+	/**
+	 * Checks if the projections of this polygon and a circle onto the given unit
+	 * axis are disjoint.
+	 *
+	 * @param cx The x-coordinate of the circle's center.
+	 * @param cy The y-coordinate of the circle's center.
+	 * @param r  The radius of the circle.
+	 * @param ax The x component of the unit axis.
+	 * @param ay The y component of the unit axis.
+	 * @return true if the axis separates the polygon and the circle.
+	 */
+	private boolean isSeparatingAxis(double cx, double cy, double r, double ax, double ay) {
+		double min = Double.POSITIVE_INFINITY, max = Double.NEGATIVE_INFINITY;
+		for (int i = 0; i < this.worldX.length; i++) {
+			double p = this.worldX[i] * ax + this.worldY[i] * ay;
+			min = Math.min(min, p);
+			max = Math.max(max, p);
+		}
+
+		double center = cx * ax + cy * ay;
+		return max < center - r || center + r < min;
+	}
+
 	/**
 	 * Calculates the centroid of the polygon.
 	 *
@@ -293,15 +539,15 @@ public class Poligono extends Collider implements FiguraGeometrica {
 	{
 		double area = 0; // Área do polígono
 		double xc = 0, yc = 0; // Coordenadas do centroide
-		int n = this.vertices.length;
+		int n = this.worldX.length;
 		double x0, y0, x1, y1, crossProduct;
 
 		// Somamos as áreas e as contribuições para o centroide
 		for (int i = 0; i < n; i++) {
-			x0 = this.vertices[i].x();
-			y0 = this.vertices[i].y();
-			x1 = this.vertices[(i + 1) % n].x();
-			y1 = this.vertices[(i + 1) % n].y();
+			x0 = this.worldX[i];
+			y0 = this.worldY[i];
+			x1 = this.worldX[(i + 1) % n];
+			y1 = this.worldY[(i + 1) % n];
 
 			crossProduct = x0 * y1 - x1 * y0; // Produto cruzado entre (x0, y0) e (x1, y1)
 			area += crossProduct; // Soma do produto cruzado (metade da área)
@@ -333,15 +579,15 @@ public class Poligono extends Collider implements FiguraGeometrica {
 	 * @return A new instance of the polygon rotated by the given angle.
 	 */
 	public Poligono rotacao(double theta) {
-		Ponto[] pontos = new Ponto[this.vertices.length];
+		Ponto[] pontos = new Ponto[this.worldX.length];
 		Ponto centro = this.centro(); // Obtém o centroide atual da figura
 		double rads = theta * Math.PI / 180; // Converte o ângulo para radianos
 
 		// Para cada vértice do polígono
-		for (int i = 0; i < this.vertices.length; i++) {
+		for (int i = 0; i < this.worldX.length; i++) {
 			// #1: Mover o ponto para a origem
-			double xp = this.vertices[i].x() - centro.x();
-			double yp = this.vertices[i].y() - centro.y();
+			double xp = this.worldX[i] - centro.x();
+			double yp = this.worldY[i] - centro.y();
 
 			// #2: Rodar o ponto em torno da origem
 			double xn = xp * Math.cos(rads) - yp * Math.sin(rads);
@@ -364,13 +610,13 @@ public class Poligono extends Collider implements FiguraGeometrica {
 	{
 
 		Ponto centro = this.centro();
-		Ponto[] pontos = new Ponto[this.vertices.length];
+		Ponto[] pontos = new Ponto[this.worldX.length];
 		double x, y, newX, newY;
 
-		for (int i = 0; i < this.vertices.length; i++)
+		for (int i = 0; i < this.worldX.length; i++)
 		{
-			x = this.vertices[i].x();
-			y = this.vertices[i].y();
+			x = this.worldX[i];
+			y = this.worldY[i];
 
 			// Calculando as novas coordenadas após aplicar o fator de escala
 			newX = (x - centro.x()) * factor + centro.x();
@@ -384,48 +630,32 @@ public class Poligono extends Collider implements FiguraGeometrica {
 
 	/**
 	 * Updates the position of the polygon based on the current transform.
-	 * Translates the polygon to the new position and updates its vertices and
-	 * sides.
+	 * Rewrites the world-space vertices if the transform changed.
 	 */
 	@Override
 	public void updatePosicao() {
-		Poligono poligono = this.translacao(transform.position());
-		this.vertices = poligono.vertices();
-		this.lados = poligono.lados();
+		this.updateWorld();
 	}
 
 	/**
 	 * Updates the rotation of the polygon based on the current transform.
-	 * Rotates the polygon by the difference in angles and updates its vertices and
-	 * sides.
+	 * Rewrites the world-space vertices if the transform changed.
 	 */
 	@Override
 	public void updateRotacao()
 	{
-		double angle = transform.angle() - this.transform.previousAngle();
-		if (angle != 0)
-		{
-			Poligono poligono = this.rotacao(angle);
-			this.vertices = poligono.vertices();
-			this.lados = poligono.lados();
-			this.transform.previousAngle(this.transform.angle());
-		}
+		this.updateWorld();
 	}
 
 	/**
 	 * Updates the scaling of the polygon based on the current transform.
-	 * Scales the polygon by the transform's scale factor and updates its vertices
-	 * and sides.
+	 * The scale is applied to the local-space shape, so repeated updates do not
+	 * compound it.
 	 */
 	@Override
 	public void updateEscalar()
 	{
-		if (transform.scale() >= 1.0)
-		{
-			Poligono poligono = this.escalar(transform.scale());
-			this.vertices = poligono.vertices();
-			this.lados = poligono.lados();
-		}
+		this.updateWorld();
 	}
 
 	/**
@@ -436,6 +666,9 @@ public class Poligono extends Collider implements FiguraGeometrica {
 	@Override
 	public boolean colision(ICollider other) 
 	{
+		if (other instanceof Collider c && !this.boundsOverlap(c))
+			return false;
+
 		FiguraGeometrica f = (FiguraGeometrica) other;
 		return this.intersecta(f);
 	}
@@ -486,49 +719,50 @@ public class Poligono extends Collider implements FiguraGeometrica {
 
 	/**
 	 * Calculates the logical width of the polygon.
-	 * The logical width is determined as the difference between the maximum and
-	 * minimum x-coordinates
-	 * of the vertices of the polygon.
+	 * The logical width is the width of the cached bounding box of the vertices.
 	 *
 	 * @return The logical width of the polygon as a double.
 	 */
 	@Override
 	public double getLogicalWidth() {
-		double minX = Double.POSITIVE_INFINITY;
-		double maxX = Double.NEGATIVE_INFINITY;
-
-		for (Ponto v : vertices) {
-			if (v.x() < minX)
-				minX = v.x();
-			if (v.x() > maxX)
-				maxX = v.x();
-		}
-
-		return (maxX - minX);
+		return maxX() - minX();
 	}
 
 	/**
 	 * Calculates the logical height of the polygon.
-	 * The logical height is determined as the difference between the maximum and
-	 * minimum y-coordinates
-	 * of the vertices of the polygon.
+	 * The logical height is the height of the cached bounding box of the vertices.
 	 *
 	 * @return The logical height of the polygon as a double.
 	 */
 	@Override
 	public double getLogicalHeight()
 	{
-		double minY = Double.POSITIVE_INFINITY;
-		double maxY = Double.NEGATIVE_INFINITY;
-
-		for (Ponto v : vertices) {
-			if (v.y() < minY)
-				minY = v.y();
-			if (v.y() > maxY)
-				maxY = v.y();
+		return maxY() - minY();
+	}
+
+	/**
+	 * Computes the axis-aligned bounding box of the vertices and a bounding
+	 * circle centered on it.
+	 */
+	@Override
+	protected void computeBounds() {
+		double minX = Double.POSITIVE_INFINITY, minY = Double.POSITIVE_INFINITY;
+		double maxX = Double.NEGATIVE_INFINITY, maxY = Double.NEGATIVE_INFINITY;
+		for (int i = 0; i < this.worldX.length; i++) {
+			minX = Math.min(minX, this.worldX[i]);
+			minY = Math.min(minY, this.worldY[i]);
+			maxX = Math.max(maxX, this.worldX[i]);
+			maxY = Math.max(maxY, this.worldY[i]);
+		}
+
+		double cx = (minX + maxX) / 2, cy = (minY + maxY) / 2;
+		double radius2 = 0;
+		for (int i = 0; i < this.worldX.length; i++) {
+			double dx = this.worldX[i] - cx, dy = this.worldY[i] - cy;
+			radius2 = Math.max(radius2, dx * dx + dy * dy);
 		}
 
-		return (maxY - minY);
+		setBounds(minX, minY, maxX, maxY, cx, cy, Math.sqrt(radius2));
 	}
 
 }
\ No newline at end of file
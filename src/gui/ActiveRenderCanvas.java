@@ -0,0 +1,162 @@
+package gui;
+
+import java.awt.Canvas;
+import java.awt.Color;
+import java.awt.Dimension;
+import java.awt.Graphics2D;
+import java.awt.Toolkit;
+import java.awt.image.BufferStrategy;
+import java.util.concurrent.Semaphore;
+
+/**
+ * The `ActiveRenderCanvas` class renders the game with active rendering: a
+ * dedicated render thread draws each published `RenderFrame` into the back
+ * buffer of a `BufferStrategy` and presents it immediately, instead of asking
+ * Swing to repaint and waiting for the event dispatch thread.
+ *
+ * <p>
+ * The render thread sleeps until `requestRender()` is called (once per frame
+ * published by the engine). Requests made while a frame is being rendered are
+ * merged, so the thread never falls behind the engine.
+ * </p>
+ *
+ * @preConditions:
+ *                 - Width and height must be positive integers.
+ *                 - `start()` must be called after the canvas is displayable
+ *                 (its window was packed or shown).
+ *
+ * @postConditions:
+ *                  - Every presented frame is the latest one published when
+ *                  rendering started.
+ *                  - Lost or restored buffer contents are redrawn before being
+ *                  shown.
+ *
+ * @see FrameRenderer
+ * @see RenderFrameExchange
+ * @see SwingGui
+ *
+ * @author Brandon Mejia
+ * @version 2025-05-20
+ */
+public class ActiveRenderCanvas extends Canvas implements Runnable {
+    private static final long serialVersionUID = 1L;
+
+    private final FrameRenderer renderer; // Draws the frames
+    private final RenderFrameExchange frames; // Source of the frames to draw
+    private final Semaphore renderRequest = new Semaphore(0); // Released when a new frame is published
+
+    private BufferStrategy strategy;
+    private Thread renderThread;
+    private volatile boolean running = false;
+
+    /**
+     * Validates the invariant for the `ActiveRenderCanvas` class.
+     * Ensures that the width and height parameters are positive integers.
+     * If the validation fails, an error message is printed, and the program exits.
+     *
+     * @param width  The width of the canvas in pixels. Must be greater than 0.
+     * @param height The height of the canvas in pixels. Must be greater than 0.
+     */
+    private void invariante(int width, int height) {
+        if (width > 0 && height > 0)
+            return;
+
+        System.out.println("ActiveRenderCanvas:iv");
+        System.exit(0);
+    }
+
+    /**
+     * Creates a canvas with the specified dimensions.
+     *
+     * @param width    The width of the canvas in pixels
+     * @param height   The height of the canvas in pixels
+     * @param renderer The renderer that draws the frames
+     * @param frames   The exchange the frames are taken from
+     */
+    public ActiveRenderCanvas(int width, int height, FrameRenderer renderer, RenderFrameExchange frames) {
+        invariante(width, height);
+
+        this.renderer = renderer;
+        this.frames = frames;
+        setPreferredSize(new Dimension(width, height));
+        setBackground(Color.BLACK);
+        setIgnoreRepaint(true); // Painting is done by the render thread only
+        setFocusable(false); // Keep the keyboard focus on the window
+    }
+
+    /**
+     * Creates the double-buffered strategy and starts the render thread.
+     *
+     * @throws IllegalStateException if the canvas is not displayable.
+     */
+    public void start() {
+        if (this.running)
+            return;
+
+        createBufferStrategy(2);
+        this.strategy = getBufferStrategy();
+        this.running = true;
+        this.renderThread = new Thread(this, "render");
+        this.renderThread.setDaemon(true);
+        this.renderThread.start();
+    }
+
+    /**
+     * Stops the render thread after the current frame.
+     */
+    public void stop() {
+        this.running = false;
+        this.renderRequest.release();
+    }
+
+    /**
+     * Asks the render thread to present the latest published frame.
+     */
+    public void requestRender() {
+        if (this.renderRequest.availablePermits() == 0)
+            this.renderRequest.release();
+    }
+
+    /**
+     * Render loop: waits for a request, then draws and presents the latest frame.
+     */
+    @Override
+    public void run() {
+        while (this.running) {
+            try {
+                this.renderRequest.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            this.renderRequest.drainPermits();
+            if (!this.running)
+                break;
+
+            this.present(this.frames.acquire());
+        }
+    }
+
+    /**
+     * Draws a frame into the back buffer and shows it, redrawing while the
+     * buffer contents are lost or restored.
+     *
+     * @param frame The frame to present.
+     */
+    private void present(RenderFrame frame) {
+        do {
+            do {
+                Graphics2D g2d = (Graphics2D) this.strategy.getDrawGraphics();
+                try {
+                    this.renderer.render(g2d, frame, getWidth(), getHeight());
+                } finally {
+                    g2d.dispose();
+                }
+            } while (this.strategy.contentsRestored());
+
+            this.strategy.show();
+        } while (this.strategy.contentsLost());
+
+        Toolkit.getDefaultToolkit().sync(); // Flush the pipeline on platforms that buffer it
+    }
+}
@@ -0,0 +1,371 @@
+package gui;
+
+import core.objectsInterface.IShape;
+import java.awt.Color;
+import java.awt.FontMetrics;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+
+/**
+ * The `FrameRenderer` class draws a `RenderFrame` (background, game objects,
+ * info panel and menu) onto any `Graphics2D`.
+ * It holds the drawing code shared by the passive `GamePanel`, painted by
+ * Swing, and the `ActiveRenderCanvas`, which presents frames from its own
+ * thread.
+ *
+ * @preConditions:
+ *                 - Only one thread renders with a given renderer at a time.
+ *
+ * @postConditions:
+ *                  - The background is drawn even when there is no frame.
+ *                  - Hitboxes are drawn if enabled.
+ *
+ * @see GamePanel
+ * @see ActiveRenderCanvas
+ * @see RenderFrame
+ *
+ * @author Brandon Mejia
+ * @version 2025-05-20
+ */
+public class FrameRenderer {
+    private volatile IShape backgroundShape;
+    private volatile boolean hitbox = false;
+    private volatile boolean menu = true;
+    private volatile double loadingProgress = -1; // Fraction loaded; negative when not loading
+    private volatile String loadingMessage;
+
+    private final SpriteCache sprites = new SpriteCache(); // Pre-rotated frames of the game objects
+    private final ScaledImageCache scaledImages = new ScaledImageCache(); // Background frames at screen size
+
+    // Size of the surface of the current render
+    private int width;
+    private int height;
+
+    /**
+     * Creates a renderer with the given background.
+     *
+     * @param backgroundShape The shape to use as background, or null for a black
+     *                        background
+     */
+    public FrameRenderer(IShape backgroundShape) {
+        this.backgroundShape = backgroundShape;
+    }
+
+    /**
+     * Gets the cache of pre-rotated sprites, to configure its angle resolution
+     * and memory cap.
+     *
+     * @return The sprite cache.
+     */
+    public SpriteCache getSpriteCache() {
+        return this.sprites;
+    }
+
+    /**
+     * Gets the cache of images converted to the screen format and size, to
+     * configure its memory cap.
+     *
+     * @return The scaled image cache.
+     */
+    public ScaledImageCache getScaledImageCache() {
+        return this.scaledImages;
+    }
+
+    /**
+     * Sets the background shape.
+     *
+     * @param shape The shape to set as the background
+     */
+    public void setShape(IShape shape) {
+        this.backgroundShape = shape;
+    }
+
+    /**
+     * Sets whether hitboxes should be displayed for game objects.
+     *
+     * @param hitbox True to show hitboxes, false to hide them
+     */
+    public void setHitbox(boolean hitbox) {
+        this.hitbox = hitbox;
+    }
+
+    /**
+     * Sets whether the menu should be displayed for the game.
+     *
+     * @param menu True to show the menu, false to hide it
+     */
+    public void setMenu(boolean menu) {
+        this.menu = menu;
+    }
+
+    /**
+     * Shows the loading screen instead of the game.
+     *
+     * @param progress The fraction loaded, from 0.0 to 1.0.
+     * @param message  The text shown under the bar, or null
+     */
+    public void setLoading(double progress, String message) {
+        this.loadingMessage = message;
+        this.loadingProgress = Math.max(0.0, Math.min(1.0, progress));
+    }
+
+    /**
+     * Hides the loading screen.
+     */
+    public void clearLoading() {
+        this.loadingProgress = -1;
+    }
+
+    /**
+     * Checks if the menu is currently displayed.
+     *
+     * @return True if the menu is displayed, false otherwise
+     */
+    public boolean isMenu() {
+        return this.menu;
+    }
+
+    /**
+     * Renders a whole frame: the background, then the game or the menu.
+     *
+     * @param g2d    The graphics context to draw on
+     * @param frame  The frame to draw, or null to draw only the background
+     * @param width  The width of the drawing surface
+     * @param height The height of the drawing surface
+     */
+    public void render(Graphics2D g2d, RenderFrame frame, int width, int height) {
+        this.width = width;
+        this.height = height;
+        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+
+        double loading = this.loadingProgress;
+        if (loading >= 0) {
+            drawLoading(g2d, loading, this.loadingMessage);
+            return;
+        }
+
+        drawBackground(g2d);
+        if (frame != null)
+            drawGame(g2d, frame);
+    }
+
+    /**
+     * Draws the loading screen: a title, a progress bar and a message.
+     *
+     * @param g2d      The graphics context to draw on
+     * @param progress The fraction loaded, from 0.0 to 1.0
+     * @param message  The text shown under the bar, or null
+     */
+    private void drawLoading(Graphics2D g2d, double progress, String message) {
+        g2d.setColor(Color.BLACK);
+        g2d.fillRect(0, 0, this.width, this.height);
+
+        int barWidth = this.width / 2;
+        int barHeight = 16;
+        int barX = (this.width - barWidth) / 2;
+        int barY = this.height / 2;
+
+        g2d.setFont(new java.awt.Font("Retro Gaming", java.awt.Font.BOLD, 32));
+        FontMetrics metrics = g2d.getFontMetrics();
+        String title = "LOADING";
+        g2d.setColor(Color.YELLOW);
+        g2d.drawString(title, (this.width - metrics.stringWidth(title)) / 2, barY - 30);
+
+        g2d.setColor(Color.YELLOW);
+        g2d.drawRect(barX, barY, barWidth, barHeight);
+        g2d.setColor(Color.RED);
+        g2d.fillRect(barX + 2, barY + 2, (int) ((barWidth - 3) * progress), barHeight - 3);
+
+        if (message != null) {
+            g2d.setFont(new java.awt.Font("Retro Gaming", java.awt.Font.PLAIN, 14));
+            metrics = g2d.getFontMetrics();
+            g2d.setColor(Color.YELLOW);
+            g2d.drawString(message, (this.width - metrics.stringWidth(message)) / 2, barY + barHeight + 24);
+        }
+    }
+
+    /**
+     * Draws the background of the game area.
+     * If no background shape is set, a black rectangle is drawn.
+     *
+     * @param g2d The graphics context to draw on
+     */
+    private void drawBackground(Graphics2D g2d) {
+        if (this.backgroundShape == null) {
+            g2d.setColor(Color.BLACK);
+            g2d.fillRect(0, 0, this.width - this.width / 3, this.height);
+            return;
+        }
+        this.backgroundShape.updateAnimation();
+        BufferedImage currentBgFrame = this.backgroundShape.getImagem();
+        if (currentBgFrame != null) {
+            this.scaledImages.draw(g2d, currentBgFrame, 0, 0, this.width - this.width / 3, this.height);
+        } else {
+            System.err.println("Frame atual do background é null. Desenhando fundo branco.");
+        }
+    }
+
+    /**
+     * Draws a single game object with proper transformations.
+     * The frame is taken from the sprite cache already scaled and rotated to the
+     * nearest cached angle, so drawing it is a plain image copy.
+     * The position and angle were already blended between the previous and the
+     * current simulation tick when the frame was recorded.
+     *
+     * @param g2d         The graphics context to draw on
+     * @param frame       The frame holding the object
+     * @param i           The index of the object in the frame
+     * @param panelWidth  Width of the panel
+     * @param panelHeight Height of the panel
+     */
+    private void drawGameObject(Graphics2D g2d, RenderFrame frame, int i, int panelWidth, int panelHeight) {
+        BufferedImage img = frame.image(i);
+        if (img == null)
+            return;
+
+        double screenX = panelWidth / 2.0 - panelWidth / 6.0 + frame.x(i);
+        double screenY = panelHeight / 2.0 - frame.y(i);
+
+        int logicalWidth = (int) (frame.width(i) * 2);
+        int logicalHeight = (int) (frame.height(i) * 2);
+        if (logicalWidth > 0 && logicalHeight > 0) {
+            BufferedImage sprite = this.sprites.get(img, logicalWidth, logicalHeight,
+                    this.sprites.bucket(frame.angle(i)));
+            g2d.drawImage(sprite, (int) Math.round(screenX - sprite.getWidth() / 2.0),
+                    (int) Math.round(screenY - sprite.getHeight() / 2.0), null);
+        }
+
+        if (hitbox)
+            frame.collider(i).draw(g2d, panelWidth / 2.0 - panelWidth / 6.0, panelHeight / 2.0);
+    }
+
+    /**
+     * Draws a string representing the name of a game object.
+     * The string is centered and styled with a retro font.
+     *
+     * @param g2d         The graphics context to draw on
+     * @param frame       The frame holding the object
+     * @param i           The index of the object in the frame
+     * @param panelWidth  Width of the panel
+     * @param panelHeight Height of the panel
+     */
+    private void drawString(Graphics2D g2d, RenderFrame frame, int i, int panelWidth, int panelHeight) {
+        String text = frame.name(i);
+        int scale = (int) frame.scale(i);
+
+        g2d.setFont(new java.awt.Font("Retro Gaming", java.awt.Font.BOLD, scale));
+
+        // Coordenadas base
+        double screenX = panelWidth / 2.0 + frame.x(i);
+        double screenY = panelHeight / 2.0 - frame.y(i);
+
+        // Centralizar a string
+        FontMetrics metrics = g2d.getFontMetrics();
+        int textWidth = metrics.stringWidth(text);
+        int centeredX = (int) screenX - textWidth / 2;
+        int centeredY = (int) screenY;
+
+        // Desenha o texto principal (amarelo)
+        g2d.setColor(Color.RED);
+        g2d.drawString(text, centeredX - 1, centeredY - 2);
+        g2d.setColor(Color.YELLOW);
+        g2d.drawString(text, centeredX, centeredY);
+    }
+
+    /**
+     * Draws the score of a game object.
+     * The score is displayed below the object's name.
+     *
+     * @param g2d         The graphics context to draw on
+     * @param frame       The frame holding the object
+     * @param i           The index of the object in the frame
+     * @param panelWidth  Width of the panel
+     * @param panelHeight Height of the panel
+     */
+    public void drawScore(Graphics2D g2d, RenderFrame frame, int i, int panelWidth, int panelHeight) {
+        drawString(g2d, frame, i, panelWidth, panelHeight);
+
+        String text = String.valueOf(frame.score(i));
+        int scale = (int) (frame.scale(i) / 1.5);
+
+        double screenX = panelWidth / 2.0 + frame.x(i);
+        double screenY = panelHeight / 2.0 - frame.y(i);
+
+        g2d.setFont(new java.awt.Font("Retro Gaming", java.awt.Font.BOLD, scale));
+
+        // Centralizar a string
+        FontMetrics metrics = g2d.getFontMetrics();
+        int textWidth = metrics.stringWidth(text);
+        int centeredX = (int) screenX - textWidth / 2;
+        int centeredY = (int) screenY + 60;
+
+        // Desenha o texto principal (amarelo)
+        g2d.setColor(Color.RED);
+        g2d.drawString(text, centeredX - 1, centeredY - 2);
+        g2d.setColor(Color.YELLOW);
+        g2d.drawString(text, centeredX, centeredY);
+    }
+
+    /**
+     * Draws the menu screen, including background and game objects.
+     *
+     * @param g2d   The graphics context to draw on
+     * @param frame The frame to draw
+     */
+    private void drawMenu(Graphics2D g2d, RenderFrame frame) {
+        if (this.backgroundShape == null) {
+            g2d.setColor(Color.BLACK);
+            g2d.fillRect(0, 0, this.width, this.height);
+        }
+        this.backgroundShape.updateAnimation();
+        BufferedImage currentBgFrame = this.backgroundShape.getImagem();
+        if (currentBgFrame != null) {
+            this.scaledImages.draw(g2d, currentBgFrame, 0, 0, this.width, this.height);
+        } else {
+            System.err.println("Frame atual do background é null. Desenhando fundo branco.");
+        }
+
+        for (int i = 0; i < frame.size(); i++) {
+            if (frame.layer(i) == 0)
+                drawString(g2d, frame, i, this.width, this.height);
+        }
+
+        for (int i = 0; i < frame.size(); i++) {
+            if (frame.layer(i) != 0)
+                drawGameObject(g2d, frame, i, (int) (this.width + this.width / 2.0), this.height);
+        }
+    }
+
+    /**
+     * Draws the game screen, including game objects and info panel.
+     * If the menu is active, it draws the menu instead.
+     *
+     * @param g2d   The graphics context to draw on
+     * @param frame The frame to draw
+     */
+    private void drawGame(Graphics2D g2d, RenderFrame frame) {
+        if (this.menu) {
+            drawMenu(g2d, frame);
+        } else {
+            for (int i = 0; i < frame.size(); i++) {
+                if (frame.layer(i) != 0)
+                    drawGameObject(g2d, frame, i, this.width, this.height);
+            }
+
+            g2d.setColor(Color.BLACK);
+            g2d.fillRect(this.width - this.width / 3, 0, this.width / 3, this.height);
+
+            for (int i = 0; i < frame.size(); i++) {
+                if (frame.layer(i) != 0)
+                    continue;
+
+                if (frame.name(i).contains("Score")) {
+                    drawScore(g2d, frame, i, this.width, this.height);
+                    continue;
+                }
+                drawGameObject(g2d, frame, i, this.width, this.height);
+            }
+        }
+    }
+}
@@ -1,30 +1,21 @@
 package gui;
 
-import core.objectsInterface.IGameObject;
-import geometry.Ponto;
 import core.objectsInterface.IShape;
 import javax.swing.JPanel;
 import java.awt.Color;
 import java.awt.Dimension;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
-import java.awt.RenderingHints;
-import java.awt.geom.AffineTransform;
-import java.awt.image.BufferedImage;
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
-import java.awt.FontMetrics;
-import core.Behavior;
 
 /**
  * A custom JPanel for rendering game objects and background in a 2D game.
- * Handles drawing of game objects with transformations, animations and
- * hitboxes.
+ * The drawing itself (transformations, animations and hitboxes) is done by a
+ * `FrameRenderer`; the panel is repainted by Swing. It is the fallback used
+ * when active rendering (`ActiveRenderCanvas`) is not available.
  *
  * <p>
- * This panel maintains a list of game objects to render and optionally displays
- * a background shape. It performs coordinate transformations to center objects
+ * This panel draws the latest `RenderFrame` published by the game engine and
+ * optionally displays a background shape. It performs coordinate transformations to center objects
  * and applies rotations based on object transforms.
  * </p>
  *
@@ -32,8 +23,8 @@ import core.Behavior;
  * 
  * @preConditions:
  *                 - Width and height parameters must be positive integers
- *                 - GameObjects in objectsToRender must have valid transform
- *                 and shape components
+ *                 - A frame source must be set before the panel shows game
+ *                 objects
  *                 - Background shape must have valid image frames if provided
  *
  * @postConditions:
@@ -42,18 +33,16 @@ import core.Behavior;
  *                  - Background is drawn if provided
  *                  - Info panel is drawn on the right side
  *                  - Hitboxes are displayed if enabled
- * @see
+ * @see FrameRenderer
+ * @see ActiveRenderCanvas
  *
  * @author Brandon Mejia
  * @version 2025-03-25
  */
 public class GamePanel extends JPanel {
-    private volatile List<IGameObject> objectsToRender = Collections.emptyList();
-    private volatile List<IGameObject> infoToRender = Collections.emptyList();
+    private volatile RenderFrameExchange frames; // Source of the frames to draw
 
-    private IShape backgroundShape;
-    private boolean hitbox = false;
-    private boolean menu = true;
+    private final FrameRenderer renderer; // Draws the frames
 
     /**
      * Validates the invariants for the GamePanel class.
@@ -82,6 +71,7 @@ public class GamePanel extends JPanel {
 
         setPreferredSize(new Dimension(width, height));
         setBackground(Color.BLACK);
+        this.renderer = new FrameRenderer(null);
     }
 
     /**
@@ -96,29 +86,33 @@ public class GamePanel extends JPanel {
 
         setPreferredSize(new Dimension(width, height));
         setBackground(Color.BLACK);
-        this.backgroundShape = backgroundShape;
+        this.renderer = new FrameRenderer(backgroundShape);
     }
 
     /**
-     * Updates the list of game objects to be rendered.
-     * Triggers a repaint of the panel.
+     * Creates a game panel with specified dimensions that draws with the given
+     * renderer.
      *
-     * @param newObjects The new list of game objects to render
+     * @param width    The width of the panel in pixels
+     * @param height   The height of the panel in pixels
+     * @param renderer The renderer shared with the GUI bridge
      */
-    public void updateGameObjects(List<IGameObject> newObjects) {
-        List<IGameObject> layerZero = new ArrayList<>();
-        List<IGameObject> otherLayers = new ArrayList<>();
+    public GamePanel(int width, int height, FrameRenderer renderer) {
+        invariantes(width, height);
 
-        for (IGameObject go : newObjects) {
-            if (go.transform().layer() == 0)
-                layerZero.add(go);
-            else
-                otherLayers.add(go);
-        }
+        setPreferredSize(new Dimension(width, height));
+        setBackground(Color.BLACK);
+        this.renderer = renderer;
+    }
 
-        this.infoToRender = layerZero;
-        this.objectsToRender = otherLayers;
-        repaint();
+    /**
+     * Sets the exchange the panel takes its frames from.
+     * Each repaint draws the latest frame published to it.
+     *
+     * @param frames The frame exchange shared with the GUI bridge
+     */
+    public void setFrameSource(RenderFrameExchange frames) {
+        this.frames = frames;
     }
 
     /**
@@ -127,7 +121,7 @@ public class GamePanel extends JPanel {
      * @param shape The shape to set as the background
      */
     public void setShape(IShape shape) {
-        this.backgroundShape = shape;
+        this.renderer.setShape(shape);
     }
 
     /**
@@ -136,7 +130,7 @@ public class GamePanel extends JPanel {
      * @param hitbox True to show hitboxes, false to hide them
      */
     public void setHitbox(boolean hitbox) {
-        this.hitbox = hitbox;
+        this.renderer.setHitbox(hitbox);
     }
 
     /**
@@ -145,11 +139,7 @@ public class GamePanel extends JPanel {
      * @param menu True to show the menu, false to hide it
      */
     public void setMenu(boolean menu) {
-        this.menu = menu;
-        if (!this.menu) {
-            this.infoToRender.clear();
-            this.objectsToRender.clear();
-        }
+        this.renderer.setMenu(menu);
     }
 
     /**
@@ -158,198 +148,7 @@ public class GamePanel extends JPanel {
      * @return True if the menu is displayed, false otherwise
      */
     public boolean isMenu() {
-        return this.menu;
-    }
-
-    /**
-     * Draws the background of the panel.
-     * If no background shape is set, a black rectangle is drawn.
-     *
-     * @param g2d The graphics context to draw on
-     */
-    private void drawBackground(Graphics2D g2d) {
-        if (this.backgroundShape == null) {
-            g2d.setColor(Color.BLACK);
-            g2d.fillRect(0, 0, getWidth() - getWidth() / 3, getHeight());
-            return;
-        }
-        this.backgroundShape.updateAnimation();
-        BufferedImage currentBgFrame = this.backgroundShape.getImagem();
-        if (currentBgFrame != null) {
-            g2d.drawImage(currentBgFrame, 0, 0, getWidth() - getWidth() / 3, getHeight(), this);
-        } else {
-            System.err.println("Frame atual do background é null. Desenhando fundo branco.");
-        }
-    }
-
-    /**
-     * Draws a single game object with proper transformations.
-     * Handles positioning, rotation, and scaling of the object's shape.
-     *
-     * @param g2d         The graphics context to draw on
-     * @param go          The game object to draw
-     * @param panelWidth  Width of the panel
-     * @param panelHeight Height of the panel
-     */
-    private void drawGameObject(Graphics2D g2d, IGameObject go, int panelWidth, int panelHeight) {
-        Ponto position = go.transform().position();
-        double angle = go.transform().angle();
-
-        core.Shape shape = go.shape();
-        java.awt.image.BufferedImage img = shape.getImagem();
-        if (img == null)
-            return;
-
-        AffineTransform oldTransform = g2d.getTransform();
-
-        double screenX = panelWidth / 2.0 - panelWidth / 6.0 + position.x();
-        double screenY = panelHeight / 2.0 - position.y();
-
-        g2d.translate(screenX, screenY);
-        g2d.rotate(Math.toRadians(-angle));
-
-        double logicalWidth = shape.getLogicalWidth() * 2;
-        double logicalHeight = shape.getLogicalHeight() * 2;
-
-        g2d.drawImage(img, (int) (-logicalWidth / 2), (int) (-logicalHeight / 2),
-                (int) logicalWidth, (int) logicalHeight, null);
-
-        g2d.setTransform(oldTransform);
-
-        if (hitbox)
-            go.collider().draw(g2d, panelWidth / 2.0 - panelWidth / 6.0, panelHeight / 2.0);
-    }
-
-    /**
-     * Draws a string representing the name of a game object.
-     * The string is centered and styled with a retro font.
-     *
-     * @param g2d         The graphics context to draw on
-     * @param go          The game object whose name is drawn
-     * @param panelWidth  Width of the panel
-     * @param panelHeight Height of the panel
-     */
-    private void drawString(Graphics2D g2d, IGameObject go, int panelWidth, int panelHeight) {
-        String text = go.name();
-        Ponto position = go.transform().position();
-        int scale = (int) go.transform().scale();
-
-        g2d.setFont(new java.awt.Font("Retro Gaming", java.awt.Font.BOLD, scale));
-
-        // Coordenadas base
-        double screenX = panelWidth / 2.0 + position.x();
-        double screenY = panelHeight / 2.0 - position.y();
-
-        // Centralizar a string
-        FontMetrics metrics = g2d.getFontMetrics();
-        int textWidth = metrics.stringWidth(text);
-        int centeredX = (int) screenX - textWidth / 2;
-        int centeredY = (int) screenY;
-
-        // Desenha o texto principal (amarelo)
-        g2d.setColor(Color.RED);
-        g2d.drawString(text, centeredX - 1, centeredY - 2);
-        g2d.setColor(Color.YELLOW);
-        g2d.drawString(text, centeredX, centeredY);
-    }
-
-    /**
-     * Draws the score of a game object.
-     * The score is displayed below the object's name.
-     *
-     * @param g2d         The graphics context to draw on
-     * @param go          The game object whose score is drawn
-     * @param panelWidth  Width of the panel
-     * @param panelHeight Height of the panel
-     */
-    public void drawScore(Graphics2D g2d, IGameObject go, int panelWidth, int panelHeight) {
-        drawString(g2d, go, panelWidth, panelHeight);
-
-        Behavior behavior = (Behavior) go.behavior();
-        String text = String.valueOf(behavior.getScore());
-        Ponto position = go.transform().position();
-        int scale = (int) (go.transform().scale() / 1.5);
-
-        double screenX = panelWidth / 2.0 + position.x();
-        double screenY = panelHeight / 2.0 - position.y();
-
-        g2d.setFont(new java.awt.Font("Retro Gaming", java.awt.Font.BOLD, scale));
-
-        // Centralizar a string
-        FontMetrics metrics = g2d.getFontMetrics();
-        int textWidth = metrics.stringWidth(text);
-        int centeredX = (int) screenX - textWidth / 2;
-        int centeredY = (int) screenY + 60;
-
-        // Desenha o texto principal (amarelo)
-        g2d.setColor(Color.RED);
-        g2d.drawString(text, centeredX - 1, centeredY - 2);
-        g2d.setColor(Color.YELLOW);
-        g2d.drawString(text, centeredX, centeredY);
-    }
-
-    /**
-     * Draws the menu screen, including background and game objects.
-     *
-     * @param g2d The graphics context to draw on
-     */
-    private void drawMenu(Graphics2D g2d) {
-        if (this.backgroundShape == null) {
-            g2d.setColor(Color.BLACK);
-            g2d.fillRect(0, 0, getWidth(), getHeight());
-        }
-        this.backgroundShape.updateAnimation();
-        BufferedImage currentBgFrame = this.backgroundShape.getImagem();
-        if (currentBgFrame != null) {
-            g2d.drawImage(currentBgFrame, 0, 0, getWidth(), getHeight(), this);
-        } else {
-            System.err.println("Frame atual do background é null. Desenhando fundo branco.");
-        }
-
-        for (IGameObject go : infoToRender) {
-            if (go.transform() == null || go.shape() == null)
-                continue;
-            drawString(g2d, go, getWidth(), getHeight());
-        }
-
-        for (IGameObject go : objectsToRender) {
-            if (go.transform() == null || go.shape() == null)
-                continue;
-            drawGameObject(g2d, go, (int) (getWidth() + getWidth() / 2.0), getHeight());
-        }
-    }
-
-    /**
-     * Draws the game screen, including game objects and info panel.
-     * If the menu is active, it draws the menu instead.
-     *
-     * @param g2d The graphics context to draw on
-     */
-    private void drawGame(Graphics2D g2d) {
-        if (this.menu) {
-            drawMenu(g2d);
-        } else {
-            for (IGameObject go : objectsToRender) {
-                if (go.transform() == null || go.shape() == null)
-                    continue;
-
-                drawGameObject(g2d, go, getWidth(), getHeight());
-            }
-
-            g2d.setColor(Color.BLACK);
-            g2d.fillRect(getWidth() - getWidth() / 3, 0, getWidth() / 3, getHeight());
-
-            for (IGameObject go : infoToRender) {
-                if (go.transform() == null || go.shape() == null)
-                    continue;
-
-                if (go.name().contains("Score")) {
-                    drawScore(g2d, go, getWidth(), getHeight());
-                    continue;
-                }
-                drawGameObject(g2d, go, getWidth(), getHeight());
-            }
-        }
+        return this.renderer.isMenu();
     }
 
     /**
@@ -361,10 +160,7 @@ public class GamePanel extends JPanel {
     @Override
     protected void paintComponent(Graphics g) {
         super.paintComponent(g);
-        Graphics2D g2d = (Graphics2D) g;
-        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-
-        drawBackground(g2d);
-        drawGame(g2d);
+        RenderFrameExchange frames = this.frames;
+        this.renderer.render((Graphics2D) g, frames == null ? null : frames.acquire(), getWidth(), getHeight());
     }
 }
\ No newline at end of file
@@ -0,0 +1,145 @@
+package gui;
+
+/**
+ * A GUI bridge without a window, to run the whole game on machines with no
+ * display (soak tests, throughput measurements, servers).
+ *
+ * <p>
+ * Nothing is drawn: `nextFrame()` returns null, so the game engine skips
+ * recording frames, and the loading screen is ignored. The input comes from the
+ * `IInputEvent` given at construction, usually a `ScriptedInputEvent`. The menu
+ * and hitbox flags are kept so the game logic that reads them behaves as with
+ * the `SwingGui`. No AWT window or thread is created.
+ * </p>
+ *
+ * <p>
+ * Example usage:
+ * </p>
+ *
+ * <pre>
+ * HeadlessGui gui = new HeadlessGui(new ScriptedInputEvent().hold("PLAYER1", 10, 12));
+ * GameManager gameManager = new GameManager(gui, 42, new AudioMixer()); // A mixer never started is silent
+ * gameManager.getEngine().setUncapped(true);
+ * gameManager.startGame();
+ * </pre>
+ *
+ * @preConditions:
+ *                 - The input must not be null.
+ *
+ * @postConditions:
+ *                  - No frame is recorded or drawn.
+ *                  - `getInputEvent()` returns the input given at construction.
+ *
+ * @see ScriptedInputEvent
+ * @see IGuiBridge
+ *
+ * @author Brandon Mejia
+ * @version 2025-05-20
+ */
+public class HeadlessGui implements IGuiBridge {
+    private final IInputEvent input;
+    private volatile boolean menu = true;
+    private volatile boolean hitbox = false;
+
+    /**
+     * Creates a headless GUI whose input is an empty script: no action is ever
+     * active.
+     */
+    public HeadlessGui() {
+        this(new ScriptedInputEvent());
+    }
+
+    /**
+     * Creates a headless GUI.
+     *
+     * @param input The input read by the game.
+     * @throws IllegalArgumentException if the input is null.
+     */
+    public HeadlessGui(IInputEvent input) {
+        if (input == null)
+            throw new IllegalArgumentException("HeadlessGui:iv");
+        this.input = input;
+    }
+
+    /**
+     * Returns no frame, so the engine skips recording the game objects.
+     *
+     * @return Null.
+     */
+    @Override
+    public RenderFrame nextFrame() {
+        return null;
+    }
+
+    /**
+     * Does nothing: there is no window to draw on.
+     *
+     * @param frame The frame (ignored).
+     */
+    @Override
+    public void draw(RenderFrame frame) {
+        // Nothing is drawn
+    }
+
+    /**
+     * Does nothing: there is no loading screen.
+     *
+     * @param progress The fraction loaded (ignored).
+     * @param message  The text (ignored).
+     */
+    @Override
+    public void showLoading(double progress, String message) {
+        // Nothing is drawn
+    }
+
+    /**
+     * Gets the input given at construction.
+     *
+     * @return The input read by the game.
+     */
+    @Override
+    public IInputEvent getInputEvent() {
+        return this.input;
+    }
+
+    /**
+     * Checks if the game is in the menu.
+     *
+     * @return True if the menu would be displayed, false otherwise.
+     */
+    @Override
+    public boolean isMenu() {
+        return this.menu;
+    }
+
+    /**
+     * Sets whether the game is in the menu. Nothing is drawn; the flag is kept
+     * for the game logic that reads it.
+     *
+     * @param menu True for the menu, false for the game.
+     */
+    @Override
+    public void setMenu(boolean menu) {
+        this.menu = menu;
+    }
+
+    /**
+     * Sets whether the hitboxes would be displayed. Nothing is drawn; the flag is
+     * only kept.
+     *
+     * @param hitbox True to show the hitboxes, false to hide them.
+     */
+    @Override
+    public void setHitbox(boolean hitbox) {
+        this.hitbox = hitbox;
+    }
+
+    /**
+     * Checks if the hitboxes would be displayed.
+     *
+     * @return True if the hitboxes are enabled.
+     */
+    public boolean isHitbox() {
+        return this.hitbox;
+    }
+}
@@ -1,9 +1,5 @@
 package gui;
 
-import core.objectsInterface.IGameObject;
-
-import java.util.concurrent.CopyOnWriteArrayList;
-
 /**
  * Interface for bridging GUI rendering and input handling in a game.
  * Provides methods for drawing game objects and retrieving input states.
@@ -14,19 +10,21 @@ import java.util.concurrent.CopyOnWriteArrayList;
  * 
  * <pre>
  * IGuiBridge guiBridge = new SomeGuiBridgeImplementation();
- * guiBridge.draw(gameObjects);
+ * RenderFrame frame = guiBridge.nextFrame();
+ * // ... record the game objects into the frame ...
+ * guiBridge.draw(frame);
  * IInputEvent inputState = guiBridge.getInputState();
  * </pre>
  *
  * @preConditions:
- *                 - The list of game objects passed to the draw method must not
- *                 be null.
+ *                 - The frame passed to the draw method must be the one
+ *                 returned by the last call to nextFrame.
  *                 - The implementation of getInputState must return a valid
  *                 IInputEvent object.
  *
  * @postConditions:
- *                  - The draw method renders the provided game objects on the
- *                  GUI.
+ *                  - The draw method publishes the frame, which the GUI renders
+ *                  on its own schedule.
  *                  - The getInputState method retrieves the current input
  *                  state.
  *
@@ -35,11 +33,30 @@ import java.util.concurrent.CopyOnWriteArrayList;
  */
 public interface IGuiBridge {
     /**
-     * Draws the provided list of game objects on the GUI.
+     * Gets the frame the game engine fills next. The frame belongs to the GUI and
+     * must not be used after it is passed to `draw`.
+     *
+     * @return An empty or stale `RenderFrame` to be cleared and filled, or null
+     *         if the GUI draws nothing (the engine then skips the frame).
+     */
+    RenderFrame nextFrame();
+
+    /**
+     * Publishes a filled frame to the GUI, which draws it on its own thread.
+     *
+     * @param frame The frame returned by `nextFrame`, with every object to render.
+     */
+    void draw(RenderFrame frame);
+
+    /**
+     * Shows a loading screen with a progress bar instead of the game, such as
+     * while the assets are preloaded. The loading screen is replaced by the game
+     * at the next call to `draw`.
      *
-     * @param objectsToRender A thread-safe list of game objects to render.
+     * @param progress The fraction loaded, from 0.0 to 1.0.
+     * @param message  The text shown under the bar, or null.
      */
-    void draw(CopyOnWriteArrayList<IGameObject> objectsToRender);
+    void showLoading(double progress, String message);
 
     /**
      * Retrieves the current input state from the GUI.
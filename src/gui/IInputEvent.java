@@ -61,4 +61,14 @@ public interface IInputEvent {
      * @param mouseButton The mouse button code to remove from the mapping.
      */
     void removeMouseAssociation(int mouseButton);
+
+    /**
+     * Called by the game engine at the start of every tick, after the pending
+     * input changes are applied and before any game logic reads the input.
+     * Recorders and replays use it to step through the ticks; by default it does
+     * nothing.
+     */
+    default void onTick() {
+        // Live input needs no per-tick work
+    }
 }
\ No newline at end of file
@@ -5,6 +5,7 @@ import java.awt.event.KeyListener;
 import java.awt.event.MouseEvent;
 import java.awt.event.MouseListener;
 import javax.swing.JFrame;
+import core.Mailbox;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -38,7 +39,8 @@ import java.util.Map;
  *
  * @Post-Conditions:
  *                   - Keyboard and mouse events will update internal state
- *                   flags.
+ *                   flags, at once or, with a mailbox, when the game thread
+ *                   drains it at the start of a tick.
  *                   - Input state can be queried through is* methods.
  *                   - Input handlers will remain active as long as the JFrame
  *                   exists.
@@ -56,6 +58,7 @@ public class InputEvent implements IInputEvent, KeyListener, MouseListener {
     private InputMapping inputMapping = new InputMapping();
     private Map<Integer, String> keyToActionMap = new HashMap<>();
     private Map<Integer, String> mouseButtonToActionMap = new HashMap<>();
+    private volatile Mailbox mailbox = null; // Receives the state changes, or null to apply them at once
 
     /**
      * Validates the invariants for the provided key and mouse maps.
@@ -105,7 +108,7 @@ public class InputEvent implements IInputEvent, KeyListener, MouseListener {
     public void keyPressed(KeyEvent e) {
         String action = keyToActionMap.get(e.getKeyCode());
         if (action != null) {
-            inputMapping.setActionState(action, true);
+            this.setActionState(action, true);
         }
     }
 
@@ -118,7 +121,7 @@ public class InputEvent implements IInputEvent, KeyListener, MouseListener {
     public void keyReleased(KeyEvent e) {
         String action = keyToActionMap.get(e.getKeyCode());
         if (action != null) {
-            inputMapping.setActionState(action, false);
+            this.setActionState(action, false);
         }
     }
 
@@ -132,7 +135,7 @@ public class InputEvent implements IInputEvent, KeyListener, MouseListener {
         int button = e.getButton();
         String action = mouseButtonToActionMap.get(button);
         if (action != null) {
-            inputMapping.setActionState(action, true);
+            this.setActionState(action, true);
         }
     }
 
@@ -146,10 +149,35 @@ public class InputEvent implements IInputEvent, KeyListener, MouseListener {
         int button = e.getButton();
         String action = mouseButtonToActionMap.get(button);
         if (action != null) {
-            inputMapping.setActionState(action, false);
+            this.setActionState(action, false);
         }
     }
 
+    /**
+     * Sets the mailbox that receives the state changes. The listeners then post
+     * each change instead of applying it, so the actions only change when the
+     * game thread drains the mailbox and stay the same during a tick.
+     *
+     * @param mailbox The mailbox, or null to apply the changes at once.
+     */
+    public void setMailbox(Mailbox mailbox) {
+        this.mailbox = mailbox;
+    }
+
+    /**
+     * Changes the state of an action, through the mailbox if there is one.
+     *
+     * @param action The name of the action.
+     * @param state  The state to set (true for active, false for inactive).
+     */
+    private void setActionState(String action, boolean state) {
+        Mailbox mailbox = this.mailbox;
+        if (mailbox != null)
+            mailbox.post(() -> inputMapping.setActionState(action, state));
+        else
+            inputMapping.setActionState(action, state);
+    }
+
     /**
      * Registers input handlers for the specified JFrame.
      *
@@ -0,0 +1,292 @@
+package gui;
+
+import javax.swing.JFrame;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Records the input of a game, tick by tick, into a compact binary file that a
+ * `ReplayInputEvent` plays back.
+ *
+ * <p>
+ * The recorder wraps the live input: the game reads the actions through it, and
+ * at the start of every tick (`onTick()`) it stores the set of active actions as
+ * a bitmask, one bit per recorded action. Consecutive ticks with the same mask
+ * are stored as one run, so a file holds a few bytes per change of input rather
+ * than per tick. The runs are encoded into a buffer and written to a
+ * `FileChannel` only when the buffer is full or the recorder is closed.
+ * </p>
+ *
+ * <p>
+ * File format (big-endian): the magic number `RRIN`, a version byte, the seed
+ * of the game (long), the number of actions (byte) and each action name
+ * (unsigned short length followed by UTF-8 bytes); then the runs, each one a
+ * variable-length mask followed by a variable-length number of ticks (7 bits
+ * per byte, lowest bits first).
+ * </p>
+ *
+ * <p>
+ * Example usage:
+ * </p>
+ *
+ * <pre>
+ * InputRecorder recorder = new InputRecorder(Path.of("game.rec"), engine.getSeed(),
+ *         InputRecorder.GAME_ACTIONS, gui.getInputEvent());
+ * engine.setInputEvent(recorder);
+ * ...
+ * recorder.close();
+ * </pre>
+ *
+ * @preConditions:
+ *                 - The actions must be between 1 and 64 distinct names.
+ *                 - `onTick()` is called by the game thread once per tick.
+ *
+ * @postConditions:
+ *                  - After `close()`, the file holds the mask of every recorded
+ *                  tick, in order.
+ *                  - The actions reported are those of the wrapped input.
+ *
+ * @see ReplayInputEvent
+ * @see IInputEvent
+ *
+ * @author Brandon Mejia
+ * @version 2025-05-20
+ */
+public class InputRecorder implements IInputEvent, Closeable {
+    /** The actions used by the game, in the order they are recorded. */
+    public static final List<String> GAME_ACTIONS = List.of("LEFT", "RIGHT", "ATTACK", "EVASIVE", "PLAYER1",
+            "PLAYER2");
+
+    static final int MAGIC = 0x5252494E; // "RRIN"
+    static final byte VERSION = 1;
+    private static final int BUFFER_BYTES = 8192;
+    private static final int MAX_RUN_BYTES = 20; // Two variable-length longs
+
+    private final IInputEvent source;
+    private final String[] actions;
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_BYTES);
+
+    private long mask = 0; // Mask of the current run
+    private long run = 0; // Ticks in the current run
+    private long ticks = 0; // Ticks recorded
+    private long runs = 0; // Runs written
+    private long bytes = 0; // Bytes written to the file
+    private boolean closed = false;
+
+    /**
+     * Validates the invariants for the `InputRecorder` class.
+     * Ensures that the input and the file are present and that there are between
+     * 1 and 64 distinct actions.
+     *
+     * @param file    The file to write.
+     * @param actions The names of the recorded actions.
+     * @param source  The input to record.
+     * @throws IllegalArgumentException if a value is invalid.
+     */
+    private void invariante(Path file, List<String> actions, IInputEvent source) {
+        if (file != null && source != null && actions != null && !actions.isEmpty() && actions.size() <= 64 &&
+                actions.stream().distinct().count() == actions.size())
+            return;
+
+        throw new IllegalArgumentException("InputRecorder:iv");
+    }
+
+    /**
+     * Creates a recorder and writes the header of its file, replacing any
+     * existing file.
+     *
+     * @param file    The file to write.
+     * @param seed    The seed of the recorded game, stored for the replay.
+     * @param actions The names of the recorded actions, one bit each.
+     * @param source  The input to record.
+     * @throws UncheckedIOException if the file cannot be written.
+     */
+    public InputRecorder(Path file, long seed, List<String> actions, IInputEvent source) {
+        invariante(file, actions, source);
+        this.source = source;
+        this.actions = actions.toArray(new String[0]);
+
+        try {
+            this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING);
+        } catch (IOException e) {
+            throw new UncheckedIOException("InputRecorder: Cannot open " + file, e);
+        }
+
+        this.buffer.putInt(MAGIC);
+        this.buffer.put(VERSION);
+        this.buffer.putLong(seed);
+        this.buffer.put((byte) this.actions.length);
+        for (String action : this.actions) {
+            byte[] name = action.getBytes(StandardCharsets.UTF_8);
+            this.buffer.putShort((short) name.length);
+            this.buffer.put(name);
+        }
+    }
+
+    /**
+     * Lets the recorded input step to this tick, then records the actions active
+     * on it.
+     */
+    @Override
+    public synchronized void onTick() {
+        this.source.onTick();
+        if (this.closed)
+            return;
+
+        long mask = 0;
+        for (int i = 0; i < this.actions.length; i++)
+            if (this.source.isActionActive(this.actions[i]))
+                mask |= 1L << i;
+
+        if (mask != this.mask && this.run > 0) {
+            this.writeRun();
+            this.run = 0;
+        }
+        this.mask = mask;
+        this.run++;
+        this.ticks++;
+    }
+
+    /**
+     * Encodes the current run into the buffer, writing the buffer to the file
+     * first if it is full.
+     */
+    private void writeRun() {
+        if (this.buffer.remaining() < MAX_RUN_BYTES)
+            this.flush();
+        putVarLong(this.buffer, this.mask);
+        putVarLong(this.buffer, this.run);
+        this.runs++;
+    }
+
+    /**
+     * Writes the buffered bytes to the file.
+     */
+    private void flush() {
+        this.buffer.flip();
+        try {
+            while (this.buffer.hasRemaining())
+                this.bytes += this.channel.write(this.buffer);
+        } catch (IOException e) {
+            throw new UncheckedIOException("InputRecorder: Cannot write the recording", e);
+        } finally {
+            this.buffer.clear();
+        }
+    }
+
+    /**
+     * Writes the last run and closes the file. Further ticks are not recorded.
+     *
+     * @throws UncheckedIOException if the file cannot be written.
+     */
+    @Override
+    public synchronized void close() {
+        if (this.closed)
+            return;
+
+        this.closed = true;
+        try {
+            if (this.run > 0)
+                this.writeRun();
+            this.flush();
+        } finally {
+            try {
+                this.channel.close();
+            } catch (IOException e) {
+                System.err.println("InputRecorder: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Encodes a value in 7-bit groups, lowest first; the high bit of a byte
+     * marks that more bytes follow.
+     *
+     * @param buffer The buffer to write to.
+     * @param value  The value, read as unsigned.
+     */
+    static void putVarLong(ByteBuffer buffer, long value) {
+        while ((value & ~0x7FL) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    /**
+     * Decodes a value written by `putVarLong`.
+     *
+     * @param buffer The buffer to read from.
+     * @return The value.
+     */
+    static long getVarLong(ByteBuffer buffer) {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0)
+                return value;
+        }
+        throw new IllegalStateException("InputRecorder: Malformed variable-length value");
+    }
+
+    /**
+     * Checks if a specific action is active in the recorded input.
+     *
+     * @param action The name of the action to check.
+     * @return True if the action is active, false otherwise.
+     */
+    @Override
+    public boolean isActionActive(String action) {
+        return this.source.isActionActive(action);
+    }
+
+    /**
+     * Registers the input handlers of the recorded input.
+     *
+     * @param frame The JFrame to associate input handlers with.
+     */
+    @Override
+    public void registerInputHandlers(JFrame frame) {
+        this.source.registerInputHandlers(frame);
+    }
+
+    /**
+     * Removes a key association of the recorded input.
+     *
+     * @param keyCode The key code to remove from the mapping.
+     */
+    @Override
+    public void removeKeyAssociation(int keyCode) {
+        this.source.removeKeyAssociation(keyCode);
+    }
+
+    /**
+     * Removes a mouse association of the recorded input.
+     *
+     * @param mouseButton The mouse button code to remove from the mapping.
+     */
+    @Override
+    public void removeMouseAssociation(int mouseButton) {
+        this.source.removeMouseAssociation(mouseButton);
+    }
+
+    /**
+     * Returns a string representation of the recording statistics.
+     *
+     * @return A string with the recorded ticks, the runs and the bytes written.
+     */
+    @Override
+    public synchronized String toString() {
+        return "InputRecorder{ticks=" + ticks + ", runs=" + runs + ", bytes=" + bytes + ", closed=" + closed + '}';
+    }
+}
@@ -0,0 +1,263 @@
+package gui;
+
+import core.Behavior;
+import core.Shape;
+import core.objectsInterface.ICollider;
+import core.objectsInterface.IGameObject;
+import core.objectsInterface.ITransform;
+
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+
+/**
+ * The `RenderFrame` class is a snapshot of everything the GUI needs to draw one
+ * frame, taken by the game engine at the end of its ticks.
+ * Each game object becomes a compact record (interpolated position and angle,
+ * scale, size, layer, image and frame index, name and score) stored in
+ * parallel arrays, so the GUI never reads a game object while the engine is
+ * updating it.
+ *
+ * <p>
+ * Frames are reused: `clear()` keeps the arrays, and `record()` grows them only
+ * when the number of objects exceeds every previous frame.
+ * Frames are exchanged between the engine and the GUI by a
+ * `RenderFrameExchange`.
+ * </p>
+ *
+ * @preConditions:
+ *                 - Recorded game objects must have a transform and a shape.
+ *
+ * @postConditions:
+ *                  - The records keep the recording order.
+ *                  - Changes to a game object after it was recorded are not
+ *                  visible in the frame.
+ *
+ * @see RenderFrameExchange
+ * @see IGuiBridge
+ *
+ * @author Brandon Mejia
+ * @version 2025-05-20
+ */
+public class RenderFrame {
+    private static final int INITIAL_CAPACITY = 64;
+
+    private int size = 0; // Number of records
+    private long tick = 0; // Simulation tick the frame was taken at
+
+    private double[] x = new double[INITIAL_CAPACITY];
+    private double[] y = new double[INITIAL_CAPACITY];
+    private double[] angle = new double[INITIAL_CAPACITY];
+    private double[] scale = new double[INITIAL_CAPACITY];
+    private double[] width = new double[INITIAL_CAPACITY];
+    private double[] height = new double[INITIAL_CAPACITY];
+    private int[] layer = new int[INITIAL_CAPACITY];
+    private int[] frameIndex = new int[INITIAL_CAPACITY];
+    private int[] score = new int[INITIAL_CAPACITY];
+    private BufferedImage[] image = new BufferedImage[INITIAL_CAPACITY];
+    private String[] name = new String[INITIAL_CAPACITY];
+    private ICollider[] collider = new ICollider[INITIAL_CAPACITY];
+
+    /**
+     * Removes every record, keeping the allocated arrays.
+     *
+     * @param tick The simulation tick the next records are taken at.
+     */
+    public void clear(long tick) {
+        Arrays.fill(this.image, 0, this.size, null);
+        Arrays.fill(this.name, 0, this.size, null);
+        Arrays.fill(this.collider, 0, this.size, null);
+        this.size = 0;
+        this.tick = tick;
+    }
+
+    /**
+     * Records a game object, blending its position and angle between the
+     * previous and the current tick.
+     * Objects without a transform or a shape are ignored.
+     *
+     * @param go    The game object to record.
+     * @param alpha The interpolation factor between the previous and the current
+     *              tick, in [0, 1].
+     */
+    public void record(IGameObject go, double alpha) {
+        ITransform transform = go.transform();
+        Shape shape = go.shape();
+        if (transform == null || shape == null)
+            return;
+
+        if (this.size == this.x.length)
+            this.grow();
+
+        int i = this.size++;
+        this.x[i] = transform.interpolatedX(alpha);
+        this.y[i] = transform.interpolatedY(alpha);
+        this.angle[i] = transform.interpolatedAngle(alpha);
+        this.scale[i] = transform.scale();
+        this.width[i] = shape.getLogicalWidth();
+        this.height[i] = shape.getLogicalHeight();
+        this.layer[i] = transform.layer();
+        this.frameIndex[i] = shape.getFrameIndex();
+        this.image[i] = shape.getImagem();
+        this.name[i] = go.name();
+        this.score[i] = go.behavior() instanceof Behavior behavior ? behavior.getScore() : 0;
+        this.collider[i] = go.collider();
+    }
+
+    /**
+     * Doubles the capacity of the record arrays.
+     */
+    private void grow() {
+        int capacity = this.x.length * 2;
+        this.x = Arrays.copyOf(this.x, capacity);
+        this.y = Arrays.copyOf(this.y, capacity);
+        this.angle = Arrays.copyOf(this.angle, capacity);
+        this.scale = Arrays.copyOf(this.scale, capacity);
+        this.width = Arrays.copyOf(this.width, capacity);
+        this.height = Arrays.copyOf(this.height, capacity);
+        this.layer = Arrays.copyOf(this.layer, capacity);
+        this.frameIndex = Arrays.copyOf(this.frameIndex, capacity);
+        this.score = Arrays.copyOf(this.score, capacity);
+        this.image = Arrays.copyOf(this.image, capacity);
+        this.name = Arrays.copyOf(this.name, capacity);
+        this.collider = Arrays.copyOf(this.collider, capacity);
+    }
+
+    /**
+     * Gets the number of records.
+     *
+     * @return The number of recorded objects.
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Gets the simulation tick the frame was taken at.
+     *
+     * @return The tick number.
+     */
+    public long tick() {
+        return this.tick;
+    }
+
+    /**
+     * Gets the interpolated x-coordinate of a record.
+     *
+     * @param i The record index.
+     * @return The x-coordinate.
+     */
+    public double x(int i) {
+        return this.x[i];
+    }
+
+    /**
+     * Gets the interpolated y-coordinate of a record.
+     *
+     * @param i The record index.
+     * @return The y-coordinate.
+     */
+    public double y(int i) {
+        return this.y[i];
+    }
+
+    /**
+     * Gets the interpolated angle of a record.
+     *
+     * @param i The record index.
+     * @return The angle in degrees.
+     */
+    public double angle(int i) {
+        return this.angle[i];
+    }
+
+    /**
+     * Gets the scale of a record.
+     *
+     * @param i The record index.
+     * @return The scale.
+     */
+    public double scale(int i) {
+        return this.scale[i];
+    }
+
+    /**
+     * Gets the logical width of a record's shape.
+     *
+     * @param i The record index.
+     * @return The logical width.
+     */
+    public double width(int i) {
+        return this.width[i];
+    }
+
+    /**
+     * Gets the logical height of a record's shape.
+     *
+     * @param i The record index.
+     * @return The logical height.
+     */
+    public double height(int i) {
+        return this.height[i];
+    }
+
+    /**
+     * Gets the layer of a record.
+     *
+     * @param i The record index.
+     * @return The layer.
+     */
+    public int layer(int i) {
+        return this.layer[i];
+    }
+
+    /**
+     * Gets the animation frame index of a record.
+     *
+     * @param i The record index.
+     * @return The frame index.
+     */
+    public int frameIndex(int i) {
+        return this.frameIndex[i];
+    }
+
+    /**
+     * Gets the image of a record.
+     *
+     * @param i The record index.
+     * @return The current animation frame, or null if the shape has no frames.
+     */
+    public BufferedImage image(int i) {
+        return this.image[i];
+    }
+
+    /**
+     * Gets the name of a record's game object.
+     *
+     * @param i The record index.
+     * @return The name.
+     */
+    public String name(int i) {
+        return this.name[i];
+    }
+
+    /**
+     * Gets the score of a record's behavior.
+     *
+     * @param i The record index.
+     * @return The score, or 0 if the behavior keeps no score.
+     */
+    public int score(int i) {
+        return this.score[i];
+    }
+
+    /**
+     * Gets the collider of a record. It is only used to draw the hitboxes, which
+     * are a debugging aid and read the live collider.
+     *
+     * @param i The record index.
+     * @return The collider.
+     */
+    public ICollider collider(int i) {
+        return this.collider[i];
+    }
+}
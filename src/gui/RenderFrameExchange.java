@@ -0,0 +1,71 @@
+package gui;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The `RenderFrameExchange` class hands `RenderFrame`s from the game engine to
+ * the GUI without locks, using three preallocated frames (triple buffering).
+ *
+ * <p>
+ * At any time one frame is being written by the engine, one is being drawn by
+ * the GUI and one holds the latest published frame. `publish()` and `acquire()`
+ * swap a frame with the published one in a single atomic operation, so neither
+ * side ever waits for the other and the GUI always draws the most recent
+ * complete frame.
+ * </p>
+ *
+ * @preConditions:
+ *                 - Only one thread writes (`writeFrame()`, `publish()`) and
+ *                 only one thread reads (`acquire()`).
+ *
+ * @postConditions:
+ *                  - The writer and the reader never hold the same frame.
+ *                  - `acquire()` returns the latest published frame, or the
+ *                  frame it returned before if nothing new was published.
+ *
+ * @see RenderFrame
+ * @see IGuiBridge
+ *
+ * @author Brandon Mejia
+ * @version 2025-05-20
+ */
+public class RenderFrameExchange {
+    private static final int INDEX_MASK = 0b11;
+    private static final int FRESH = 0b100; // Set when the published frame was not acquired yet
+
+    private final RenderFrame[] frames = { new RenderFrame(), new RenderFrame(), new RenderFrame() };
+    private final AtomicInteger published = new AtomicInteger(0); // Index of the published frame | FRESH
+    private int writeIndex = 1; // Owned by the writer
+    private int readIndex = 2; // Owned by the reader
+
+    /**
+     * Gets the frame the writer fills next.
+     *
+     * @return The write frame.
+     */
+    public RenderFrame writeFrame() {
+        return this.frames[this.writeIndex];
+    }
+
+    /**
+     * Publishes the write frame and takes the previously published one as the
+     * next write frame.
+     */
+    public void publish() {
+        int previous = this.published.getAndSet(this.writeIndex | FRESH);
+        this.writeIndex = previous & INDEX_MASK;
+    }
+
+    /**
+     * Takes the latest published frame for drawing.
+     *
+     * @return The frame to draw.
+     */
+    public RenderFrame acquire() {
+        if ((this.published.get() & FRESH) != 0) {
+            int previous = this.published.getAndSet(this.readIndex);
+            this.readIndex = previous & INDEX_MASK;
+        }
+        return this.frames[this.readIndex];
+    }
+}
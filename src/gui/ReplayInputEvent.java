@@ -0,0 +1,215 @@
+package gui;
+
+import javax.swing.JFrame;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Plays back, tick by tick, the input stored by an `InputRecorder`.
+ *
+ * <p>
+ * The whole recording is read when the replay is created. At the start of every
+ * tick (`onTick()`) the replay moves to the mask of the next recorded tick, and
+ * `isActionActive` reports the actions of that mask. After the last recorded
+ * tick no action is active. Together with the seed stored in the file, the
+ * replay reproduces the recorded game.
+ * </p>
+ *
+ * <p>
+ * Example usage:
+ * </p>
+ *
+ * <pre>
+ * ReplayInputEvent replay = new ReplayInputEvent(Path.of("game.rec"));
+ * GameManager gameManager = new GameManager(gui, replay.seed());
+ * gameManager.setInputEvent(replay);
+ * </pre>
+ *
+ * @preConditions:
+ *                 - The file must have been written by an `InputRecorder`.
+ *                 - `onTick()` is called by the game thread once per tick.
+ *
+ * @postConditions:
+ *                  - The masks are reported in the order they were recorded,
+ *                  one per tick.
+ *
+ * @see InputRecorder
+ * @see IInputEvent
+ *
+ * @author Brandon Mejia
+ * @version 2025-05-20
+ */
+public class ReplayInputEvent implements IInputEvent {
+    private final long seed;
+    private final Map<String, Integer> actionBits = new HashMap<>(); // Bit of each recorded action
+    private final long[] masks; // Mask of each run
+    private final long[] lengths; // Ticks of each run
+    private final long totalTicks;
+
+    private int run = -1; // Current run
+    private long left = 0; // Ticks left in the current run
+    private long mask = 0; // Mask of the current tick
+    private long tick = 0; // Ticks played
+
+    /**
+     * Reads a recording.
+     *
+     * @param file The file written by an `InputRecorder`.
+     * @throws UncheckedIOException  if the file cannot be read.
+     * @throws IllegalStateException if the file is not a valid recording.
+     */
+    public ReplayInputEvent(Path file) {
+        if (file == null)
+            throw new IllegalArgumentException("ReplayInputEvent:iv");
+
+        ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            buffer = ByteBuffer.allocate((int) channel.size());
+            while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                // Read until the buffer is full
+            }
+            buffer.flip();
+        } catch (IOException e) {
+            throw new UncheckedIOException("ReplayInputEvent: Cannot read " + file, e);
+        }
+
+        try {
+            if (buffer.getInt() != InputRecorder.MAGIC || buffer.get() != InputRecorder.VERSION)
+                throw new IllegalStateException("ReplayInputEvent: Not a recording: " + file);
+            this.seed = buffer.getLong();
+            int actionCount = buffer.get() & 0xFF;
+            for (int i = 0; i < actionCount; i++) {
+                byte[] name = new byte[buffer.getShort() & 0xFFFF];
+                buffer.get(name);
+                this.actionBits.put(new String(name, StandardCharsets.UTF_8), i);
+            }
+
+            long[] masks = new long[64];
+            long[] lengths = new long[64];
+            int count = 0;
+            long total = 0;
+            while (buffer.hasRemaining()) {
+                if (count == masks.length) {
+                    masks = Arrays.copyOf(masks, count * 2);
+                    lengths = Arrays.copyOf(lengths, count * 2);
+                }
+                masks[count] = InputRecorder.getVarLong(buffer);
+                lengths[count] = InputRecorder.getVarLong(buffer);
+                total += lengths[count];
+                count++;
+            }
+            this.masks = Arrays.copyOf(masks, count);
+            this.lengths = Arrays.copyOf(lengths, count);
+            this.totalTicks = total;
+        } catch (BufferUnderflowException e) {
+            throw new IllegalStateException("ReplayInputEvent: Truncated recording: " + file, e);
+        }
+    }
+
+    /**
+     * Moves to the mask of the next recorded tick.
+     */
+    @Override
+    public void onTick() {
+        while (this.left == 0 && this.run + 1 < this.masks.length) {
+            this.run++;
+            this.left = this.lengths[this.run];
+        }
+        if (this.left > 0) {
+            this.mask = this.masks[this.run];
+            this.left--;
+        } else {
+            this.mask = 0; // The recording is over
+        }
+        this.tick++;
+    }
+
+    /**
+     * Checks if a specific action is active on the current tick of the
+     * recording.
+     *
+     * @param action The name of the action to check.
+     * @return True if the action was active on this tick, false otherwise.
+     */
+    @Override
+    public boolean isActionActive(String action) {
+        Integer bit = this.actionBits.get(action);
+        return bit != null && (this.mask & (1L << bit)) != 0;
+    }
+
+    /**
+     * Gets the seed of the recorded game.
+     *
+     * @return The seed stored in the recording.
+     */
+    public long seed() {
+        return this.seed;
+    }
+
+    /**
+     * Gets the number of recorded ticks.
+     *
+     * @return The length of the recording in ticks.
+     */
+    public long totalTicks() {
+        return this.totalTicks;
+    }
+
+    /**
+     * Checks if every recorded tick was played.
+     *
+     * @return True if the replay is over.
+     */
+    public boolean isFinished() {
+        return this.tick >= this.totalTicks;
+    }
+
+    /**
+     * Does nothing: a replay takes no input from a window.
+     *
+     * @param frame The JFrame (ignored).
+     */
+    @Override
+    public void registerInputHandlers(JFrame frame) {
+        // The input comes from the recording
+    }
+
+    /**
+     * Does nothing: a replay has no key associations.
+     *
+     * @param keyCode The key code (ignored).
+     */
+    @Override
+    public void removeKeyAssociation(int keyCode) {
+        // The input comes from the recording
+    }
+
+    /**
+     * Does nothing: a replay has no mouse associations.
+     *
+     * @param mouseButton The mouse button (ignored).
+     */
+    @Override
+    public void removeMouseAssociation(int mouseButton) {
+        // The input comes from the recording
+    }
+
+    /**
+     * Returns a string representation of the replay progress.
+     *
+     * @return A string with the played and recorded ticks and runs.
+     */
+    @Override
+    public String toString() {
+        return "ReplayInputEvent{tick=" + tick + ", totalTicks=" + totalTicks + ", runs=" + masks.length + '}';
+    }
+}
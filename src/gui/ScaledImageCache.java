@@ -0,0 +1,223 @@
+package gui;
+
+import java.awt.AlphaComposite;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.util.HashMap;
+
+/**
+ * The `ScaledImageCache` class keeps loaded images converted once into the
+ * format of the screen and scaled to the exact size they are drawn at, so the
+ * GUI draws them with a plain image copy instead of converting the color model
+ * (loaded GIFs are usually indexed) and scaling on every frame.
+ *
+ * <p>
+ * Entries are keyed by the source image and the target size; the frames of a
+ * loaded file are kept by the shapes that use them, so the source image stands
+ * for the file and the frame. Long animations, such as the background, are
+ * read in a cycle, so once the cached pixels reach the memory cap new images
+ * are no longer admitted (instead of evicting entries that are about to be used
+ * again): `get()` returns null and the caller draws the source image scaled, as
+ * before.
+ * </p>
+ *
+ * @preConditions:
+ *                 - The memory cap must be greater than 0.
+ *                 - The cache is not thread-safe; it is used by the thread
+ *                 that renders.
+ *
+ * @postConditions:
+ *                  - A cached image has the requested size, the pixels of the
+ *                  source scaled to it and the transparency of the source.
+ *                  - The cached bytes never exceed the cap.
+ *
+ * @see FrameRenderer
+ * @see SpriteCache
+ *
+ * @author Brandon Mejia
+ * @version 2025-05-20
+ */
+public class ScaledImageCache {
+    public static final long DEFAULT_MEMORY_CAP = 96L * 1024 * 1024;
+
+    /**
+     * Identifies a cached image.
+     *
+     * @param source The source image, compared by identity.
+     * @param width  The target width.
+     * @param height The target height.
+     */
+    private record Key(BufferedImage source, int width, int height) {
+    }
+
+    private final HashMap<Key, BufferedImage> images = new HashMap<>();
+    private long memoryCap; // Maximum bytes of cached pixels
+    private long bytes = 0; // Bytes of cached pixels
+
+    // Statistics
+    private long hits = 0;
+    private long misses = 0;
+    private long rejected = 0; // Misses not admitted because the cache is full
+
+    /**
+     * Validates the invariant for the `ScaledImageCache` class.
+     * Ensures that the memory cap is positive.
+     *
+     * @param memoryCap The memory cap in bytes. Must be greater than 0.
+     * @throws IllegalArgumentException if the memory cap is not positive.
+     */
+    private void invariante(long memoryCap) {
+        if (memoryCap > 0)
+            return;
+
+        throw new IllegalArgumentException("ScaledImageCache:iv");
+    }
+
+    /**
+     * Creates a cache with the default memory cap.
+     */
+    public ScaledImageCache() {
+        this(DEFAULT_MEMORY_CAP);
+    }
+
+    /**
+     * Creates a cache.
+     *
+     * @param memoryCap The maximum bytes of cached pixels.
+     */
+    public ScaledImageCache(long memoryCap) {
+        invariante(memoryCap);
+        this.memoryCap = memoryCap;
+    }
+
+    /**
+     * Sets the maximum bytes of cached pixels. Images already cached are kept
+     * until `clear()`.
+     *
+     * @param memoryCap The memory cap in bytes.
+     */
+    public void setMemoryCap(long memoryCap) {
+        invariante(memoryCap);
+        this.memoryCap = memoryCap;
+    }
+
+    /**
+     * Gets the maximum bytes of cached pixels.
+     *
+     * @return The memory cap in bytes.
+     */
+    public long getMemoryCap() {
+        return this.memoryCap;
+    }
+
+    /**
+     * Gets an image converted to the screen format and scaled to the given size,
+     * converting it on first use.
+     *
+     * @param source The source image.
+     * @param width  The target width. Must be greater than 0.
+     * @param height The target height. Must be greater than 0.
+     * @return The cached image, or null if it does not fit in the cache.
+     */
+    public BufferedImage get(BufferedImage source, int width, int height) {
+        Key key = new Key(source, width, height);
+        BufferedImage image = this.images.get(key);
+        if (image != null) {
+            this.hits++;
+            return image;
+        }
+
+        this.misses++;
+        long size = 4L * width * height;
+        if (this.bytes + size > this.memoryCap) {
+            this.rejected++;
+            return null;
+        }
+
+        image = scale(source, width, height);
+        this.images.put(key, image);
+        this.bytes += size;
+        return image;
+    }
+
+    /**
+     * Draws an image at the given position and size, using the cached copy when
+     * there is one.
+     *
+     * @param g2d    The graphics context to draw on.
+     * @param source The source image.
+     * @param x      The x-coordinate of the top-left corner.
+     * @param y      The y-coordinate of the top-left corner.
+     * @param width  The width to draw at.
+     * @param height The height to draw at.
+     */
+    public void draw(Graphics2D g2d, BufferedImage source, int x, int y, int width, int height) {
+        if (width <= 0 || height <= 0)
+            return;
+
+        BufferedImage image = this.get(source, width, height);
+        if (image != null)
+            g2d.drawImage(image, x, y, null);
+        else
+            g2d.drawImage(source, x, y, width, height, null);
+    }
+
+    /**
+     * Converts an image to the screen format at the given size.
+     *
+     * @param source The source image.
+     * @param width  The target width.
+     * @param height The target height.
+     * @return The new image.
+     */
+    private static BufferedImage scale(BufferedImage source, int width, int height) {
+        BufferedImage image = SpriteCache.createCompatibleImage(width, height, source.getTransparency());
+        Graphics2D g2d = image.createGraphics();
+        try {
+            g2d.setComposite(AlphaComposite.Src);
+            g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g2d.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            g2d.dispose();
+        }
+        return image;
+    }
+
+    /**
+     * Removes every image.
+     */
+    public void clear() {
+        this.images.clear();
+        this.bytes = 0;
+    }
+
+    /**
+     * Gets the number of cached images.
+     *
+     * @return The number of images.
+     */
+    public int size() {
+        return this.images.size();
+    }
+
+    /**
+     * Gets the bytes of cached pixels.
+     *
+     * @return The cached bytes.
+     */
+    public long bytes() {
+        return this.bytes;
+    }
+
+    /**
+     * Returns a string representation of the cache statistics.
+     *
+     * @return A string with the hits, misses, rejected misses, images and bytes.
+     */
+    @Override
+    public String toString() {
+        return "ScaledImageCache{hits=" + hits + ", misses=" + misses + ", rejected=" + rejected +
+                ", images=" + images.size() + ", bytes=" + bytes + '}';
+    }
+}
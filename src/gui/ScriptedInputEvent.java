@@ -0,0 +1,229 @@
+package gui;
+
+import javax.swing.JFrame;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An input driven by a script instead of a keyboard, for games run without a
+ * window (soak tests, throughput measurements, bots).
+ *
+ * <p>
+ * The script is written before the game starts, in simulation ticks: an action
+ * can be pressed and released on given ticks, held between two ticks, or pulsed
+ * periodically (held for some ticks out of every period). At the start of every
+ * tick (`onTick()`) the input moves to the next tick of the script, counted from
+ * 1 for the first tick of the game, so the same script with the same seed
+ * always plays the same game.
+ * </p>
+ *
+ * <p>
+ * Example usage:
+ * </p>
+ *
+ * <pre>
+ * ScriptedInputEvent script = new ScriptedInputEvent()
+ *         .hold("PLAYER1", 10, 12)
+ *         .pulse("ATTACK", 60, 20, 2)
+ *         .pulse("LEFT", 60, 240, 120)
+ *         .pulse("RIGHT", 180, 240, 120);
+ * IGuiBridge gui = new HeadlessGui(script);
+ * </pre>
+ *
+ * @preConditions:
+ *                 - Actions must not be null, ticks must be greater than 0 and
+ *                 periods and durations must be greater than 0.
+ *                 - `onTick()` is called by the game thread once per tick.
+ *
+ * @postConditions:
+ *                  - An action is active on a tick if it was pressed and not
+ *                  released before it, or if one of its pulses covers it.
+ *
+ * @see HeadlessGui
+ * @see IInputEvent
+ *
+ * @author Brandon Mejia
+ * @version 2025-05-20
+ */
+public class ScriptedInputEvent implements IInputEvent {
+
+    /**
+     * An action held for `duration` ticks out of every `period`, from tick
+     * `start` on.
+     */
+    private record Pulse(String action, long start, long period, long duration) {
+        boolean covers(long tick) {
+            return tick >= this.start && (tick - this.start) % this.period < this.duration;
+        }
+    }
+
+    private final Map<Long, Map<String, Boolean>> changes = new HashMap<>(); // Presses and releases by tick
+    private final List<Pulse> pulses = new ArrayList<>();
+    private final Set<String> held = new HashSet<>(); // Actions pressed and not released
+    private long tick = 0; // Current tick; the first call to onTick() moves to tick 1
+
+    /**
+     * Validates the invariant for the script entries.
+     * Ensures that the action is present and the tick is greater than 0.
+     *
+     * @param action The name of the action.
+     * @param tick   The tick of the entry.
+     * @throws IllegalArgumentException if a value is invalid.
+     */
+    private void invariante(String action, long tick) {
+        if (action != null && tick > 0)
+            return;
+
+        throw new IllegalArgumentException("ScriptedInputEvent:iv");
+    }
+
+    /**
+     * Presses an action on a tick. It stays active until it is released.
+     *
+     * @param action The name of the action.
+     * @param tick   The tick the action becomes active on.
+     * @return This script, to chain the entries.
+     */
+    public ScriptedInputEvent press(String action, long tick) {
+        invariante(action, tick);
+        this.changes.computeIfAbsent(tick, t -> new HashMap<>()).put(action, Boolean.TRUE);
+        return this;
+    }
+
+    /**
+     * Releases an action on a tick. A press of the same action on the same tick
+     * wins, so holds can follow each other.
+     *
+     * @param action The name of the action.
+     * @param tick   The first tick the action is no longer active on.
+     * @return This script, to chain the entries.
+     */
+    public ScriptedInputEvent release(String action, long tick) {
+        invariante(action, tick);
+        this.changes.computeIfAbsent(tick, t -> new HashMap<>()).putIfAbsent(action, Boolean.FALSE);
+        return this;
+    }
+
+    /**
+     * Holds an action from one tick until another.
+     *
+     * @param action The name of the action.
+     * @param from   The first tick the action is active on.
+     * @param to     The first tick the action is no longer active on. Must be
+     *               greater than `from`.
+     * @return This script, to chain the entries.
+     */
+    public ScriptedInputEvent hold(String action, long from, long to) {
+        if (to <= from)
+            throw new IllegalArgumentException("ScriptedInputEvent:iv");
+        return this.press(action, from).release(action, to);
+    }
+
+    /**
+     * Holds an action for some ticks out of every period, for the rest of the
+     * game.
+     *
+     * @param action   The name of the action.
+     * @param start    The first tick of the first pulse.
+     * @param period   The ticks between the starts of two pulses. Must be
+     *                 greater than 0.
+     * @param duration The ticks each pulse lasts. Must be between 1 and the
+     *                 period.
+     * @return This script, to chain the entries.
+     */
+    public ScriptedInputEvent pulse(String action, long start, long period, long duration) {
+        invariante(action, start);
+        if (period <= 0 || duration <= 0 || duration > period)
+            throw new IllegalArgumentException("ScriptedInputEvent:iv");
+        this.pulses.add(new Pulse(action, start, period, duration));
+        return this;
+    }
+
+    /**
+     * Moves to the next tick of the script and applies its presses and releases.
+     */
+    @Override
+    public void onTick() {
+        this.tick++;
+        Map<String, Boolean> tickChanges = this.changes.remove(this.tick);
+        if (tickChanges == null)
+            return;
+
+        for (Map.Entry<String, Boolean> change : tickChanges.entrySet()) {
+            if (change.getValue())
+                this.held.add(change.getKey());
+            else
+                this.held.remove(change.getKey());
+        }
+    }
+
+    /**
+     * Checks if a specific action is active on the current tick of the script.
+     *
+     * @param action The name of the action to check.
+     * @return True if the action is held or pulsed on this tick, false otherwise.
+     */
+    @Override
+    public boolean isActionActive(String action) {
+        if (this.held.contains(action))
+            return true;
+
+        for (Pulse pulse : this.pulses)
+            if (pulse.action().equals(action) && pulse.covers(this.tick))
+                return true;
+        return false;
+    }
+
+    /**
+     * Gets the current tick of the script.
+     *
+     * @return The number of calls to `onTick()`.
+     */
+    public long tick() {
+        return this.tick;
+    }
+
+    /**
+     * Does nothing: a script takes no input from a window.
+     *
+     * @param frame The JFrame (ignored).
+     */
+    @Override
+    public void registerInputHandlers(JFrame frame) {
+        // The input comes from the script
+    }
+
+    /**
+     * Does nothing: a script has no key associations.
+     *
+     * @param keyCode The key code (ignored).
+     */
+    @Override
+    public void removeKeyAssociation(int keyCode) {
+        // The input comes from the script
+    }
+
+    /**
+     * Does nothing: a script has no mouse associations.
+     *
+     * @param mouseButton The mouse button (ignored).
+     */
+    @Override
+    public void removeMouseAssociation(int mouseButton) {
+        // The input comes from the script
+    }
+
+    /**
+     * Returns a string representation of the script progress.
+     *
+     * @return A string with the current tick, the held actions and the pulses.
+     */
+    @Override
+    public String toString() {
+        return "ScriptedInputEvent{tick=" + tick + ", held=" + held + ", pulses=" + pulses.size() + '}';
+    }
+}
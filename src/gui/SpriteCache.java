@@ -0,0 +1,305 @@
+package gui;
+
+import java.awt.AlphaComposite;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.GraphicsEnvironment;
+import java.awt.RenderingHints;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The `SpriteCache` class keeps animation frames pre-rendered at their
+ * on-screen size and at a fixed number of quantized angles, so game objects are
+ * drawn with a plain image copy instead of a rotated and scaled `drawImage`.
+ *
+ * <p>
+ * Each entry is keyed by the source frame, the target size and the angle
+ * bucket, and stored as an image compatible with the screen. The least recently
+ * used entries are dropped when the cached pixels exceed the memory cap.
+ * </p>
+ *
+ * @preConditions:
+ *                 - The angle resolution and the memory cap must be greater
+ *                 than 0.
+ *                 - The cache is not thread-safe; it is used by the thread
+ *                 that renders.
+ *
+ * @postConditions:
+ *                  - A sprite is the source frame scaled to the requested size
+ *                  and rotated counterclockwise by the angle of its bucket,
+ *                  centered in the smallest image that holds it.
+ *                  - The cached bytes never exceed the cap, except for a single
+ *                  sprite larger than the cap.
+ *
+ * @see FrameRenderer
+ *
+ * @author Brandon Mejia
+ * @version 2025-05-20
+ */
+public class SpriteCache {
+    public static final int DEFAULT_ANGLE_RESOLUTION = 64;
+    public static final long DEFAULT_MEMORY_CAP = 32L * 1024 * 1024;
+
+    /**
+     * Identifies a cached sprite.
+     *
+     * @param source The source frame, compared by identity.
+     * @param width  The on-screen width.
+     * @param height The on-screen height.
+     * @param bucket The angle bucket.
+     */
+    private record Key(BufferedImage source, int width, int height, int bucket) {
+    }
+
+    private final LinkedHashMap<Key, BufferedImage> sprites = new LinkedHashMap<>(256, 0.75f, true);
+    private int angleResolution; // Number of angle buckets in a full turn
+    private long memoryCap; // Maximum bytes of cached pixels
+    private long bytes = 0; // Bytes of cached pixels
+
+    // Statistics
+    private long hits = 0;
+    private long misses = 0;
+    private long evictions = 0;
+
+    /**
+     * Validates the invariant for the `SpriteCache` class.
+     * Ensures that the angle resolution and the memory cap are positive.
+     *
+     * @param angleResolution The number of angle buckets. Must be greater than 0.
+     * @param memoryCap       The memory cap in bytes. Must be greater than 0.
+     * @throws IllegalArgumentException if a value is not positive.
+     */
+    private void invariante(int angleResolution, long memoryCap) {
+        if (angleResolution > 0 && memoryCap > 0)
+            return;
+
+        throw new IllegalArgumentException("SpriteCache:iv");
+    }
+
+    /**
+     * Creates a cache with the default angle resolution and memory cap.
+     */
+    public SpriteCache() {
+        this(DEFAULT_ANGLE_RESOLUTION, DEFAULT_MEMORY_CAP);
+    }
+
+    /**
+     * Creates a cache.
+     *
+     * @param angleResolution The number of angles a full turn is divided into.
+     * @param memoryCap       The maximum bytes of cached pixels.
+     */
+    public SpriteCache(int angleResolution, long memoryCap) {
+        invariante(angleResolution, memoryCap);
+        this.angleResolution = angleResolution;
+        this.memoryCap = memoryCap;
+    }
+
+    /**
+     * Sets the number of angles a full turn is divided into. Changing it clears
+     * the cache.
+     *
+     * @param angleResolution The number of angle buckets.
+     */
+    public void setAngleResolution(int angleResolution) {
+        invariante(angleResolution, this.memoryCap);
+        if (angleResolution == this.angleResolution)
+            return;
+
+        this.angleResolution = angleResolution;
+        this.clear();
+    }
+
+    /**
+     * Gets the number of angles a full turn is divided into.
+     *
+     * @return The number of angle buckets.
+     */
+    public int getAngleResolution() {
+        return this.angleResolution;
+    }
+
+    /**
+     * Sets the maximum bytes of cached pixels, dropping entries if needed.
+     *
+     * @param memoryCap The memory cap in bytes.
+     */
+    public void setMemoryCap(long memoryCap) {
+        invariante(this.angleResolution, memoryCap);
+        this.memoryCap = memoryCap;
+        this.evict();
+    }
+
+    /**
+     * Gets the maximum bytes of cached pixels.
+     *
+     * @return The memory cap in bytes.
+     */
+    public long getMemoryCap() {
+        return this.memoryCap;
+    }
+
+    /**
+     * Converts an angle into its bucket.
+     *
+     * @param angle The angle in degrees.
+     * @return The nearest bucket, from 0 to `getAngleResolution() - 1`.
+     */
+    public int bucket(double angle) {
+        int bucket = (int) Math.round(angle * this.angleResolution / 360.0) % this.angleResolution;
+        return bucket < 0 ? bucket + this.angleResolution : bucket;
+    }
+
+    /**
+     * Gets a frame scaled to the given size and rotated by the angle of a bucket,
+     * rendering it on first use.
+     *
+     * @param source The source frame.
+     * @param width  The on-screen width. Must be greater than 0.
+     * @param height The on-screen height. Must be greater than 0.
+     * @param bucket The angle bucket (see `bucket()`).
+     * @return The pre-rendered sprite; its center is the center of the frame.
+     */
+    public BufferedImage get(BufferedImage source, int width, int height, int bucket) {
+        Key key = new Key(source, width, height, bucket);
+        BufferedImage sprite = this.sprites.get(key);
+        if (sprite != null) {
+            this.hits++;
+            return sprite;
+        }
+
+        this.misses++;
+        sprite = this.render(source, width, height, bucket * 360.0 / this.angleResolution);
+        this.sprites.put(key, sprite);
+        this.bytes += sizeOf(sprite);
+        this.evict();
+        return sprite;
+    }
+
+    /**
+     * Renders a frame scaled and rotated.
+     *
+     * @param source The source frame.
+     * @param width  The on-screen width.
+     * @param height The on-screen height.
+     * @param angle  The counterclockwise angle in degrees.
+     * @return The new sprite.
+     */
+    private BufferedImage render(BufferedImage source, int width, int height, double angle) {
+        double radians = Math.toRadians(-angle);
+        double cos = Math.abs(Math.cos(radians));
+        double sin = Math.abs(Math.sin(radians));
+        int spriteWidth = Math.max(1, (int) Math.ceil(width * cos + height * sin));
+        int spriteHeight = Math.max(1, (int) Math.ceil(width * sin + height * cos));
+
+        BufferedImage sprite = createCompatibleImage(spriteWidth, spriteHeight);
+        Graphics2D g2d = sprite.createGraphics();
+        try {
+            g2d.setComposite(AlphaComposite.Src);
+            g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g2d.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g2d.translate(spriteWidth / 2.0, spriteHeight / 2.0);
+            g2d.rotate(radians);
+            g2d.drawImage(source, -width / 2, -height / 2, width, height, null);
+        } finally {
+            g2d.dispose();
+        }
+        return sprite;
+    }
+
+    /**
+     * Drops the least recently used sprites until the cached bytes fit the cap.
+     * The most recent sprite is always kept.
+     */
+    private void evict() {
+        Iterator<Map.Entry<Key, BufferedImage>> it = this.sprites.entrySet().iterator();
+        while (this.bytes > this.memoryCap && this.sprites.size() > 1 && it.hasNext()) {
+            this.bytes -= sizeOf(it.next().getValue());
+            it.remove();
+            this.evictions++;
+        }
+    }
+
+    /**
+     * Removes every sprite.
+     */
+    public void clear() {
+        this.sprites.clear();
+        this.bytes = 0;
+    }
+
+    /**
+     * Gets the number of cached sprites.
+     *
+     * @return The number of sprites.
+     */
+    public int size() {
+        return this.sprites.size();
+    }
+
+    /**
+     * Gets the bytes of cached pixels.
+     *
+     * @return The cached bytes.
+     */
+    public long bytes() {
+        return this.bytes;
+    }
+
+    /**
+     * Returns a string representation of the cache statistics.
+     *
+     * @return A string with the hits, misses, evictions, sprites and bytes.
+     */
+    @Override
+    public String toString() {
+        return "SpriteCache{hits=" + hits + ", misses=" + misses + ", evictions=" + evictions +
+                ", sprites=" + sprites.size() + ", bytes=" + bytes + '}';
+    }
+
+    /**
+     * Creates a translucent image in the format of the screen, so copying it to
+     * the screen needs no conversion.
+     *
+     * @param width  The image width.
+     * @param height The image height.
+     * @return The new image.
+     */
+    static BufferedImage createCompatibleImage(int width, int height) {
+        return createCompatibleImage(width, height, Transparency.TRANSLUCENT);
+    }
+
+    /**
+     * Creates an image in the format of the screen, so copying it to the screen
+     * needs no conversion.
+     *
+     * @param width        The image width.
+     * @param height       The image height.
+     * @param transparency The `Transparency` constant of the image.
+     * @return The new image.
+     */
+    static BufferedImage createCompatibleImage(int width, int height, int transparency) {
+        if (!GraphicsEnvironment.isHeadless()) {
+            GraphicsConfiguration config = GraphicsEnvironment.getLocalGraphicsEnvironment()
+                    .getDefaultScreenDevice().getDefaultConfiguration();
+            return config.createCompatibleImage(width, height, transparency);
+        }
+        return new BufferedImage(width, height, transparency == Transparency.OPAQUE
+                ? BufferedImage.TYPE_INT_RGB
+                : BufferedImage.TYPE_INT_ARGB_PRE);
+    }
+
+    /**
+     * Estimates the memory used by an image, at 4 bytes per pixel.
+     *
+     * @param image The image.
+     * @return The size in bytes.
+     */
+    private static long sizeOf(BufferedImage image) {
+        return 4L * image.getWidth() * image.getHeight();
+    }
+}
@@ -1,10 +1,9 @@
 package gui;
 
-import core.objectsInterface.IGameObject;
 import core.Shape;
-import java.util.concurrent.CopyOnWriteArrayList;
+import core.objectsInterface.IShape;
 import javax.swing.JFrame;
-import javax.swing.SwingUtilities;
+import java.awt.event.MouseListener;
 import java.awt.event.KeyEvent;
 import java.awt.event.MouseEvent;
 import java.util.HashMap;
@@ -16,19 +15,25 @@ import java.util.Map;
  * Manages a game window with a custom panel for drawing and input handling.
  *
  * <p>
+ * By default frames are presented by an `ActiveRenderCanvas` from its own
+ * render thread. If active rendering is disabled or its buffer strategy cannot
+ * be created, a `GamePanel` repainted by Swing is used instead.
+ * </p>
+ *
+ * <p>
  * Example usage:
  * </p>
  * 
  * <pre>
  * SwingGui gui = new SwingGui(800, 600);
- * gui.draw(gameObjects);
+ * gui.draw(frame);
  * IInputEvent input = gui.getInputState();
  * </pre>
  *
  * @preConditions:
  *                 - Width and height parameters must be positive integers.
- *                 - The list of game objects passed to the draw method must not
- *                 be null.
+ *                 - The frame passed to the draw method must come from
+ *                 nextFrame.
  *                 - Input handlers must be registered with a valid JFrame.
  *
  * @postConditions:
@@ -46,8 +51,11 @@ import java.util.Map;
 public class SwingGui implements IGuiBridge
 {
     private JFrame frame; // The main game window
-    private GamePanel panel; // Custom panel for rendering game objects
+    private GamePanel panel; // Passive panel for rendering game objects, or null
+    private ActiveRenderCanvas canvas; // Active rendering surface, or null
+    private FrameRenderer renderer; // Draws the frames on the panel or the canvas
     private IInputEvent inputState; // Input event handler
+    private final RenderFrameExchange frames = new RenderFrameExchange(); // Frames shared with the renderer
 
 
     /**
@@ -77,17 +85,7 @@ public class SwingGui implements IGuiBridge
      */
     public SwingGui(int width, int height)
     {
-        invariante(width, height);
-
-        this.frame = new JFrame("Galaga - RAMRaiders");
-        panel = new GamePanel(width, height);
-        this.frame.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
-        this.frame.add(panel);
-        this.frame.pack();
-        this.frame.setLocationRelativeTo(null);
-        this.frame.setVisible(true);
-        this.frame.setResizable(false);
-        this.inputState.registerInputHandlers(this.frame);
+        this(width, height, null, false);
     }
 
     /**
@@ -98,24 +96,72 @@ public class SwingGui implements IGuiBridge
      * @param backgroundShape The shape to use as the background.
      */
     public SwingGui(int width, int height, Shape backgroundShape)
+    {
+        this(width, height, backgroundShape, true);
+    }
+
+    /**
+     * Constructs a SwingGui with the specified dimensions and a background shape,
+     * choosing how frames are presented.
+     *
+     * @param width           The width of the game window in pixels.
+     * @param height          The height of the game window in pixels.
+     * @param backgroundShape The shape to use as the background.
+     * @param activeRendering True to present frames from a dedicated render
+     *                        thread, false to let Swing repaint a panel.
+     */
+    public SwingGui(int width, int height, Shape backgroundShape, boolean activeRendering)
     {
         invariante(width, height);
 
         this.frame = new JFrame("Galaga - RAMRaiders");
-        panel = new GamePanel(width, height, backgroundShape);
+        this.renderer = new FrameRenderer(backgroundShape);
         this.frame.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
-        this.frame.add(panel);
-        this.frame.pack();
+        this.frame.setResizable(false);
+
+        if (activeRendering)
+            this.canvas = createCanvas(width, height);
+
+        if (this.canvas == null) {
+            panel = new GamePanel(width, height, this.renderer);
+            panel.setFrameSource(this.frames);
+            this.frame.add(panel);
+            this.frame.pack();
+        }
         this.frame.setLocationRelativeTo(null);
         this.frame.setVisible(true);
-        this.frame.setResizable(false);
 
         this.inputState = generateInputEvent();
 
         this.inputState.registerInputHandlers(this.frame);
+        if (this.canvas != null && this.inputState instanceof MouseListener mouseListener)
+            this.canvas.addMouseListener(mouseListener); // The canvas receives the clicks on the game area
         this.frame.setFocusable(true);
     }
 
+    /**
+     * Adds an active rendering canvas to the window and starts its render thread.
+     *
+     * @param width  The width of the canvas in pixels.
+     * @param height The height of the canvas in pixels.
+     * @return The started canvas, or null if its buffer strategy could not be
+     *         created.
+     */
+    private ActiveRenderCanvas createCanvas(int width, int height)
+    {
+        ActiveRenderCanvas activeCanvas = new ActiveRenderCanvas(width, height, this.renderer, this.frames);
+        this.frame.add(activeCanvas);
+        this.frame.pack(); // Makes the canvas displayable
+        try {
+            activeCanvas.start();
+            return activeCanvas;
+        } catch (RuntimeException e) {
+            System.err.println("Active rendering unavailable, using GamePanel: " + e.getMessage());
+            this.frame.remove(activeCanvas);
+            return null;
+        }
+    }
+
     /**
          * Generates a custom input event handler with predefined key and mouse bindings.
          *
@@ -152,14 +198,57 @@ public class SwingGui implements IGuiBridge
         }
 
     /**
-     * Renders the provided list of game objects on the panel.
+     * Gets the frame the game engine fills next.
+     *
+     * @return The write frame of the exchange shared with the panel.
+     */
+    @Override
+    public RenderFrame nextFrame()
+    {
+        return this.frames.writeFrame();
+    }
+
+    /**
+     * Publishes a filled frame and asks the canvas to present it, or the panel to
+     * repaint.
+     *
+     * @param frame The frame returned by `nextFrame`.
+     */
+    @Override
+    public void draw(RenderFrame frame)
+    {
+        this.frames.publish();
+        this.renderer.clearLoading();
+        if (this.canvas != null)
+            this.canvas.requestRender();
+        else
+            this.panel.repaint();
+    }
+
+    /**
+     * Shows the loading screen and presents it at once.
      *
-     * @param objectsToRender A thread-safe list of game objects to render.
+     * @param progress The fraction loaded, from 0.0 to 1.0.
+     * @param message  The text shown under the bar, or null.
      */
     @Override
-    public void draw(CopyOnWriteArrayList<IGameObject> objectsToRender)
+    public void showLoading(double progress, String message)
+    {
+        this.renderer.setLoading(progress, message);
+        if (this.canvas != null)
+            this.canvas.requestRender();
+        else
+            this.panel.repaint();
+    }
+
+    /**
+     * Sets the background shape, such as once it has been loaded.
+     *
+     * @param backgroundShape The shape to use as the background.
+     */
+    public void setBackground(IShape backgroundShape)
     {
-        SwingUtilities.invokeLater(() -> panel.updateGameObjects(objectsToRender));
+        this.renderer.setShape(backgroundShape);
     }
 
     /**
@@ -180,7 +269,7 @@ public class SwingGui implements IGuiBridge
      */
     public void setHitbox(boolean hitbox)
     {
-        this.panel.setHitbox(hitbox);
+        this.renderer.setHitbox(hitbox);
     }
 
     /**
@@ -190,7 +279,7 @@ public class SwingGui implements IGuiBridge
      */
     public void setMenu(boolean Menu)
     {
-        this.panel.setMenu(Menu);
+        this.renderer.setMenu(Menu);
     }
 
     /**
@@ -200,7 +289,7 @@ public class SwingGui implements IGuiBridge
      */
     public boolean isMenu()
     {
-        return this.panel.isMenu();
+        return this.renderer.isMenu();
     }
 
 }
\ No newline at end of file
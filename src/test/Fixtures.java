@@ -0,0 +1,31 @@
+package test;
+
+import core.Behavior;
+import core.GameObject;
+import core.Shape;
+import core.Transform;
+import geometry.Ponto;
+import geometry.Retangulo;
+
+/**
+ * Game objects shared by the tests of the engine's containers (layer store,
+ * spatial grid, command buffer), which only need distinct named objects.
+ */
+final class Fixtures {
+
+    private Fixtures() {
+    }
+
+    /**
+     * Creates a unit square at the origin with a plain behavior and no frames.
+     *
+     * @param name  The name of the object.
+     * @param layer The layer of its transform.
+     * @return The game object.
+     */
+    static GameObject unitSquare(String name, int layer) {
+        Ponto[] points = { new Ponto(1.0, 1.0), new Ponto(1.0, 0.0), new Ponto(0.0, 0.0), new Ponto(0.0, 1.0) };
+        Transform transform = new Transform(new Ponto(0, 0), layer, 0, 1);
+        return new GameObject(name, transform, new Retangulo(points, transform), new Behavior(), new Shape());
+    }
+}
@@ -0,0 +1,111 @@
+package test;
+
+import core.AudioCommandQueue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestAudioCommandQueue {
+    private AudioCommandQueue queue;
+    private List<String> executed;
+    private AudioCommandQueue.Executor executor;
+
+    @BeforeEach
+    void setUp() {
+        // The worker is not started: the commands run on the test thread with drain()
+        queue = new AudioCommandQueue();
+        executed = Collections.synchronizedList(new ArrayList<>());
+        executor = (op, soundName, value) -> executed.add(op + " " + soundName + " " + value);
+    }
+
+    @Test
+    void drain_runsCommandsInPostingOrder() {
+        queue.post(executor, AudioCommandQueue.Op.ADD, "A", 0.0f);
+        queue.post(executor, AudioCommandQueue.Op.PLAY, "A", 0.0f);
+        queue.post(executor, AudioCommandQueue.Op.SET_VOLUME, "A", 0.5f);
+        queue.post(executor, AudioCommandQueue.Op.STOP_ALL, null, 0.0f);
+
+        assertTrue(executed.isEmpty(), "Nothing runs before the drain");
+        assertEquals(4, queue.drain());
+        assertEquals(List.of("ADD A 0.0", "PLAY A 0.0", "SET_VOLUME A 0.5", "STOP_ALL null 0.0"), executed);
+        assertEquals(0, queue.drain());
+    }
+
+    @Test
+    void failingCommand_doesNotStopTheDrain() {
+        AudioCommandQueue.Executor failing = (op, soundName, value) -> {
+            throw new IllegalStateException("boom");
+        };
+        queue.post(executor, AudioCommandQueue.Op.PLAY, "A", 0.0f);
+        queue.post(failing, AudioCommandQueue.Op.PLAY, "B", 0.0f);
+        queue.post(executor, AudioCommandQueue.Op.PLAY, "C", 0.0f);
+
+        assertEquals(3, queue.drain());
+        assertEquals(List.of("PLAY A 0.0", "PLAY C 0.0"), executed);
+        assertEquals(3, queue.executed(), "The failed command counts as run");
+    }
+
+    @Test
+    void statistics_afterADrain() {
+        assertEquals(0, queue.depth());
+        assertEquals(0, queue.averageLatencyNanos());
+
+        for (int i = 0; i < 5; i++)
+            queue.post(executor, AudioCommandQueue.Op.PLAY, "S" + i, 0.0f);
+        assertEquals(5, queue.depth());
+        assertEquals(5, queue.maxDepth());
+
+        queue.drain();
+        assertEquals(0, queue.depth());
+        assertEquals(5, queue.maxDepth(), "The maximum depth is kept");
+        assertEquals(5, queue.executed());
+        assertTrue(queue.maxLatencyNanos() >= queue.averageLatencyNanos());
+
+        queue.post(executor, AudioCommandQueue.Op.STOP, "S0", 0.0f);
+        queue.drain();
+        assertEquals(5, queue.maxDepth());
+        assertEquals(6, queue.executed());
+    }
+
+    @Test
+    void worker_runsCommandsPostedFromSeveralThreads() throws InterruptedException {
+        queue.start();
+        try {
+            Thread[] producers = new Thread[4];
+            for (int p = 0; p < producers.length; p++) {
+                String name = "P" + p;
+                producers[p] = new Thread(() -> {
+                    for (int i = 0; i < 1000; i++)
+                        queue.post(executor, AudioCommandQueue.Op.PLAY, name, i);
+                });
+                producers[p].start();
+            }
+            for (Thread producer : producers)
+                producer.join();
+
+            long deadline = System.currentTimeMillis() + 5000;
+            while (queue.executed() < 4000 && System.currentTimeMillis() < deadline)
+                Thread.sleep(1);
+        } finally {
+            queue.stop();
+        }
+
+        assertEquals(4000, executed.size());
+        // Each producer's commands run in the order it posted them
+        for (int p = 0; p < 4; p++) {
+            float expected = 0;
+            for (String command : executed) {
+                if (command.startsWith("PLAY P" + p + " ")) {
+                    assertEquals(expected, Float.parseFloat(command.substring(command.lastIndexOf(' ') + 1)));
+                    expected++;
+                }
+            }
+            assertEquals(1000.0f, expected);
+        }
+    }
+}
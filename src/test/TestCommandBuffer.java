@@ -0,0 +1,111 @@
+package test;
+
+import core.*;
+import core.objectsInterface.IGameObject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestCommandBuffer {
+    private CommandBuffer commands;
+    private List<String> executed;
+
+    @BeforeEach
+    void setUp() {
+        commands = new CommandBuffer();
+        executed = new ArrayList<>();
+    }
+
+    private void log(CommandBuffer.Op op, IGameObject target) {
+        executed.add(op + " " + (target == null ? "-" : target.name()));
+    }
+
+    @Test
+    void apply_runsCommandsInRecordingOrder() {
+        GameObject a = Fixtures.unitSquare("A", 1);
+        GameObject b = Fixtures.unitSquare("B", 1);
+        commands.record(CommandBuffer.Op.ADD, a);
+        commands.record(CommandBuffer.Op.ADD, b);
+        commands.record(CommandBuffer.Op.DESTROY, a);
+        commands.record(CommandBuffer.Op.MOVE, b);
+        commands.record(CommandBuffer.Op.DESTROY_ALL, null);
+
+        assertEquals(5, commands.size());
+        assertEquals(5, commands.apply(this::log));
+        assertEquals(List.of("ADD A", "ADD B", "DESTROY A", "MOVE B", "DESTROY_ALL -"), executed);
+        assertEquals(0, commands.size());
+    }
+
+    @Test
+    void apply_withNothingRecorded_runsNothing() {
+        assertEquals(0, commands.apply(this::log));
+        assertTrue(executed.isEmpty());
+    }
+
+    @Test
+    void commandsRecordedDuringApply_runOnTheNextApply() {
+        GameObject a = Fixtures.unitSquare("A", 1);
+        GameObject b = Fixtures.unitSquare("B", 1);
+        commands.record(CommandBuffer.Op.ADD, a);
+
+        commands.apply((op, target) -> {
+            log(op, target);
+            commands.record(CommandBuffer.Op.DESTROY, target);
+            commands.record(CommandBuffer.Op.ADD, b);
+        });
+
+        assertEquals(List.of("ADD A"), executed);
+        assertEquals(2, commands.size());
+
+        commands.apply(this::log);
+
+        assertEquals(List.of("ADD A", "DESTROY A", "ADD B"), executed);
+        assertEquals(0, commands.size());
+    }
+
+    @Test
+    void recording_growsPastTheInitialCapacity() {
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            GameObject go = Fixtures.unitSquare("O" + i, 1);
+            commands.record(CommandBuffer.Op.ADD, go);
+            expected.add("ADD O" + i);
+        }
+
+        assertEquals(1000, commands.apply(this::log));
+        assertEquals(expected, executed);
+    }
+
+    @Test
+    void manyCommandsRecordedDuringApply_areKeptInOrder() {
+        commands.record(CommandBuffer.Op.ADD, Fixtures.unitSquare("FIRST", 1));
+
+        commands.apply((op, target) -> {
+            for (int i = 0; i < 200; i++)
+                commands.record(CommandBuffer.Op.ADD, Fixtures.unitSquare("O" + i, 1));
+        });
+        commands.apply(this::log);
+
+        assertEquals(200, executed.size());
+        for (int i = 0; i < 200; i++)
+            assertEquals("ADD O" + i, executed.get(i));
+    }
+
+    @Test
+    void failingCommand_doesNotBreakTheBuffer() {
+        commands.record(CommandBuffer.Op.ADD, Fixtures.unitSquare("A", 1));
+
+        assertThrows(IllegalStateException.class, () -> commands.apply((op, target) -> {
+            throw new IllegalStateException("boom");
+        }));
+
+        commands.record(CommandBuffer.Op.ADD, Fixtures.unitSquare("B", 1));
+        commands.apply(this::log);
+
+        assertEquals(List.of("ADD B"), executed);
+    }
+}
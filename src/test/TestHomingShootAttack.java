@@ -11,6 +11,7 @@ import org.junit.jupiter.api.Test;
 
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
+import java.util.SplittableRandom;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -33,6 +34,9 @@ public class TestHomingShootAttack
         Shape shape = new Shape();
         Behavior playerBehavior = new PlayerBehavior();
         Behavior enemyBehavior = new EnemyBehavior();
+        // Outside an engine the behaviors need a generator of their own
+        playerBehavior.setRandom(new SplittableRandom(42));
+        enemyBehavior.setRandom(new SplittableRandom(42));
 
         attacker = new GameObject("ENEMY", enemyTransform, polygon0, enemyBehavior, shape);
         target = new GameObject("PLAYER", playerTransform, polygon1, playerBehavior, shape);
@@ -0,0 +1,143 @@
+package test;
+
+import gui.InputRecorder;
+import gui.ReplayInputEvent;
+import gui.ScriptedInputEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestInputReplay {
+    private static final List<String> ACTIONS = List.of("A0", "A1", "A2", "A3", "A4", "A5", "A6", "A7");
+    // Magic, version, seed, action count, then a length and 2 bytes of name per action
+    private static final long HEADER_BYTES = 4 + 1 + 8 + 1 + ACTIONS.size() * (2 + 2);
+
+    private Path file;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        file = Files.createTempFile("replay", ".rrin");
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    /**
+     * Records a script for a number of ticks.
+     */
+    private void record(ScriptedInputEvent script, long seed, long ticks) {
+        try (InputRecorder recorder = new InputRecorder(file, seed, ACTIONS, script)) {
+            for (long i = 0; i < ticks; i++)
+                recorder.onTick();
+        }
+    }
+
+    /**
+     * Replays the file next to a fresh copy of the recorded script and checks
+     * every action on every tick.
+     */
+    private void assertReplays(ScriptedInputEvent script, long ticks) {
+        ReplayInputEvent replay = new ReplayInputEvent(file);
+        assertEquals(ticks, replay.totalTicks());
+
+        for (long tick = 1; tick <= ticks; tick++) {
+            script.onTick();
+            replay.onTick();
+            for (String action : ACTIONS)
+                assertEquals(script.isActionActive(action), replay.isActionActive(action),
+                        action + " on tick " + tick);
+        }
+        assertTrue(replay.isFinished());
+    }
+
+    @Test
+    void roundTrip_replaysEveryTickAndTheSeed() {
+        record(new ScriptedInputEvent().hold("A0", 3, 10).hold("A2", 5, 6).pulse("A1", 1, 7, 3), 1234, 200);
+
+        assertEquals(1234, new ReplayInputEvent(file).seed());
+        assertReplays(new ScriptedInputEvent().hold("A0", 3, 10).hold("A2", 5, 6).pulse("A1", 1, 7, 3), 200);
+    }
+
+    @Test
+    void replay_afterTheLastTick_hasNoActiveAction() {
+        record(new ScriptedInputEvent().press("A0", 1), 0, 5);
+
+        ReplayInputEvent replay = new ReplayInputEvent(file);
+        for (int i = 0; i < 5; i++)
+            replay.onTick();
+        assertTrue(replay.isActionActive("A0"));
+
+        replay.onTick();
+        assertFalse(replay.isActionActive("A0"));
+        assertFalse(replay.isActionActive("UNKNOWN"));
+    }
+
+    @Test
+    void runLengthsAtTheVarLongBoundary_useOneAndTwoBytes() throws IOException {
+        // One run: mask 1 (one byte) and 127 ticks (one byte)
+        record(new ScriptedInputEvent().press("A0", 1), 0, 127);
+        assertEquals(HEADER_BYTES + 2, Files.size(file));
+        assertReplays(new ScriptedInputEvent().press("A0", 1), 127);
+
+        // 128 ticks need a second byte
+        record(new ScriptedInputEvent().press("A0", 1), 0, 128);
+        assertEquals(HEADER_BYTES + 3, Files.size(file));
+        assertReplays(new ScriptedInputEvent().press("A0", 1), 128);
+    }
+
+    @Test
+    void masksAtTheVarLongBoundary_useOneAndTwoBytes() throws IOException {
+        // Mask 127 (A0 to A6) for 2 ticks, then mask 128 (A7 only) for 1 tick
+        ScriptedInputEvent script = new ScriptedInputEvent();
+        for (int i = 0; i < 7; i++)
+            script.hold("A" + i, 1, 3);
+        script.press("A7", 3);
+        record(script, 0, 3);
+
+        assertEquals(HEADER_BYTES + (1 + 1) + (2 + 1), Files.size(file));
+
+        ScriptedInputEvent expected = new ScriptedInputEvent();
+        for (int i = 0; i < 7; i++)
+            expected.hold("A" + i, 1, 3);
+        expected.press("A7", 3);
+        assertReplays(expected, 3);
+    }
+
+    @Test
+    void longRuns_roundTrip() {
+        record(new ScriptedInputEvent().hold("A3", 1, 16385).hold("A4", 16385, 16386), 0, 20000);
+
+        assertReplays(new ScriptedInputEvent().hold("A3", 1, 16385).hold("A4", 16385, 16386), 20000);
+    }
+
+    @Test
+    void truncatedRecording_throwsIllegalStateException() throws IOException {
+        record(new ScriptedInputEvent().press("A0", 1), 0, 128);
+        byte[] bytes = Files.readAllBytes(file);
+
+        // The run length loses its last byte
+        Files.write(file, Arrays.copyOf(bytes, bytes.length - 1));
+        assertThrows(IllegalStateException.class, () -> new ReplayInputEvent(file));
+
+        // The header is cut inside the seed
+        Files.write(file, Arrays.copyOf(bytes, 8));
+        assertThrows(IllegalStateException.class, () -> new ReplayInputEvent(file));
+    }
+
+    @Test
+    void fileWithoutTheMagicNumber_throwsIllegalStateException() throws IOException {
+        Files.write(file, new byte[] { 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14 });
+
+        assertThrows(IllegalStateException.class, () -> new ReplayInputEvent(file));
+    }
+}
@@ -0,0 +1,170 @@
+package test;
+
+import core.*;
+import core.objectsInterface.IGameObject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestLayerStore {
+    private LayerStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new LayerStore();
+    }
+
+    private static List<String> names(List<IGameObject> objects) {
+        List<String> names = new ArrayList<>();
+        for (IGameObject go : objects)
+            names.add(go.name());
+        return names;
+    }
+
+    @Test
+    void add_keepsInsertionOrderPerLayer() {
+        store.add(Fixtures.unitSquare("A", 1));
+        store.add(Fixtures.unitSquare("B", 2));
+        store.add(Fixtures.unitSquare("C", 1));
+
+        assertEquals(3, store.size());
+        assertEquals(3, store.layerCount());
+        assertEquals(List.of("A", "C"), names(store.toList(1)));
+        assertEquals(List.of("B"), names(store.toList(2)));
+        assertEquals(List.of("A", "C", "B"), names(store.toList()));
+    }
+
+    @Test
+    void add_ignoresObjectsAlreadyStored() {
+        GameObject a = Fixtures.unitSquare("A", 1);
+        store.add(a);
+        store.add(a);
+
+        assertEquals(1, store.size());
+        assertEquals(1, store.size(1));
+    }
+
+    @Test
+    void add_growsPastTheInitialCapacity() {
+        for (int i = 0; i < 100; i++)
+            store.add(Fixtures.unitSquare("O" + i, 3));
+
+        assertEquals(100, store.size(3));
+        for (int i = 0; i < 100; i++)
+            assertEquals("O" + i, store.get(3, i).name());
+    }
+
+    @Test
+    void remove_swapsTheLastObjectIntoTheHole() {
+        GameObject a = Fixtures.unitSquare("A", 1);
+        GameObject b = Fixtures.unitSquare("B", 1);
+        GameObject c = Fixtures.unitSquare("C", 1);
+        store.add(a);
+        store.add(b);
+        store.add(c);
+
+        assertTrue(store.remove(a));
+
+        assertEquals(2, store.size(1));
+        assertSame(c, store.get(1, 0));
+        assertSame(b, store.get(1, 1));
+        assertFalse(store.contains(a));
+
+        // The moved object must still be found at its new slot
+        assertTrue(store.remove(c));
+        assertEquals(List.of("B"), names(store.toList(1)));
+    }
+
+    @Test
+    void remove_returnsFalseForUnknownObjects() {
+        GameObject a = Fixtures.unitSquare("A", 1);
+        store.add(a);
+
+        assertFalse(store.remove(Fixtures.unitSquare("X", 1)));
+        assertTrue(store.remove(a));
+        assertFalse(store.remove(a));
+        assertEquals(0, store.size());
+    }
+
+    @Test
+    void removeDuringIteration_leavesHolesUntilTheEnd() {
+        GameObject a = Fixtures.unitSquare("A", 1);
+        GameObject b = Fixtures.unitSquare("B", 1);
+        GameObject c = Fixtures.unitSquare("C", 1);
+        store.add(a);
+        store.add(b);
+        store.add(c);
+
+        store.beginIteration();
+        store.remove(a);
+
+        assertEquals(3, store.size(1), "Indices stay stable while iterating");
+        assertNull(store.get(1, 0));
+        assertSame(b, store.get(1, 1));
+        assertSame(c, store.get(1, 2));
+        assertEquals(2, store.size());
+        assertEquals(List.of("B", "C"), names(store.toList(1)));
+
+        store.endIteration();
+
+        assertEquals(2, store.size(1));
+        assertEquals(List.of("B", "C"), names(store.toList(1)), "Compaction keeps the order");
+    }
+
+    @Test
+    void nestedIterations_compactOnlyWhenTheOuterOneEnds() {
+        GameObject a = Fixtures.unitSquare("A", 1);
+        GameObject b = Fixtures.unitSquare("B", 1);
+        store.add(a);
+        store.add(b);
+
+        store.beginIteration();
+        store.beginIteration();
+        store.remove(a);
+        store.endIteration();
+
+        assertNull(store.get(1, 0), "The outer iteration is still running");
+
+        store.endIteration();
+
+        assertEquals(1, store.size(1));
+        assertSame(b, store.get(1, 0));
+    }
+
+    @Test
+    void compactedObjects_canStillBeRemoved() {
+        List<GameObject> objects = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            objects.add(Fixtures.unitSquare("O" + i, 1));
+            store.add(objects.get(i));
+        }
+
+        store.beginIteration();
+        for (int i = 0; i < 10; i += 2)
+            store.remove(objects.get(i));
+        store.endIteration();
+
+        assertEquals(List.of("O1", "O3", "O5", "O7", "O9"), names(store.toList(1)));
+        for (int i = 1; i < 10; i += 2)
+            assertTrue(store.remove(objects.get(i)), "O" + i);
+        assertEquals(0, store.size(1));
+    }
+
+    @Test
+    void addDuringIteration_appendsAfterTheHoles() {
+        GameObject a = Fixtures.unitSquare("A", 1);
+        store.add(a);
+
+        store.beginIteration();
+        store.remove(a);
+        store.add(Fixtures.unitSquare("B", 1));
+        store.endIteration();
+
+        assertEquals(List.of("B"), names(store.toList(1)));
+        assertEquals(1, store.size());
+    }
+}
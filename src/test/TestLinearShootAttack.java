@@ -11,6 +11,7 @@ import gui.InputEvent;
 
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
+import java.util.SplittableRandom;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -25,11 +26,15 @@ public class TestLinearShootAttack {
         Transform transform = new Transform(new Ponto(1.0, 2), 0, 0, 1);
         Retangulo rectangle = new Retangulo(points, transform);
 
+        // Outside an engine the behavior needs a generator of its own
+        Behavior behavior = new Behavior();
+        behavior.setRandom(new SplittableRandom(42));
+
         attacker = new GameObject(
                 "TEST_ATTACKER",
                 transform,
                 rectangle,
-                new Behavior(),
+                behavior,
                 new Shape());
 
         shootAttack = new LinearShootAttack();
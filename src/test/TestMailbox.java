@@ -0,0 +1,113 @@
+package test;
+
+import core.Mailbox;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestMailbox {
+    private Mailbox mailbox;
+    private List<String> executed;
+
+    @BeforeEach
+    void setUp() {
+        mailbox = new Mailbox();
+        executed = new ArrayList<>();
+    }
+
+    @Test
+    void drain_runsMessagesInPostingOrder() {
+        mailbox.post(() -> executed.add("A"));
+        mailbox.post(() -> executed.add("B"));
+        mailbox.post(() -> executed.add("C"));
+
+        assertTrue(executed.isEmpty(), "Nothing runs before the drain");
+        assertEquals(3, mailbox.pending());
+        assertEquals(3, mailbox.drain());
+        assertEquals(List.of("A", "B", "C"), executed);
+        assertEquals(0, mailbox.pending());
+        assertEquals(0, mailbox.drain());
+    }
+
+    @Test
+    void messagesPostedDuringADrain_waitForTheNextDrain() {
+        mailbox.post(() -> {
+            executed.add("A");
+            mailbox.post(() -> executed.add("B"));
+        });
+
+        assertEquals(1, mailbox.drain());
+        assertEquals(List.of("A"), executed);
+        assertEquals(1, mailbox.pending());
+
+        assertEquals(1, mailbox.drain());
+        assertEquals(List.of("A", "B"), executed);
+    }
+
+    @Test
+    void failingMessage_doesNotStopTheDrain() {
+        mailbox.post(() -> executed.add("A"));
+        mailbox.post(() -> {
+            throw new IllegalStateException("boom");
+        });
+        mailbox.post(() -> executed.add("C"));
+
+        assertEquals(3, mailbox.drain());
+        assertEquals(List.of("A", "C"), executed);
+        assertEquals(0, mailbox.pending());
+    }
+
+    @Test
+    void nullMessage_throws() {
+        assertThrows(IllegalArgumentException.class, () -> mailbox.post(null));
+    }
+
+    @Test
+    void manyProducers_loseAndDuplicateNothing() throws InterruptedException {
+        int producers = 4;
+        int messages = 20000;
+        int[] runs = new int[producers * messages]; // Written by the draining thread only
+        int[] last = new int[producers]; // Last message of each producer run so far
+        Arrays.fill(last, -1);
+        boolean[] ordered = { true };
+
+        Thread[] threads = new Thread[producers];
+        for (int p = 0; p < producers; p++) {
+            int producer = p;
+            threads[p] = new Thread(() -> {
+                for (int i = 0; i < messages; i++) {
+                    int message = i;
+                    mailbox.post(() -> {
+                        runs[producer * messages + message]++;
+                        if (message != last[producer] + 1)
+                            ordered[0] = false;
+                        last[producer] = message;
+                    });
+                }
+            });
+            threads[p].start();
+        }
+
+        // Drain concurrently with the producers, as the game thread does
+        boolean alive = true;
+        while (alive) {
+            mailbox.drain();
+            alive = false;
+            for (Thread thread : threads)
+                alive |= thread.isAlive();
+        }
+        for (Thread thread : threads)
+            thread.join();
+        while (mailbox.pending() > 0)
+            mailbox.drain();
+
+        for (int i = 0; i < runs.length; i++)
+            assertEquals(1, runs[i], "message " + i);
+        assertTrue(ordered[0], "Each producer's messages run in its posting order");
+    }
+}
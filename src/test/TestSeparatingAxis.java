@@ -0,0 +1,114 @@
+package test;
+
+import core.Transform;
+import core.objectsInterface.ICollider;
+import geometry.Circulo;
+import geometry.Poligono;
+import geometry.Ponto;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestSeparatingAxis {
+
+    /**
+     * Creates a square centered at (x, y), rotated by the given angle in
+     * degrees, with its world-space vertices already placed.
+     */
+    private static Poligono square(double x, double y, double side, double angle) {
+        double h = side / 2;
+        Ponto[] points = { new Ponto(-h, -h), new Ponto(h, -h), new Ponto(h, h), new Ponto(-h, h) };
+        Poligono square = new Poligono(points, new Transform(new Ponto(x, y), 0, angle, 1));
+        square.updatePosicao();
+        return square;
+    }
+
+    private static Circulo circle(double x, double y, double r) {
+        Circulo circle = new Circulo(r, new Transform(new Ponto(x, y), 0, 0, 1));
+        circle.updatePosicao();
+        return circle;
+    }
+
+    private static void assertCollide(ICollider a, ICollider b, boolean expected) {
+        assertEquals(expected, a.colision(b), "a vs b");
+        assertEquals(expected, b.colision(a), "b vs a");
+    }
+
+    @Test
+    void squares_areConvex() {
+        assertTrue(square(0, 0, 2, 0).isConvex());
+        assertTrue(square(0, 0, 2, 30).isConvex());
+    }
+
+    @Test
+    void polygons_overlapping() {
+        assertCollide(square(0, 0, 2, 0), square(1.5, 0.5, 2, 0), true);
+    }
+
+    @Test
+    void polygons_separated() {
+        assertCollide(square(0, 0, 2, 0), square(3, 0, 2, 0), false);
+        assertCollide(square(0, 0, 2, 0), square(-10, 7, 2, 0), false);
+    }
+
+    @Test
+    void polygons_touchingEdges_collide() {
+        assertCollide(square(0, 0, 2, 0), square(2, 0, 2, 0), true);
+    }
+
+    @Test
+    void polygon_containedInAnother_collides() {
+        assertCollide(square(0, 0, 10, 0), square(1, 1, 2, 0), true);
+    }
+
+    @Test
+    void rotatedPolygons_separatedAlongTheDiagonal() {
+        // The bounding boxes overlap, but the edge of the diamond facing the
+        // square's corner lies beyond it
+        assertCollide(square(0, 0, 2, 0), square(2.3, 2.3, 2, 45), false);
+    }
+
+    @Test
+    void rotatedPolygons_overlapping() {
+        // The left vertex of the diamond (1.9 - sqrt(2), 0) lies inside the square
+        assertCollide(square(0, 0, 2, 0), square(1.9, 0, 2, 45), true);
+        assertCollide(square(0, 0, 2, 30), square(0.5, 0.5, 2, 60), true);
+    }
+
+    @Test
+    void polygonAndCircle_overlappingAnEdge() {
+        assertCollide(square(0, 0, 2, 0), circle(1.5, 0, 1), true);
+    }
+
+    @Test
+    void polygonAndCircle_separated() {
+        assertCollide(square(0, 0, 2, 0), circle(5, 0, 1), false);
+    }
+
+    @Test
+    void polygonAndCircle_touchingAnEdge_collide() {
+        assertCollide(square(0, 0, 2, 0), circle(2, 0, 1), true);
+    }
+
+    @Test
+    void polygonAndCircle_nearACorner() {
+        // Only the axis towards the closest vertex separates them: the corner
+        // (1, 1) is 0.85 away from the center
+        assertCollide(square(0, 0, 2, 0), circle(1.6, 1.6, 0.8), false);
+        // 0.71 away: the corner is inside the circle
+        assertCollide(square(0, 0, 2, 0), circle(1.5, 1.5, 0.8), true);
+    }
+
+    @Test
+    void polygonAndCircle_containedInEachOther_collide() {
+        assertCollide(square(0, 0, 2, 0), circle(0, 0, 10), true);
+        assertCollide(square(0, 0, 20, 0), circle(1, 1, 1), true);
+    }
+
+    @Test
+    void rotatedPolygonAndCircle() {
+        // The diamond's right vertex is at sqrt(2) on the x axis
+        assertCollide(square(0, 0, 2, 45), circle(2.3, 0, 0.8), false);
+        assertCollide(square(0, 0, 2, 45), circle(2.1, 0, 0.8), true);
+    }
+}
@@ -0,0 +1,160 @@
+package test;
+
+import core.*;
+import core.objectsInterface.IGameObject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestSpatialHashGrid {
+    private SpatialHashGrid grid;
+    private Map<String, Integer> pairs;
+
+    @BeforeEach
+    void setUp() {
+        grid = new SpatialHashGrid(10);
+        pairs = new HashMap<>();
+    }
+
+    private static String key(IGameObject a, IGameObject b) {
+        return a.name().compareTo(b.name()) < 0 ? a.name() + "|" + b.name() : b.name() + "|" + a.name();
+    }
+
+    private void collectPairs() {
+        grid.forEachPair((a, b) -> pairs.merge(key(a, b), 1, Integer::sum));
+    }
+
+    @Test
+    void pairInsideOneCell_isReportedOnce() {
+        GameObject a = Fixtures.unitSquare("A", 0);
+        GameObject b = Fixtures.unitSquare("B", 0);
+        grid.insert(a, 1, 1, 3, 3);
+        grid.insert(b, 2, 2, 4, 4);
+
+        collectPairs();
+
+        assertEquals(Map.of("A|B", 1), pairs);
+    }
+
+    @Test
+    void pairSharingSeveralCellsAcrossBorders_isReportedOnce() {
+        GameObject a = Fixtures.unitSquare("A", 0);
+        GameObject b = Fixtures.unitSquare("B", 0);
+        // Both cover the four cells around (10, 10)
+        grid.insert(a, 5, 5, 15, 15);
+        grid.insert(b, 8, 8, 12, 12);
+
+        collectPairs();
+
+        assertEquals(Map.of("A|B", 1), pairs);
+    }
+
+    @Test
+    void objectsInNeighbourCells_areNotPaired() {
+        grid.insert(Fixtures.unitSquare("A", 0), 1, 1, 9, 9);
+        grid.insert(Fixtures.unitSquare("B", 0), 11, 1, 19, 9);
+
+        collectPairs();
+
+        assertTrue(pairs.isEmpty(), "Objects in different cells should not be paired");
+    }
+
+    @Test
+    void largeObjectSpanningManyCells_isPairedOnceWithEachSmallObject() {
+        grid.insert(Fixtures.unitSquare("BIG", 0), -100, -100, 100, 100);
+        for (int i = 0; i < 10; i++)
+            grid.insert(Fixtures.unitSquare("S" + i, 0), -95 + i * 20, 50, -94 + i * 20, 51);
+
+        collectPairs();
+
+        assertEquals(10, pairs.size());
+        for (int i = 0; i < 10; i++)
+            assertEquals(1, pairs.get("BIG|S" + i).intValue(), "BIG|S" + i);
+    }
+
+    @Test
+    void negativeCoordinates_areBucketedLikePositiveOnes() {
+        // -0.5 and 0.5 are in different cells; -9 and -1 share the cell [-10, 0)
+        grid.insert(Fixtures.unitSquare("A", 0), -9, -9, -1, -1);
+        grid.insert(Fixtures.unitSquare("B", 0), -2, -2, -1.5, -1.5);
+        grid.insert(Fixtures.unitSquare("C", 0), 0.5, 0.5, 1, 1);
+
+        collectPairs();
+
+        assertEquals(Map.of("A|B", 1), pairs);
+    }
+
+    @Test
+    void forEachPair_matchesBruteForceOnRandomBoxes() {
+        Random random = new Random(42);
+        List<GameObject> objects = new ArrayList<>();
+        List<double[]> boxes = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            double x = random.nextDouble() * 400 - 200;
+            double y = random.nextDouble() * 400 - 200;
+            double w = random.nextInt(10) == 0 ? random.nextDouble() * 80 : random.nextDouble() * 8;
+            double h = random.nextInt(10) == 0 ? random.nextDouble() * 80 : random.nextDouble() * 8;
+            GameObject go = Fixtures.unitSquare(String.format("O%03d", i), 0);
+            objects.add(go);
+            boxes.add(new double[] { x, y, x + w, y + h });
+            grid.insert(go, x, y, x + w, y + h);
+        }
+
+        collectPairs();
+
+        Set<String> expected = new HashSet<>();
+        for (int i = 0; i < objects.size(); i++) {
+            for (int j = i + 1; j < objects.size(); j++) {
+                double[] a = boxes.get(i), b = boxes.get(j);
+                boolean shareCell = Math.floor(a[0] / 10) <= Math.floor(b[2] / 10) &&
+                        Math.floor(b[0] / 10) <= Math.floor(a[2] / 10) &&
+                        Math.floor(a[1] / 10) <= Math.floor(b[3] / 10) &&
+                        Math.floor(b[1] / 10) <= Math.floor(a[3] / 10);
+                if (shareCell)
+                    expected.add(key(objects.get(i), objects.get(j)));
+            }
+        }
+        assertEquals(expected, pairs.keySet());
+        for (Map.Entry<String, Integer> pair : pairs.entrySet())
+            assertEquals(1, pair.getValue().intValue(), pair.getKey());
+    }
+
+    @Test
+    void query_reportsEachObjectOnce() {
+        grid.insert(Fixtures.unitSquare("BIG", 0), -50, -50, 50, 50);
+        grid.insert(Fixtures.unitSquare("IN", 0), -5, -5, -4, -4);
+        grid.insert(Fixtures.unitSquare("OUT", 0), 200, 200, 201, 201);
+
+        Map<String, Integer> found = new HashMap<>();
+        grid.query(-30, -30, 30, 30, go -> found.merge(go.name(), 1, Integer::sum));
+
+        assertEquals(Map.of("BIG", 1, "IN", 1), found);
+    }
+
+    @Test
+    void clear_removesEveryObject() {
+        grid.insert(Fixtures.unitSquare("A", 0), 1, 1, 3, 3);
+        grid.insert(Fixtures.unitSquare("B", 0), 2, 2, 4, 4);
+        grid.clear();
+
+        collectPairs();
+
+        assertEquals(0, grid.size());
+        assertTrue(pairs.isEmpty());
+    }
+
+    @Test
+    void invalidCellSize_throws() {
+        assertThrows(IllegalArgumentException.class, () -> new SpatialHashGrid(0));
+        assertThrows(IllegalArgumentException.class, () -> new SpatialHashGrid(-1));
+    }
+}
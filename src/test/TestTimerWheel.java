@@ -0,0 +1,178 @@
+package test;
+
+import core.TimerWheel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestTimerWheel {
+    private TimerWheel timers;
+    private List<Long> runs;
+
+    @BeforeEach
+    void setUp() {
+        timers = new TimerWheel();
+        runs = new ArrayList<>();
+    }
+
+    private void advance(long ticks) {
+        for (long i = 0; i < ticks; i++)
+            timers.advance();
+    }
+
+    private Runnable record() {
+        return () -> runs.add(timers.now());
+    }
+
+    @Test
+    void schedule_runsOnTheTickTheDelayExpires() {
+        timers.schedule(5, record());
+
+        advance(4);
+        assertTrue(runs.isEmpty(), "Never earlier than the delay");
+
+        advance(1);
+        assertEquals(List.of(5L), runs);
+        assertEquals(0, timers.size());
+    }
+
+    @Test
+    void delaysAtTheLevelBoundaries_runOnTime() {
+        long[] delays = { 1, 63, 64, 65, 4095, 4096, 4097, 1L << 18, (1L << 18) + 1 };
+        for (long delay : delays)
+            timers.schedule(delay, record());
+
+        advance((1L << 18) + 1);
+
+        assertEquals(delays.length, runs.size());
+        for (int i = 0; i < delays.length; i++)
+            assertEquals(delays[i], runs.get(i).longValue(), "delay " + delays[i]);
+    }
+
+    @Test
+    void timersScheduledLater_cascadeAcrossLevels() {
+        // Scheduled off the level boundaries, so they move down at unaligned ticks
+        advance(37);
+        long[] delays = { 64, 100, 4096, 5000, 1L << 18 };
+        for (long delay : delays)
+            timers.schedule(delay, record());
+
+        advance(1L << 18);
+
+        assertEquals(delays.length, runs.size());
+        for (int i = 0; i < delays.length; i++)
+            assertEquals(37 + delays[i], runs.get(i).longValue(), "delay " + delays[i]);
+    }
+
+    @Test
+    void timersDueOnTheSameTick_runInSchedulingOrder() {
+        List<String> order = new ArrayList<>();
+        timers.schedule(100, () -> order.add("A"));
+        timers.schedule(100, () -> order.add("B"));
+        timers.schedule(100, () -> order.add("C"));
+
+        advance(100);
+
+        assertEquals(List.of("A", "B", "C"), order);
+    }
+
+    @Test
+    void cancel_beforeItRuns_preventsTheRun() {
+        TimerWheel.Timer timer = timers.schedule(4096, record());
+        advance(100);
+        timer.cancel();
+
+        advance(5000);
+
+        assertTrue(runs.isEmpty());
+        assertFalse(timer.isPending());
+        assertEquals(0, timers.size());
+    }
+
+    @Test
+    void cancel_fromInsideItsOwnTask_stopsAFixedRateTimer() {
+        TimerWheel.Timer[] timer = new TimerWheel.Timer[1];
+        timer[0] = timers.scheduleAtFixedRate(1, 1, () -> {
+            runs.add(timers.now());
+            if (runs.size() == 3)
+                timer[0].cancel();
+        });
+
+        advance(10);
+
+        assertEquals(List.of(1L, 2L, 3L), runs);
+        assertFalse(timer[0].isPending());
+        assertEquals(0, timers.size());
+    }
+
+    @Test
+    void cancel_ofAnotherTimerDueOnTheSameTick_preventsItsRun() {
+        TimerWheel.Timer[] other = new TimerWheel.Timer[1];
+        timers.schedule(10, () -> other[0].cancel());
+        other[0] = timers.schedule(10, record());
+
+        advance(20);
+
+        assertTrue(runs.isEmpty());
+    }
+
+    @Test
+    void scheduleAtFixedRate_doesNotDrift() {
+        // Work scheduled by the task does not shift the later runs: they stay on 10 + k * 7
+        timers.scheduleAtFixedRate(10, 7, () -> {
+            runs.add(timers.now());
+            timers.schedule(3, () -> { });
+        });
+
+        advance(10 + 7 * 99);
+
+        assertEquals(100, runs.size());
+        for (int i = 0; i < runs.size(); i++)
+            assertEquals(10 + 7L * i, runs.get(i).longValue());
+    }
+
+    @Test
+    void scheduleAtFixedRate_withLongPeriods_staysOnSchedule() {
+        timers.scheduleAtFixedRate(5000, 4096, record());
+
+        advance(5000 + 4096 * 3);
+
+        assertEquals(List.of(5000L, 9096L, 13192L, 17288L), runs);
+    }
+
+    @Test
+    void failingTask_doesNotStopTheOtherTimers() {
+        timers.schedule(1, () -> {
+            throw new IllegalStateException("boom");
+        });
+        timers.schedule(1, record());
+
+        advance(1);
+
+        assertEquals(List.of(1L), runs);
+    }
+
+    @Test
+    void ticks_convertsMillisecondsAtTheTickRate() {
+        assertEquals(120, timers.ticks(2000));
+        assertEquals(14, timers.ticks(230), "Rounded up");
+        assertEquals(1, timers.ticks(0), "At least one tick");
+
+        timers.setTickRate(120);
+        assertEquals(240, timers.ticks(2000));
+        assertEquals(120, timers.getTickRate());
+    }
+
+    @Test
+    void invalidArguments_throw() {
+        assertThrows(IllegalArgumentException.class, () -> timers.schedule(0, record()));
+        assertThrows(IllegalArgumentException.class, () -> timers.schedule(1, null));
+        assertThrows(IllegalArgumentException.class, () -> timers.scheduleAtFixedRate(1, 0, record()));
+        assertThrows(IllegalArgumentException.class, () -> timers.ticks(-1));
+        assertThrows(IllegalArgumentException.class, () -> timers.setTickRate(0));
+    }
+}